@@ -2414,6 +2414,12 @@ public final class ManagedConcourseServer {
                     query);
         }
 
+        @Override
+        public Set<Long> search(String key, String query, int limit) {
+            return invoke("search", String.class, String.class, int.class)
+                    .with(key, query, limit);
+        }
+
         @Override
         public <T> Map<Long, Map<String, Set<T>>> select(
                 Collection<Long> records) {
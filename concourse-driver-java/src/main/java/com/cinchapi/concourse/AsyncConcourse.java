@@ -0,0 +1,782 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.TFieldIdEnum;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import com.cinchapi.common.base.CheckedExceptions;
+import com.cinchapi.concourse.config.ConcourseClientConfiguration;
+import com.cinchapi.concourse.data.transform.DataColumn;
+import com.cinchapi.concourse.data.transform.DataRow;
+import com.cinchapi.concourse.data.transform.DataTable;
+import com.cinchapi.concourse.security.ClientSecurity;
+import com.cinchapi.concourse.thrift.AccessToken;
+import com.cinchapi.concourse.thrift.ConcourseService;
+import com.cinchapi.concourse.thrift.SecurityException;
+import com.cinchapi.concourse.thrift.TObject;
+import com.cinchapi.concourse.util.Collections;
+import com.cinchapi.concourse.util.Conversions;
+import com.cinchapi.concourse.util.Convert;
+import com.cinchapi.concourse.util.Transformers;
+
+/**
+ * An {@link AsyncConcourse} connection provides asynchronous,
+ * {@link CompletableFuture} returning variants of the core {@link Concourse}
+ * operations.
+ * <p>
+ * Unlike a {@link Concourse} connection, which waits for the response to each
+ * request before sending the next one, an {@link AsyncConcourse} connection
+ * pipelines requests: any number of requests can be outstanding on the same
+ * connection at once and each response is correlated to its request by
+ * sequence id. So, a single connection can be shared by many threads (or used
+ * to fan out many reads at once) without paying the round trip latency for
+ * each request in turn. This makes it possible to replace a large
+ * {@link ConnectionPool} with a handful of connections.
+ * </p>
+ * <p>
+ * The responses are received on a dedicated thread that completes each
+ * future. Dependent stages that are not explicitly async run on that thread,
+ * so they must not block.
+ * </p>
+ * <p>
+ * <strong>NOTE:</strong> Each operation is immediately committed, because an
+ * {@link AsyncConcourse} connection cannot {@link Concourse#stage() stage} a
+ * transaction.
+ * </p>
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * try (AsyncConcourse concourse = AsyncConcourse.connect()) {
+ *     CompletableFuture&lt;Set&lt;Object&gt;&gt; a = concourse.select("a", 1);
+ *     CompletableFuture&lt;Set&lt;Object&gt;&gt; b = concourse.select("b", 1);
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Jeff Nelson
+ */
+@ThreadSafe
+public final class AsyncConcourse implements AutoCloseable {
+
+    /**
+     * Create a new {@link AsyncConcourse} connection to the environment of the
+     * Concourse Server described in the client configuration (e.g.,
+     * {@code concourse_client.yaml}) or the default environment and server if
+     * the configuration file does not exist.
+     *
+     * @return the connection
+     */
+    public static AsyncConcourse connect() {
+        ConcourseClientConfiguration config = ConcourseClientConfiguration
+                .fromCurrentWorkingDirectory();
+        return connect(config.getHost(), config.getPort(),
+                config.getUsername(), new String(config.getPassword()),
+                config.getEnvironment());
+    }
+
+    /**
+     * Create a new {@link AsyncConcourse} connection to the default
+     * environment of the specified Concourse Server.
+     *
+     * @param host
+     * @param port
+     * @param username
+     * @param password
+     * @return the connection
+     */
+    public static AsyncConcourse connect(String host, int port,
+            String username, String password) {
+        return connect(host, port, username, password, "");
+    }
+
+    /**
+     * Create a new {@link AsyncConcourse} connection to the specified
+     * {@code environment} of the specified Concourse Server.
+     *
+     * @param host
+     * @param port
+     * @param username
+     * @param password
+     * @param environment
+     * @return the connection
+     */
+    public static AsyncConcourse connect(String host, int port,
+            String username, String password, String environment) {
+        return new AsyncConcourse(host, port, username, password, environment);
+    }
+
+    /**
+     * Translate an {@code error} that occurred while executing a request into
+     * the analogous exception that is thrown by a {@link Concourse}
+     * connection.
+     *
+     * @param error
+     * @return the translated exception
+     */
+    private static RuntimeException translate(Throwable error) {
+        if(error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        try {
+            throw error;
+        }
+        catch (com.cinchapi.concourse.thrift.TransactionException e) {
+            return new TransactionException();
+        }
+        catch (com.cinchapi.concourse.thrift.DuplicateEntryException e) {
+            return new DuplicateEntryException(e);
+        }
+        catch (com.cinchapi.concourse.thrift.InvalidArgumentException e) {
+            return new InvalidArgumentException(e);
+        }
+        catch (com.cinchapi.concourse.thrift.InvalidOperationException e) {
+            return new UnsupportedOperationException(e);
+        }
+        catch (com.cinchapi.concourse.thrift.ParseException e) {
+            return new ParseException(e);
+        }
+        catch (com.cinchapi.concourse.thrift.PermissionException e) {
+            return new PermissionException(e);
+        }
+        catch (Throwable e) {
+            return CheckedExceptions.wrapAsRuntimeException(e);
+        }
+    }
+
+    /**
+     * Return the value of the {@code result} of a request or throw the
+     * exception that it contains.
+     *
+     * @param result
+     * @return the value, which is {@code null} if the request has no return
+     *         value
+     * @throws TException
+     */
+    @Nullable
+    private static <F extends TFieldIdEnum> Object unwrap(TBase<?, F> result)
+            throws TException {
+        // The declared exceptions are stored in fields 1..n and the return
+        // value, if any, is stored in field 0
+        for (int id = 1;; ++id) {
+            F field = result.fieldForId(id);
+            if(field == null) {
+                break;
+            }
+            else if(result.isSet(field)) {
+                throw (TException) result.getFieldValue(field);
+            }
+        }
+        F success = result.fieldForId(0);
+        if(success == null) {
+            return null;
+        }
+        else if(result.isSet(success)) {
+            return result.getFieldValue(success);
+        }
+        else {
+            throw new TApplicationException(
+                    TApplicationException.MISSING_RESULT,
+                    "The server did not return a result");
+        }
+    }
+
+    /**
+     * The maximum number of milliseconds that {@link #close()} waits for the
+     * server to acknowledge the logout.
+     */
+    private static final long LOGOUT_TIMEOUT_IN_MILLIS = 5000;
+
+    /**
+     * The name of the multiplexed service to which requests are sent.
+     */
+    private static final String SERVICE = "core";
+
+    /**
+     * The most recent authentication, which is shared by all the requests
+     * that need to re-authenticate at the same time.
+     */
+    @GuardedBy("this")
+    @Nullable
+    private CompletableFuture<AccessToken> authentication = null;
+
+    /**
+     * The client keeps a copy of its {@link AccessToken} and passes it to the
+     * server for each request. The client will re-authenticate when necessary.
+     */
+    private volatile AccessToken creds = null;
+
+    /**
+     * The environment to which the client is connected.
+     */
+    private final String environment;
+
+    /**
+     * The reason that the connection can no longer be used, if any.
+     */
+    @Nullable
+    private volatile Throwable failure = null;
+
+    /**
+     * The protocol that is used to read responses. This is only used by the
+     * {@link #receiver}.
+     */
+    private final TProtocol input;
+
+    /**
+     * The protocol that is used to write requests. Writers must synchronize on
+     * it so that requests aren't interleaved.
+     */
+    private final TProtocol output;
+
+    /**
+     * An encrypted copy of the password passed to the constructor.
+     */
+    private final ByteBuffer password;
+
+    /**
+     * The requests that have been sent, but not answered, mapped from sequence
+     * id.
+     */
+    private final Map<Integer, Request> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The thread that receives responses and completes the associated
+     * {@link #pending} requests.
+     */
+    private final Thread receiver;
+
+    /**
+     * The source of sequence ids for requests.
+     */
+    private final AtomicInteger sequence = new AtomicInteger(0);
+
+    /**
+     * The connection to the server.
+     */
+    private final TTransport transport;
+
+    /**
+     * An encrypted copy of the username passed to the constructor.
+     */
+    private final ByteBuffer username;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param host
+     * @param port
+     * @param username
+     * @param password
+     * @param environment
+     */
+    private AsyncConcourse(String host, int port, String username,
+            String password, String environment) {
+        this.username = ClientSecurity.encrypt(username);
+        this.password = ClientSecurity.encrypt(password);
+        this.environment = environment;
+        try {
+            this.transport = new TSocket(host, port);
+            transport.getConfiguration().setMaxMessageSize(
+                    ConcourseThriftDriver.MAX_MESSAGE_SIZE);
+            transport.open();
+        }
+        catch (TTransportException e) {
+            throw new RuntimeException(
+                    "Could not connect to the Concourse Server at " + host + ":"
+                            + port);
+        }
+        // Requests and responses flow in opposite directions at the same
+        // time, so each needs its own protocol instance
+        this.input = new TBinaryProtocol(transport);
+        this.output = new TBinaryProtocol(transport);
+        this.receiver = new Thread(this::receive,
+                "concourse-async-receiver-" + host + ":" + port);
+        receiver.setDaemon(true);
+        receiver.start();
+        try {
+            authenticate().get();
+        }
+        catch (InterruptedException e) {
+            close();
+            throw CheckedExceptions.wrapAsRuntimeException(e);
+        }
+        catch (ExecutionException e) {
+            close();
+            throw translate(e.getCause());
+        }
+    }
+
+    /**
+     * Append {@code key} as {@code value} in {@code record} if and only if it
+     * doesn't already exist.
+     *
+     * @param key
+     * @param value
+     * @param record
+     * @return a future that indicates whether the value was added
+     * @see Concourse#add(String, Object, long)
+     */
+    public <T> CompletableFuture<Boolean> add(String key, T value,
+            long record) {
+        TObject tvalue = Convert.javaToThrift(value);
+        return execute("addKeyValueRecord",
+                token -> new ConcourseService.addKeyValueRecord_args(key,
+                        tvalue, record, token, null, environment),
+                ConcourseService.addKeyValueRecord_result::new);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The connection waits up to {@link #LOGOUT_TIMEOUT_IN_MILLIS} for the
+     * server to acknowledge the logout. If this is called from a dependent
+     * stage that runs on the thread that receives responses, the logout is
+     * sent without waiting, since that thread can't receive the
+     * acknowledgement while it is running this method.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if(failure == null && creds != null) {
+            CompletableFuture<Object> logout = execute("logout",
+                    token -> new ConcourseService.logout_args(token,
+                            environment),
+                    ConcourseService.logout_result::new);
+            if(Thread.currentThread() != receiver) {
+                try {
+                    logout.get(LOGOUT_TIMEOUT_IN_MILLIS,
+                            TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                catch (ExecutionException | TimeoutException e) {
+                    // Ignore because the connection is being closed, anyway
+                }
+            }
+        }
+        fail(new IllegalStateException("The connection is closed"));
+        transport.close();
+    }
+
+    /**
+     * Find the records that match the {@code ccl} statement.
+     *
+     * @param ccl
+     * @return a future for the records that match
+     * @see Concourse#find(String)
+     */
+    public CompletableFuture<Set<Long>> find(String ccl) {
+        return execute("findCcl",
+                token -> new ConcourseService.findCcl_args(ccl, token, null,
+                        environment),
+                ConcourseService.findCcl_result::new);
+    }
+
+    /**
+     * Get the most recently added value for {@code key} in {@code record}.
+     *
+     * @param key
+     * @param record
+     * @return a future for the value, which is {@code null} if there is none
+     * @see Concourse#get(String, long)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> get(String key, long record) {
+        return this.<TObject> execute("getKeyRecord",
+                token -> new ConcourseService.getKeyRecord_args(key, record,
+                        token, null, environment),
+                ConcourseService.getKeyRecord_result::new)
+                .thenApply(raw -> raw == TObject.NULL ? null
+                        : (T) Convert.thriftToJava(raw));
+    }
+
+    /**
+     * Return {@code true} if this connection can no longer be used because it
+     * has been {@link #close() closed} or it has failed.
+     *
+     * @return a boolean that indicates whether the connection is closed
+     */
+    public boolean isClosed() {
+        return failure != null;
+    }
+
+    /**
+     * Atomically remove {@code key} as {@code value} from {@code record} if it
+     * currently exists.
+     *
+     * @param key
+     * @param value
+     * @param record
+     * @return a future that indicates whether the value was removed
+     * @see Concourse#remove(String, Object, long)
+     */
+    public <T> CompletableFuture<Boolean> remove(String key, T value,
+            long record) {
+        TObject tvalue = Convert.javaToThrift(value);
+        return execute("removeKeyValueRecord",
+                token -> new ConcourseService.removeKeyValueRecord_args(key,
+                        tvalue, record, token, null, environment),
+                ConcourseService.removeKeyValueRecord_result::new);
+    }
+
+    /**
+     * Select each of the {@code keys} from {@code record}.
+     *
+     * @param keys
+     * @param record
+     * @return a future for a mapping from each of the {@code keys} to its
+     *         values
+     * @see Concourse#select(Collection, long)
+     */
+    public <T> CompletableFuture<Map<String, Set<T>>> select(
+            Collection<String> keys, long record) {
+        return this.<Map<String, Set<TObject>>> execute("selectKeysRecord",
+                token -> new ConcourseService.selectKeysRecord_args(
+                        Collections.toList(keys), record, token, null,
+                        environment),
+                ConcourseService.selectKeysRecord_result::new)
+                .thenApply(DataRow::multiValued);
+    }
+
+    /**
+     * Select each of the {@code keys} from each of the {@code records}.
+     *
+     * @param keys
+     * @param records
+     * @return a future for a mapping from each of the {@code records} to a
+     *         mapping from each of the {@code keys} to its values
+     * @see Concourse#select(Collection, Collection)
+     */
+    public <T> CompletableFuture<Map<Long, Map<String, Set<T>>>> select(
+            Collection<String> keys, Collection<Long> records) {
+        return this
+                .<Map<Long, Map<String, Set<TObject>>>> execute(
+                        "selectKeysRecords",
+                        token -> new ConcourseService.selectKeysRecords_args(
+                                Collections.toList(keys),
+                                Collections.toLongList(records), token, null,
+                                environment),
+                        ConcourseService.selectKeysRecords_result::new)
+                .thenApply(DataTable::multiValued);
+    }
+
+    /**
+     * Select all the data in {@code record}.
+     *
+     * @param record
+     * @return a future for a mapping from each key in {@code record} to its
+     *         values
+     * @see Concourse#select(long)
+     */
+    public <T> CompletableFuture<Map<String, Set<T>>> select(long record) {
+        return this.<Map<String, Set<TObject>>> execute("selectRecord",
+                token -> new ConcourseService.selectRecord_args(record, token,
+                        null, environment),
+                ConcourseService.selectRecord_result::new)
+                .thenApply(DataRow::multiValued);
+    }
+
+    /**
+     * Select {@code key} from each of the {@code records}.
+     *
+     * @param key
+     * @param records
+     * @return a future for a mapping from each of the {@code records} to the
+     *         values for {@code key}
+     * @see Concourse#select(String, Collection)
+     */
+    public <T> CompletableFuture<Map<Long, Set<T>>> select(String key,
+            Collection<Long> records) {
+        return this.<Map<Long, Set<TObject>>> execute("selectKeyRecords",
+                token -> new ConcourseService.selectKeyRecords_args(key,
+                        Collections.toLongList(records), token, null,
+                        environment),
+                ConcourseService.selectKeyRecords_result::new)
+                .thenApply(data -> DataColumn.multiValued(key, data));
+    }
+
+    /**
+     * Select {@code key} from {@code record}.
+     *
+     * @param key
+     * @param record
+     * @return a future for the values for {@code key} in {@code record}
+     * @see Concourse#select(String, long)
+     */
+    public <T> CompletableFuture<Set<T>> select(String key, long record) {
+        return this.<Set<TObject>> execute("selectKeyRecord",
+                token -> new ConcourseService.selectKeyRecord_args(key, record,
+                        token, null, environment),
+                ConcourseService.selectKeyRecord_result::new)
+                .thenApply(values -> Transformers.transformSetLazily(values,
+                        Conversions.<T> thriftToJavaCasted()));
+    }
+
+    /**
+     * Atomically remove all the values for {@code key} in {@code record} and
+     * add {@code value}.
+     *
+     * @param key
+     * @param value
+     * @param record
+     * @return a future that is completed when the value is set
+     * @see Concourse#set(String, Object, long)
+     */
+    public <T> CompletableFuture<Void> set(String key, T value, long record) {
+        TObject tvalue = Convert.javaToThrift(value);
+        return execute("setKeyValueRecord",
+                token -> new ConcourseService.setKeyValueRecord_args(key,
+                        tvalue, record, token, null, environment),
+                ConcourseService.setKeyValueRecord_result::new);
+    }
+
+    /**
+     * Authenticate the {@link #username} and {@link #password} and populate
+     * {@link #creds} with the appropriate {@link AccessToken}.
+     *
+     * @return a future that is completed when authentication is done
+     */
+    private CompletableFuture<AccessToken> authenticate() {
+        return this.<AccessToken> send("login",
+                new ConcourseService.login_args(
+                        ClientSecurity.decrypt(username),
+                        ClientSecurity.decrypt(password), environment),
+                new ConcourseService.login_result()).thenApply(token -> {
+                    creds = token;
+                    return token;
+                });
+    }
+
+    /**
+     * Send a request to the server and re-authenticate and retry it, once, if
+     * the {@link #creds} have expired.
+     *
+     * @param method the name of the remote method
+     * @param args a function that returns the arguments for the remote method
+     *            given the {@link AccessToken} to use
+     * @param result a {@link Supplier} of an empty result for the remote
+     *            method
+     * @return a future for the result
+     */
+    private <T> CompletableFuture<T> execute(String method,
+            Function<AccessToken, TBase<?, ?>> args,
+            Supplier<TBase<?, ?>> result) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AccessToken stale = creds;
+        this.<T> send(method, args.apply(stale), result.get())
+                .whenComplete((value, error) -> {
+                    if(error == null) {
+                        future.complete(value);
+                    }
+                    else if(error instanceof SecurityException) {
+                        reauthenticate(stale)
+                                .thenCompose(token -> this.<T> send(method,
+                                        args.apply(token), result.get()))
+                                .whenComplete(($value, $error) -> {
+                                    if($error == null) {
+                                        future.complete($value);
+                                    }
+                                    else {
+                                        future.completeExceptionally(
+                                                translate($error));
+                                    }
+                                });
+                    }
+                    else {
+                        future.completeExceptionally(translate(error));
+                    }
+                });
+        return future;
+    }
+
+    /**
+     * Mark the connection as failed because of {@code error} and fail all the
+     * {@link #pending} requests.
+     *
+     * @param error
+     */
+    private void fail(Throwable error) {
+        if(failure == null) {
+            failure = error;
+        }
+        for (Integer seqid : pending.keySet()) {
+            Request request = pending.remove(seqid);
+            if(request != null) {
+                request.future.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * Re-authenticate after a request that used the {@code stale}
+     * {@link AccessToken} was rejected.
+     * <p>
+     * Concurrent requests that are rejected for the same reason share a single
+     * authentication. If the {@link #creds} have already been replaced since
+     * the {@code stale} token was used, they are returned without
+     * authenticating again.
+     * </p>
+     *
+     * @param stale the {@link AccessToken} that was rejected
+     * @return a future for the {@link AccessToken} to use
+     */
+    private synchronized CompletableFuture<AccessToken> reauthenticate(
+            AccessToken stale) {
+        if(authentication != null && !authentication.isDone()) {
+            return authentication;
+        }
+        else if(creds != stale) {
+            return CompletableFuture.completedFuture(creds);
+        }
+        else {
+            authentication = authenticate();
+            return authentication;
+        }
+    }
+
+    /**
+     * Receive responses until the connection fails or is closed.
+     */
+    private void receive() {
+        try {
+            while (failure == null) {
+                TMessage message = input.readMessageBegin();
+                Request request = pending.remove(message.seqid);
+                if(request == null) {
+                    throw new TApplicationException(
+                            TApplicationException.BAD_SEQUENCE_ID,
+                            "Received a response for an unknown request");
+                }
+                else if(message.type == TMessageType.EXCEPTION) {
+                    TApplicationException e = TApplicationException
+                            .readFrom(input);
+                    input.readMessageEnd();
+                    request.future.completeExceptionally(e);
+                }
+                else {
+                    request.result.read(input);
+                    input.readMessageEnd();
+                    try {
+                        request.future.complete(unwrap(request.result));
+                    }
+                    catch (TException e) {
+                        request.future.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+        catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Send a request to call {@code method} with {@code args} without waiting
+     * for the response.
+     *
+     * @param method the name of the remote method
+     * @param args the arguments for the remote method
+     * @param result an empty result for the remote method, into which the
+     *            response is read
+     * @return a future for the value of the result
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> send(String method, TBase<?, ?> args,
+            TBase<?, ?> result) {
+        int seqid = sequence.incrementAndGet();
+        Request request = new Request(result);
+        pending.put(seqid, request);
+        if(failure != null) {
+            // The connection failed before the request was registered, so
+            // make sure it doesn't wait forever
+            fail(failure);
+        }
+        else {
+            try {
+                synchronized (output) {
+                    output.writeMessageBegin(new TMessage(
+                            SERVICE + TMultiplexedProtocol.SEPARATOR + method,
+                            TMessageType.CALL, seqid));
+                    args.write(output);
+                    output.writeMessageEnd();
+                    output.getTransport().flush();
+                }
+            }
+            catch (TException e) {
+                fail(e);
+            }
+        }
+        return (CompletableFuture<T>) request.future;
+    }
+
+    /**
+     * A request that is awaiting a response.
+     *
+     * @author Jeff Nelson
+     */
+    private static final class Request {
+
+        /**
+         * The future that is completed with the value of the {@link #result}.
+         */
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        /**
+         * The empty result into which the response is read.
+         */
+        final TBase<?, ?> result;
+
+        /**
+         * Construct a new instance.
+         *
+         * @param result
+         */
+        Request(TBase<?, ?> result) {
+            this.result = result;
+        }
+    }
+
+}
@@ -0,0 +1,547 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.cinchapi.concourse.validate.Keys;
+
+/**
+ * A {@link Concourse} connection with a near-cache that serves repeated reads
+ * of hot data (e.g., configuration records or lookup tables) without a round
+ * trip to the server.
+ * <p>
+ * The results of {@link #get(String, long)}, {@link #select(String, long)} and
+ * {@link #select(long)} are cached for each record. Any write that is made
+ * through this connection (or a
+ * {@link Concourse#copyExistingConnection(Concourse) copy} of it, which shares
+ * the same cache) invalidates the cached data for the affected records.
+ * Writes that are made by other clients are not known, so each cached read
+ * expires after a time-to-live, which can be
+ * {@link #expireAfter(String, long, TimeUnit) overridden} for individual keys.
+ * </p>
+ * <p>
+ * Navigation and function keys are never cached because their values depend
+ * on other records. Nothing is read from the cache while a transaction is
+ * {@link #stage() staged}, and the records that are written in a transaction
+ * are evicted again when it is committed or aborted, in case a copy of this
+ * connection cached their state in the meantime.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+public class CachingConcourse extends ForwardingConcourse {
+
+    /**
+     * The default maximum number of records to cache.
+     */
+    private static final long DEFAULT_MAX_RECORDS = 10000;
+
+    /**
+     * The default time-to-live, in seconds, for cached reads.
+     */
+    private static final long DEFAULT_TTL_IN_SECONDS = 60;
+
+    /**
+     * The cache, which is shared among copies of this connection.
+     */
+    private final NearCache cache;
+
+    /**
+     * A flag that indicates whether a transaction is in progress.
+     */
+    private boolean staged = false;
+
+    /**
+     * The records that have been written in the current transaction, which
+     * must be evicted again when it ends because a copy of this connection
+     * may have cached their pre-commit state in the meantime.
+     */
+    private final Set<Long> touched = new HashSet<>();
+
+    /**
+     * A flag that indicates whether any record might have been written in the
+     * current transaction.
+     */
+    private boolean touchedAll = false;
+
+    /**
+     * Construct a new instance that caches up to 10,000 records for one
+     * minute.
+     *
+     * @param concourse
+     */
+    public CachingConcourse(Concourse concourse) {
+        this(concourse, DEFAULT_MAX_RECORDS, DEFAULT_TTL_IN_SECONDS,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param concourse
+     * @param maxRecords the maximum number of records to cache
+     * @param ttl the default time-to-live for cached reads
+     * @param unit the unit of {@code ttl}
+     */
+    public CachingConcourse(Concourse concourse, long maxRecords, long ttl,
+            TimeUnit unit) {
+        this(concourse, new NearCache(maxRecords, ttl, unit));
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param concourse
+     * @param cache
+     */
+    private CachingConcourse(Concourse concourse, NearCache cache) {
+        super(concourse);
+        this.cache = cache;
+    }
+
+    @Override
+    public void abort() {
+        try {
+            super.abort();
+        }
+        finally {
+            unstage();
+        }
+    }
+
+    @Override
+    public <T> Map<Long, Boolean> add(String key, T value,
+            Collection<Long> records) {
+        try {
+            return super.add(key, value, records);
+        }
+        finally {
+            evict(records);
+        }
+    }
+
+    @Override
+    public <T> boolean add(String key, T value, long record) {
+        try {
+            return super.add(key, value, record);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public void clear(Collection<Long> records) {
+        try {
+            super.clear(records);
+        }
+        finally {
+            evict(records);
+        }
+    }
+
+    @Override
+    public void clear(Collection<String> keys, Collection<Long> records) {
+        try {
+            super.clear(keys, records);
+        }
+        finally {
+            evict(records);
+        }
+    }
+
+    @Override
+    public void clear(Collection<String> keys, long record) {
+        try {
+            super.clear(keys, record);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public void clear(long record) {
+        try {
+            super.clear(record);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public void clear(String key, Collection<Long> records) {
+        try {
+            super.clear(key, records);
+        }
+        finally {
+            evict(records);
+        }
+    }
+
+    @Override
+    public void clear(String key, long record) {
+        try {
+            super.clear(key, record);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public boolean commit() {
+        try {
+            return super.commit();
+        }
+        finally {
+            unstage();
+        }
+    }
+
+    @Override
+    public boolean consolidate(long first, long second, long... remaining) {
+        try {
+            return super.consolidate(first, second, remaining);
+        }
+        finally {
+            // Links to the consolidated records, in any record, are changed
+            evictAll();
+        }
+    }
+
+    /**
+     * Set the time-to-live for cached reads of {@code key}, in place of the
+     * default. A time-to-live of 0 means that {@code key} is never cached.
+     * <p>
+     * The time-to-live is shared with all copies of this connection.
+     * </p>
+     *
+     * @param key
+     * @param duration
+     * @param unit
+     * @return this
+     */
+    public CachingConcourse expireAfter(String key, long duration,
+            TimeUnit unit) {
+        cache.expireAfter(key, duration, unit);
+        return this;
+    }
+
+    @Override
+    public <T> T get(String key, long record) {
+        if(isCacheable(key)) {
+            return cache.get(key, record, () -> super.get(key, record));
+        }
+        else {
+            return super.get(key, record);
+        }
+    }
+
+    @Override
+    public Map<Long, Boolean> insert(String json, Collection<Long> records) {
+        try {
+            return super.insert(json, records);
+        }
+        finally {
+            evict(records);
+        }
+    }
+
+    @Override
+    public boolean insert(String json, long record) {
+        try {
+            return super.insert(json, record);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    /**
+     * Remove all the cached data for {@code record} (e.g., because it is known
+     * to have been changed by another client).
+     *
+     * @param record
+     */
+    public void invalidate(long record) {
+        cache.invalidate(record);
+    }
+
+    /**
+     * Remove all the cached data.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public <T> T invokePlugin(String id, String method, Object... args) {
+        try {
+            return super.invokePlugin(id, method, args);
+        }
+        finally {
+            // A plugin can write to any record
+            evictAll();
+        }
+    }
+
+    @Override
+    public Map<Long, Boolean> link(String key, Collection<Long> destinations,
+            long source) {
+        try {
+            return super.link(key, destinations, source);
+        }
+        finally {
+            evict(source);
+        }
+    }
+
+    @Override
+    public boolean link(String key, long destination, long source) {
+        try {
+            return super.link(key, destination, source);
+        }
+        finally {
+            evict(source);
+        }
+    }
+
+    @Override
+    public <T> void reconcile(String key, long record, Collection<T> values) {
+        try {
+            super.reconcile(key, record, values);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public <T> Map<Long, Boolean> remove(String key, T value,
+            Collection<Long> records) {
+        try {
+            return super.remove(key, value, records);
+        }
+        finally {
+            evict(records);
+        }
+    }
+
+    @Override
+    public <T> boolean remove(String key, T value, long record) {
+        try {
+            return super.remove(key, value, record);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public void revert(Collection<String> keys, Collection<Long> records,
+            Timestamp timestamp) {
+        try {
+            super.revert(keys, records, timestamp);
+        }
+        finally {
+            evict(records);
+        }
+    }
+
+    @Override
+    public void revert(Collection<String> keys, long record,
+            Timestamp timestamp) {
+        try {
+            super.revert(keys, record, timestamp);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public void revert(String key, Collection<Long> records,
+            Timestamp timestamp) {
+        try {
+            super.revert(key, records, timestamp);
+        }
+        finally {
+            evict(records);
+        }
+    }
+
+    @Override
+    public void revert(String key, long record, Timestamp timestamp) {
+        try {
+            super.revert(key, record, timestamp);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public <T> Map<String, Set<T>> select(long record) {
+        if(!staged) {
+            return cache.select(record, () -> super.select(record));
+        }
+        else {
+            return super.select(record);
+        }
+    }
+
+    @Override
+    public <T> Set<T> select(String key, long record) {
+        if(isCacheable(key)) {
+            return cache.select(key, record, () -> super.select(key, record));
+        }
+        else {
+            return super.select(key, record);
+        }
+    }
+
+    @Override
+    public void set(String key, Object value, Collection<Long> records) {
+        try {
+            super.set(key, value, records);
+        }
+        finally {
+            evict(records);
+        }
+    }
+
+    @Override
+    public <T> void set(String key, T value, long record) {
+        try {
+            super.set(key, value, record);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public void stage() throws TransactionException {
+        super.stage();
+        staged = true;
+    }
+
+    @Override
+    public boolean unlink(String key, long destination, long source) {
+        try {
+            return super.unlink(key, destination, source);
+        }
+        finally {
+            evict(source);
+        }
+    }
+
+    @Override
+    public boolean verifyAndSwap(String key, Object expected, long record,
+            Object replacement) {
+        try {
+            return super.verifyAndSwap(key, expected, record, replacement);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    public void verifyOrSet(String key, Object value, long record) {
+        try {
+            super.verifyOrSet(key, value, record);
+        }
+        finally {
+            evict(record);
+        }
+    }
+
+    @Override
+    protected ForwardingConcourse $this(Concourse concourse) {
+        return new CachingConcourse(concourse, cache);
+    }
+
+    /**
+     * Evict all the cached data for {@code record} after it is written.
+     *
+     * @param record
+     */
+    private void evict(long record) {
+        cache.invalidate(record);
+        if(staged) {
+            touched.add(record);
+        }
+    }
+
+    /**
+     * Evict all the cached data for each of the {@code records} after they
+     * are written.
+     *
+     * @param records
+     */
+    private void evict(Collection<Long> records) {
+        cache.invalidate(records);
+        if(staged) {
+            touched.addAll(records);
+        }
+    }
+
+    /**
+     * Evict all the cached data after a write that may affect any record.
+     */
+    private void evictAll() {
+        cache.invalidateAll();
+        if(staged) {
+            touchedAll = true;
+        }
+    }
+
+    /**
+     * Return {@code true} if reads of {@code key} can use the cache.
+     *
+     * @param key
+     * @return a boolean that indicates whether {@code key} is cacheable
+     */
+    private boolean isCacheable(String key) {
+        return !staged && Keys.isWritable(key);
+    }
+
+    /**
+     * End the current transaction and evict the records that were written
+     * in it, since a copy of this connection may have cached their state
+     * before the transaction was committed or aborted.
+     */
+    private void unstage() {
+        staged = false;
+        if(touchedAll) {
+            cache.invalidateAll();
+        }
+        else {
+            cache.invalidate(touched);
+        }
+        touched.clear();
+        touchedAll = false;
+    }
+
+}
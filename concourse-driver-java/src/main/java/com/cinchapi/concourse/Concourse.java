@@ -18,6 +18,7 @@ package com.cinchapi.concourse;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +39,7 @@ import com.cinchapi.concourse.thrift.Diff;
 import com.cinchapi.concourse.thrift.Operator;
 import com.cinchapi.concourse.util.Convert;
 import com.cinchapi.concourse.util.FileOps;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 
@@ -222,6 +224,12 @@ public abstract class Concourse implements AutoCloseable {
         return concourse.copyConnection();
     }
 
+    /**
+     * The number of records that {@link #ingest(Iterator)} sends to the server
+     * in each batch, by default.
+     */
+    private static final int DEFAULT_INGEST_BATCH_SIZE = 1000;
+
     /**
      * The interface to use for all {@link #calculate() calculation} methods.
      */
@@ -4276,6 +4284,72 @@ public abstract class Concourse implements AutoCloseable {
      */
     public abstract String getServerVersion();
 
+    /**
+     * Insert the key/value associations from each of the {@link Map maps} that
+     * are streamed from {@code data} into new and distinct records.
+     * <p>
+     * Unlike {@link #insert(Collection)}, the maps are not all materialized at
+     * once. They are consumed from {@code data} and sent to the server in
+     * batches of 1000, each of which is atomically inserted with a single
+     * request. So, the cost of each request (e.g., authentication, starting an
+     * atomic operation and syncing the writes to disk) is shared by many
+     * records, which makes this method suitable for loading a large amount of
+     * data.
+     * </p>
+     * <p>
+     * Each of the values in each map must be a primitive or one dimensional
+     * object (e.g. no nested {@link Map maps} or {@link Multimap multimaps}).
+     * If a batch cannot be inserted, an exception is thrown and the batches
+     * before it remain inserted.
+     * </p>
+     * 
+     * @param data an {@link Iterator} over the {@link Map maps}, each with
+     *            key/value associations to insert into a new record
+     * @return the number of records that were inserted
+     */
+    public final long ingest(Iterator<Map<String, Object>> data) {
+        return ingest(data, DEFAULT_INGEST_BATCH_SIZE);
+    }
+
+    /**
+     * Insert the key/value associations from each of the {@link Map maps} that
+     * are streamed from {@code data} into new and distinct records, sending
+     * {@code batchSize} records to the server at a time.
+     * <p>
+     * Each of the values in each map must be a primitive or one dimensional
+     * object (e.g. no nested {@link Map maps} or {@link Multimap multimaps}).
+     * If a batch cannot be inserted, an exception is thrown and the batches
+     * before it remain inserted.
+     * </p>
+     * 
+     * @param data an {@link Iterator} over the {@link Map maps}, each with
+     *            key/value associations to insert into a new record
+     * @param batchSize the number of records to atomically insert with each
+     *            request
+     * @return the number of records that were inserted
+     * @see #ingest(Iterator)
+     */
+    public final long ingest(Iterator<Map<String, Object>> data,
+            int batchSize) {
+        Preconditions.checkArgument(batchSize > 0,
+                "The batch size must be positive");
+        long count = 0;
+        int size = 0;
+        StringBuilder json = new StringBuilder();
+        while (data.hasNext()) {
+            json.append(size == 0 ? '[' : ',');
+            json.append(Convert.mapToJson(data.next()));
+            ++size;
+            if(size == batchSize || !data.hasNext()) {
+                json.append(']');
+                count += insert(json.toString()).size();
+                json.setLength(0);
+                size = 0;
+            }
+        }
+        return count;
+    }
+
     /**
      * Atomically insert the key/value associations from each of the
      * {@link Multimap maps} in {@code data} into new and distinct records.
@@ -5418,6 +5492,19 @@ public abstract class Concourse implements AutoCloseable {
      */
     public abstract Set<Long> search(String key, String query);
 
+    /**
+     * Perform a full text search for {@code query} against the {@code key}
+     * field and return, at most, {@code limit} of the records that contain a
+     * {@link String} or {@link Tag} value that matches, in order of relevance.
+     * 
+     * @param key
+     * @param query
+     * @param limit the maximum number of records to return
+     * @return a {@link Set} of ids for the most relevant records that match
+     *         the search query, in descending order of relevance
+     */
+    public abstract Set<Long> search(String key, String query, int limit);
+
     /**
      * Return all the data that is currently stored in each of the
      * {@code records}.
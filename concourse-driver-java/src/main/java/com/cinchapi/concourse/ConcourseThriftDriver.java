@@ -19,6 +19,7 @@ import java.net.SocketException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -2737,6 +2738,12 @@ class ConcourseThriftDriver extends Concourse {
                 () -> core.search(key, query, creds, transaction, environment));
     }
 
+    @Override
+    public Set<Long> search(String key, String query, int limit) {
+        return execute(() -> new LinkedHashSet<>(core.searchLimit(key, query,
+                limit, creds, transaction, environment)));
+    }
+
     @Override
     public <T> Map<Long, Map<String, Set<T>>> select(Collection<Long> records) {
         return execute(() -> {
@@ -1183,6 +1183,11 @@ public abstract class ForwardingConcourse extends Concourse {
         return concourse.search(key, query);
     }
 
+    @Override
+    public Set<Long> search(String key, String query, int limit) {
+        return concourse.search(key, query, limit);
+    }
+
     @Override
     public <T> Map<Long, Map<String, Set<T>>> select(Collection<Long> records) {
         return concourse.select(records);
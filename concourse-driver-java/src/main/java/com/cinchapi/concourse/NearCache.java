@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * A {@link NearCache} holds data that was read from Concourse Server so that
+ * repeated reads of the same record can be served on the client.
+ * <p>
+ * The number of records in the cache is bounded, so the least recently used
+ * records are evicted when the cache is full. Each cached read expires after
+ * a time-to-live, which can be {@link #expireAfter(String, long, TimeUnit)
+ * overridden} for individual keys. The expiration is what keeps the cache
+ * eventually coherent with writes from other clients; writes that are known
+ * to the client must be {@link #invalidate(long) invalidated} explicitly.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+@ThreadSafe
+final class NearCache {
+
+    /**
+     * The cached data, mapped from record.
+     */
+    private final Cache<Long, Row> rows;
+
+    /**
+     * The time-to-live, in nanoseconds, for reads of keys that don't have
+     * their own {@link #ttls}.
+     */
+    private final long ttl;
+
+    /**
+     * The time-to-live, in nanoseconds, of reads for individual keys.
+     */
+    private final Map<String, Long> ttls = new ConcurrentHashMap<>();
+
+    /**
+     * Construct a new instance.
+     *
+     * @param maxRecords the maximum number of records to cache
+     * @param ttl the default time-to-live for cached reads
+     * @param unit the unit of {@code ttl}
+     */
+    NearCache(long maxRecords, long ttl, TimeUnit unit) {
+        Preconditions.checkArgument(maxRecords > 0,
+                "The maximum number of records must be positive");
+        Preconditions.checkArgument(ttl >= 0,
+                "The time-to-live cannot be negative");
+        this.rows = CacheBuilder.newBuilder().maximumSize(maxRecords).build();
+        this.ttl = unit.toNanos(ttl);
+    }
+
+    /**
+     * Set the time-to-live for cached reads of {@code key}, in place of the
+     * default. A time-to-live of 0 means that {@code key} is never cached.
+     *
+     * @param key
+     * @param duration
+     * @param unit
+     */
+    void expireAfter(String key, long duration, TimeUnit unit) {
+        Preconditions.checkArgument(duration >= 0,
+                "The time-to-live cannot be negative");
+        ttls.put(key, unit.toNanos(duration));
+    }
+
+    /**
+     * Return the cached value that was gotten for {@code key} in
+     * {@code record}, using the {@code loader} if it isn't cached or has
+     * expired.
+     *
+     * @param key
+     * @param record
+     * @param loader
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    <T> T get(String key, long record, Supplier<T> loader) {
+        Row row = row(record);
+        return (T) load(row.gotten, key, ttl(key), loader::get);
+    }
+
+    /**
+     * Remove all the cached data for {@code record}.
+     *
+     * @param record
+     */
+    void invalidate(long record) {
+        rows.invalidate(record);
+    }
+
+    /**
+     * Remove all the cached data for each of the {@code records}.
+     *
+     * @param records
+     */
+    void invalidate(Iterable<Long> records) {
+        rows.invalidateAll(records);
+    }
+
+    /**
+     * Remove all the cached data.
+     */
+    void invalidateAll() {
+        rows.invalidateAll();
+    }
+
+    /**
+     * Return all the cached data for {@code record}, using the {@code loader}
+     * if it isn't cached or has expired.
+     * <p>
+     * The entire record expires according to the shortest time-to-live of any
+     * key.
+     * </p>
+     *
+     * @param record
+     * @param loader
+     * @return the data in {@code record}
+     */
+    @SuppressWarnings("unchecked")
+    <T> Map<String, Set<T>> select(long record,
+            Supplier<Map<String, Set<T>>> loader) {
+        Row row = row(record);
+        long ttl = ttls.values().stream().reduce(this.ttl, Math::min);
+        return (Map<String, Set<T>>) load(row.selected, null, ttl, () -> {
+            Map<String, Set<T>> data = new LinkedHashMap<>();
+            loader.get().forEach((key, values) -> data.put(key,
+                    Collections.unmodifiableSet(new LinkedHashSet<>(values))));
+            return Collections.unmodifiableMap(data);
+        });
+    }
+
+    /**
+     * Return the cached values that were selected for {@code key} in
+     * {@code record}, using the {@code loader} if they aren't cached or have
+     * expired.
+     *
+     * @param key
+     * @param record
+     * @param loader
+     * @return the values
+     */
+    @SuppressWarnings("unchecked")
+    <T> Set<T> select(String key, long record, Supplier<Set<T>> loader) {
+        Row row = row(record);
+        return (Set<T>) load(row.selected, key, ttl(key),
+                () -> Collections
+                        .unmodifiableSet(new LinkedHashSet<>(loader.get())));
+    }
+
+    /**
+     * Return the value for {@code key} in the {@code entries}, using the
+     * {@code loader} and caching the result if there isn't one or it has
+     * expired.
+     *
+     * @param entries
+     * @param key the key, or {@code null} for the entire record
+     * @param ttl the time-to-live, in nanoseconds, of a loaded value
+     * @param loader
+     * @return the value
+     */
+    @Nullable
+    private Object load(Map<String, Entry> entries, @Nullable String key,
+            long ttl, Supplier<Object> loader) {
+        String id = key == null ? "" : key;
+        long now = System.nanoTime();
+        Entry entry = entries.get(id);
+        if(entry != null && now - entry.expiresAt < 0) {
+            return entry.value;
+        }
+        else {
+            Object value = loader.get();
+            if(ttl > 0) {
+                // If the row has been invalidated since it was retrieved, this
+                // goes into an orphaned row and is discarded.
+                entries.put(id, new Entry(value, now + ttl));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Return the {@link Row} for {@code record}, creating it if necessary.
+     *
+     * @param record
+     * @return the {@link Row}
+     */
+    private Row row(long record) {
+        Row row = rows.getIfPresent(record);
+        if(row == null) {
+            row = rows.asMap().computeIfAbsent(record, $ -> new Row());
+        }
+        return row;
+    }
+
+    /**
+     * Return the time-to-live, in nanoseconds, of reads for {@code key}.
+     *
+     * @param key
+     * @return the time-to-live
+     */
+    private long ttl(String key) {
+        return ttls.getOrDefault(key, ttl);
+    }
+
+    /**
+     * A cached value.
+     *
+     * @author Jeff Nelson
+     */
+    private static final class Entry {
+
+        /**
+         * The {@link System#nanoTime()} when the {@link #value} expires.
+         */
+        final long expiresAt;
+
+        /**
+         * The value.
+         */
+        @Nullable
+        final Object value;
+
+        /**
+         * Construct a new instance.
+         *
+         * @param value
+         * @param expiresAt
+         */
+        Entry(@Nullable Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * The cached data for a single record.
+     *
+     * @author Jeff Nelson
+     */
+    private static final class Row {
+
+        /**
+         * The values that were gotten for each key.
+         */
+        final Map<String, Entry> gotten = new ConcurrentHashMap<>();
+
+        /**
+         * The values that were selected for each key, and the entire record,
+         * which is mapped from the empty string.
+         */
+        final Map<String, Entry> selected = new ConcurrentHashMap<>();
+    }
+
+}
@@ -1165,6 +1165,11 @@ public class NoOpConcourse extends Concourse {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Set<Long> search(String key, String query, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public <T> Map<Long, Map<String, Set<T>>> select(Collection<Long> records) {
         throw new UnsupportedOperationException();
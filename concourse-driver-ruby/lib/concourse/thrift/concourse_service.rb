@@ -2584,6 +2584,24 @@ module Concourse
           raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'search failed: unknown result')
         end
 
+        def searchLimit(key, query, limit, creds, transaction, environment)
+          send_searchLimit(key, query, limit, creds, transaction, environment)
+          return recv_searchLimit()
+        end
+
+        def send_searchLimit(key, query, limit, creds, transaction, environment)
+          send_message('searchLimit', SearchLimit_args, :key => key, :query => query, :limit => limit, :creds => creds, :transaction => transaction, :environment => environment)
+        end
+
+        def recv_searchLimit()
+          result = receive_message(SearchLimit_result)
+          return result.success unless result.success.nil?
+          raise result.ex unless result.ex.nil?
+          raise result.ex2 unless result.ex2.nil?
+          raise result.ex4 unless result.ex4.nil?
+          raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'searchLimit failed: unknown result')
+        end
+
         def revertKeysRecordsTime(keys, records, timestamp, creds, transaction, environment)
           send_revertKeysRecordsTime(keys, records, timestamp, creds, transaction, environment)
           recv_revertKeysRecordsTime()
@@ -6705,6 +6723,21 @@ module Concourse
           write_result(result, oprot, 'search', seqid)
         end
 
+        def process_searchLimit(seqid, iprot, oprot)
+          args = read_args(iprot, SearchLimit_args)
+          result = SearchLimit_result.new()
+          begin
+            result.success = @handler.searchLimit(args.key, args.query, args.limit, args.creds, args.transaction, args.environment)
+          rescue ::Concourse::SecurityException => ex
+            result.ex = ex
+          rescue ::Concourse::TransactionException => ex2
+            result.ex2 = ex2
+          rescue ::Concourse::InvalidArgumentException => ex4
+            result.ex4 = ex4
+          end
+          write_result(result, oprot, 'searchLimit', seqid)
+        end
+
         def process_revertKeysRecordsTime(seqid, iprot, oprot)
           args = read_args(iprot, RevertKeysRecordsTime_args)
           result = RevertKeysRecordsTime_result.new()
@@ -15094,6 +15127,54 @@ module Concourse
         ::Thrift::Struct.generate_accessors self
       end
 
+      class SearchLimit_args
+        include ::Thrift::Struct, ::Thrift::Struct_Union
+        KEY = 1
+        QUERY = 2
+        LIMIT = 3
+        CREDS = 4
+        TRANSACTION = 5
+        ENVIRONMENT = 6
+
+        FIELDS = {
+          KEY => {:type => ::Thrift::Types::STRING, :name => 'key'},
+          QUERY => {:type => ::Thrift::Types::STRING, :name => 'query'},
+          LIMIT => {:type => ::Thrift::Types::I32, :name => 'limit'},
+          CREDS => {:type => ::Thrift::Types::STRUCT, :name => 'creds', :class => ::Concourse::Thrift::AccessToken},
+          TRANSACTION => {:type => ::Thrift::Types::STRUCT, :name => 'transaction', :class => ::Concourse::Thrift::TransactionToken},
+          ENVIRONMENT => {:type => ::Thrift::Types::STRING, :name => 'environment'}
+        }
+
+        def struct_fields; FIELDS; end
+
+        def validate
+        end
+
+        ::Thrift::Struct.generate_accessors self
+      end
+
+      class SearchLimit_result
+        include ::Thrift::Struct, ::Thrift::Struct_Union
+        SUCCESS = 0
+        EX = 1
+        EX2 = 2
+        EX4 = 4
+
+        FIELDS = {
+          SUCCESS => {:type => ::Thrift::Types::LIST, :name => 'success', :element => {:type => ::Thrift::Types::I64}},
+          EX => {:type => ::Thrift::Types::STRUCT, :name => 'ex', :class => ::Concourse::SecurityException},
+          EX2 => {:type => ::Thrift::Types::STRUCT, :name => 'ex2', :class => ::Concourse::TransactionException},
+          EX4 => {:type => ::Thrift::Types::STRUCT, :name => 'ex4', :class => ::Concourse::InvalidArgumentException}
+        }
+
+        def struct_fields; FIELDS; end
+
+        def validate
+        end
+
+        ::Thrift::Struct.generate_accessors self
+      end
+
       class RevertKeysRecordsTime_args
         include ::Thrift::Struct, ::Thrift::Struct_Union
         KEYS = 1
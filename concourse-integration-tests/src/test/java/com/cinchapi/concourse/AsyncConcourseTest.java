@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.cinchapi.concourse.test.ConcourseIntegrationTest;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Unit tests for {@link AsyncConcourse}.
+ *
+ * @author Jeff Nelson
+ */
+public class AsyncConcourseTest extends ConcourseIntegrationTest {
+
+    @Test
+    public void testPipelinedRequestsAreCorrelated() {
+        int count = 100;
+        for (int i = 0; i < count; ++i) {
+            client.add("count", i, i);
+        }
+        try (AsyncConcourse async = AsyncConcourse.connect(SERVER_HOST,
+                SERVER_PORT, "admin", "admin")) {
+            List<CompletableFuture<Set<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < count; ++i) {
+                futures.add(async.select("count", i));
+            }
+            for (int i = 0; i < count; ++i) {
+                Assert.assertEquals(ImmutableSet.of(i), futures.get(i).join());
+            }
+        }
+    }
+
+    @Test
+    public void testWritesAreVisibleToDriver() {
+        try (AsyncConcourse async = AsyncConcourse.connect(SERVER_HOST,
+                SERVER_PORT, "admin", "admin")) {
+            Assert.assertTrue(async.add("name", "jeff", 1).join());
+            async.set("age", 30, 1).join();
+            Assert.assertEquals("jeff", client.get("name", 1));
+            Assert.assertEquals((Integer) 30, client.get("age", 1));
+            Assert.assertEquals(ImmutableSet.of(1L),
+                    async.find("age = 30").join());
+        }
+    }
+
+    @Test
+    public void testServerErrorIsTranslated() {
+        try (AsyncConcourse async = AsyncConcourse.connect(SERVER_HOST,
+                SERVER_PORT, "admin", "admin")) {
+            try {
+                async.find("name = ").join();
+                Assert.fail();
+            }
+            catch (CompletionException e) {
+                Assert.assertTrue(e.getCause() instanceof ParseException);
+            }
+            // The connection is still usable after an error
+            Assert.assertTrue(async.add("name", "jeff", 1).join());
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void testCloseFromDependentStageDoesNotDeadlock() {
+        AsyncConcourse async = AsyncConcourse.connect(SERVER_HOST, SERVER_PORT,
+                "admin", "admin");
+        async.add("name", "jeff", 1).thenRun(async::close).join();
+        Assert.assertTrue(async.isClosed());
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.cinchapi.concourse.test.ConcourseIntegrationTest;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Unit tests for {@link CachingConcourse}.
+ *
+ * @author Jeff Nelson
+ */
+public class CachingConcourseTest extends ConcourseIntegrationTest {
+
+    @Test
+    public void testReadsAreServedFromCache() {
+        Concourse cached = new CachingConcourse(
+                Concourse.copyExistingConnection(client), 100, 1,
+                TimeUnit.HOURS);
+        client.add("name", "jeff", 1);
+        Assert.assertEquals("jeff", cached.get("name", 1));
+        client.set("name", "ashleah", 1);
+        Assert.assertEquals("jeff", cached.get("name", 1));
+        Assert.assertEquals("ashleah", client.get("name", 1));
+    }
+
+    @Test
+    public void testWritesInvalidateCache() {
+        Concourse cached = new CachingConcourse(
+                Concourse.copyExistingConnection(client), 100, 1,
+                TimeUnit.HOURS);
+        cached.add("name", "jeff", 1);
+        Assert.assertEquals(ImmutableSet.of("jeff"), cached.select("name", 1));
+        cached.add("name", "ashleah", 1);
+        Assert.assertEquals(ImmutableSet.of("jeff", "ashleah"),
+                cached.select("name", 1));
+        cached.clear(1);
+        Assert.assertTrue(cached.select(1).isEmpty());
+    }
+
+    @Test
+    public void testCopiesShareCache() {
+        Concourse cached = new CachingConcourse(
+                Concourse.copyExistingConnection(client), 100, 1,
+                TimeUnit.HOURS);
+        Concourse copy = Concourse.copyExistingConnection(cached);
+        cached.add("name", "jeff", 1);
+        Assert.assertEquals("jeff", cached.get("name", 1));
+        copy.set("name", "ashleah", 1);
+        Assert.assertEquals("ashleah", cached.get("name", 1));
+    }
+
+    @Test
+    public void testKeyWithoutTtlIsNotCached() {
+        CachingConcourse cached = new CachingConcourse(
+                Concourse.copyExistingConnection(client), 100, 1,
+                TimeUnit.HOURS);
+        cached.expireAfter("name", 0, TimeUnit.SECONDS);
+        client.add("name", "jeff", 1);
+        Assert.assertEquals("jeff", cached.get("name", 1));
+        client.set("name", "ashleah", 1);
+        Assert.assertEquals("ashleah", cached.get("name", 1));
+    }
+
+    @Test
+    public void testCommitEvictsRecordsCachedByCopyDuringTransaction() {
+        CachingConcourse cached = new CachingConcourse(
+                Concourse.copyExistingConnection(client), 100, 1,
+                TimeUnit.HOURS);
+        Concourse copy = Concourse.copyExistingConnection(cached);
+        cached.add("name", "jeff", 1);
+        cached.stage();
+        cached.set("name", "ashleah", 1);
+        // The copy caches the pre-commit value
+        Assert.assertEquals("jeff", copy.get("name", 1));
+        cached.commit();
+        Assert.assertEquals("ashleah", copy.get("name", 1));
+    }
+
+}
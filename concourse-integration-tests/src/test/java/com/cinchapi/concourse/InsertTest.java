@@ -291,4 +291,30 @@ public class InsertTest extends ConcourseIntegrationTest {
         Assert.assertEquals(Sets.newHashSet(1485912714650000L), records);
     }
 
+    @Test
+    public void testIngestStreamsBatches() {
+        int count = 25;
+        List<Map<String, Object>> data = Lists.newArrayList();
+        for (int i = 0; i < count; ++i) {
+            Map<String, Object> map = Maps.newHashMap();
+            map.put("name", "user" + i);
+            map.put("count", i);
+            data.add(map);
+        }
+        Assert.assertEquals(count, client.ingest(data.iterator(), 10));
+        Set<Long> records = client.find("count >= 0");
+        Assert.assertEquals(count, records.size());
+        for (long record : records) {
+            int i = client.get("count", record);
+            Assert.assertEquals("user" + i, client.get("name", record));
+        }
+    }
+
+    @Test
+    public void testIngestEmptyStream() {
+        Assert.assertEquals(0,
+                client.ingest(Lists.<Map<String, Object>> newArrayList()
+                        .iterator()));
+    }
+
 }
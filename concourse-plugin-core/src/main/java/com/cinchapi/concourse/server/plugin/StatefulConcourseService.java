@@ -3062,6 +3062,10 @@ abstract class StatefulConcourseService {
         throw new UnsupportedOperationException();
     }
 
+    public List<Long> searchLimit(String key, String query, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
     public void revertKeysRecordsTime(List<String> keys, List<Long> records,
             long timestamp) {
         throw new UnsupportedOperationException();
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -75,6 +76,7 @@ import com.cinchapi.concourse.server.aop.TranslateClientExceptions;
 import com.cinchapi.concourse.server.aop.VerifyAccessToken;
 import com.cinchapi.concourse.server.aop.VerifyReadPermission;
 import com.cinchapi.concourse.server.aop.VerifyWritePermission;
+import com.cinchapi.concourse.server.concurrent.VirtualThreads;
 import com.cinchapi.concourse.server.http.HttpServer;
 import com.cinchapi.concourse.server.io.FileSystem;
 import com.cinchapi.concourse.server.jmx.ManagedOperation;
@@ -1624,7 +1626,8 @@ public class ConcourseServer extends BaseConcourseServer implements
             }
             else {
                 SortableSet<Set<TObject>> records = SortableSet.of(matches);
-                records.sort(Sorting.byValues(_order, store));
+                records.sort(Sorting.byValues(_order, store,
+                        Pages.from(page)));
                 return Paging.page(records, Pages.from(page));
             }
         });
@@ -1686,7 +1689,8 @@ public class ConcourseServer extends BaseConcourseServer implements
             }
             else {
                 SortableSet<Set<TObject>> records = SortableSet.of(matches);
-                records.sort(Sorting.byValues($order, store));
+                records.sort(Sorting.byValues($order, store,
+                        Pages.from(page)));
                 return Paging.page(records, Pages.from(page));
             }
         });
@@ -1881,7 +1885,8 @@ public class ConcourseServer extends BaseConcourseServer implements
             }
             else {
                 SortableSet<Set<TObject>> records = SortableSet.of(matches);
-                records.sort(Sorting.byValues(_order, atomic));
+                records.sort(Sorting.byValues(_order, atomic,
+                        Pages.from(page)));
                 return Paging.page(records, Pages.from(page));
             }
         });
@@ -1955,7 +1960,8 @@ public class ConcourseServer extends BaseConcourseServer implements
             }
             else {
                 SortableSet<Set<TObject>> records = SortableSet.of(matches);
-                records.sort(Sorting.byValues(_order, atomic));
+                records.sort(Sorting.byValues(_order, atomic,
+                        Pages.from(page)));
                 return Paging.page(records, Pages.from(page));
             }
 
@@ -4641,6 +4647,19 @@ public class ConcourseServer extends BaseConcourseServer implements
         return getStore(transaction, env).search(key, query);
     }
 
+    @Override
+    @TranslateClientExceptions
+    @VerifyAccessToken
+    @VerifyReadPermission
+    public List<Long> searchLimit(String key, String query, int limit,
+            AccessToken creds, TransactionToken transaction, String env)
+            throws TException {
+        Preconditions.checkArgument(limit >= 0,
+                "The search limit cannot be negative");
+        return Lists.newArrayList(
+                getStore(transaction, env).search(key, query, limit));
+    }
+
     @Override
     @TranslateClientExceptions
     public Map<Long, Map<String, Set<TObject>>> selectCcl(String ccl,
@@ -6617,9 +6636,23 @@ public class ConcourseServer extends BaseConcourseServer implements
         Args args = new TThreadPoolServer.Args(socket);
         args.processor(processor);
         args.maxWorkerThreads(NUM_WORKER_THREADS);
-        args.executorService(Executors
-                .newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true)
-                        .setNameFormat("Client Worker" + " %d").build()));
+        ExecutorService workers = ENABLE_VIRTUAL_THREAD_WORKERS
+                ? VirtualThreads.newThreadPerTaskExecutor("Client Worker ")
+                : null;
+        if(workers != null) {
+            Logger.info("Client connections are serviced by virtual threads");
+        }
+        else {
+            if(ENABLE_VIRTUAL_THREAD_WORKERS) {
+                Logger.warn("Virtual thread workers are enabled, but this JVM "
+                        + "does not support virtual threads, so client "
+                        + "connections are serviced by platform threads");
+            }
+            workers = Executors.newCachedThreadPool(
+                    new ThreadFactoryBuilder().setDaemon(true)
+                            .setNameFormat("Client Worker" + " %d").build());
+        }
+        args.executorService(workers);
         // CON-530: Set a lower timeout on the ExecutorService's termination to
         // prevent the server from hanging because of active threads that have
         // not yet been given a task but won't allow shutdown to proceed (i.e.
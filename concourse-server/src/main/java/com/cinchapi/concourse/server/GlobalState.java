@@ -132,6 +132,23 @@ public final class GlobalState extends Constants {
      */
     public static int BUFFER_PAGE_SIZE = 8192;
 
+    /**
+     * The maximum number of milliseconds that a durable write waits for other
+     * concurrent writes to share its Buffer sync when
+     * {@link #ENABLE_BUFFER_GROUP_SYNC group sync} is enabled. A larger
+     * interval allows more writes to share each sync at the expense of the
+     * latency of each write.
+     */
+    public static int BUFFER_GROUP_SYNC_INTERVAL = 2;
+
+    /**
+     * The number of bytes that, once written to the Buffer by concurrent
+     * durable writes, triggers a shared sync before the
+     * {@link #BUFFER_GROUP_SYNC_INTERVAL} elapses when
+     * {@link #ENABLE_BUFFER_GROUP_SYNC group sync} is enabled.
+     */
+    public static long BUFFER_GROUP_SYNC_THRESHOLD = 65536;
+
     /**
      * The listener port (1-65535) for client connections. Choose a port between
      * 49152 and 65535 to minimize the possibility of conflicts with other
@@ -326,6 +343,18 @@ public final class GlobalState extends Constants {
      */
     public static int NUM_TRANSPORTER_THREADS = 1;
 
+    /**
+     * The maximum number of full Buffer pages that can be waiting for
+     * {@link Transporter#transport() transport} before writes are blocked
+     * until the {@link Transporter} catches up. This applies backpressure
+     * during sustained high ingest so that the Buffer doesn't grow without
+     * bound.
+     * <p>
+     * A value of {@code 0} disables backpressure.
+     * </p>
+     */
+    public static int MAX_TRANSPORT_BACKLOG = 0;
+
     /**
      * Potentially use multiple threads to asynchronously read data from disk.
      * <p>
@@ -391,6 +420,172 @@ public final class GlobalState extends Constants {
     @Experimental
     public static boolean ENABLE_VERIFY_BY_LOOKUP = false;
 
+    /**
+     * Attempt to optimize range queries (e.g. {@code >}, {@code <=} or
+     * {@code BETWEEN}) on keys whose index is not cached by only loading the
+     * indexed values that fall within the range of the query.
+     * <p>
+     * The database does not cache partial index records that are loaded for a
+     * range, so, while generating one is theoretically faster than loading the
+     * entire index for a key, repeated queries on the same key may be slower
+     * due to lack of caching.
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_PARTIAL_INDEX_LOADING = false;
+
+    /**
+     * Store a compact search index that only contains the n-grams of each term
+     * that are no longer than three characters (e.g. its trigrams) instead of
+     * every possible substring of each term.
+     * <p>
+     * Search queries for words that are longer than three characters are
+     * answered by intersecting the indexed trigrams of each word and verifying
+     * the candidate matches against the stored values. This drastically
+     * reduces the size of the search index and the cost of indexing text, but
+     * may make some searches slower.
+     * </p>
+     * <p>
+     * Data that was indexed before this setting was enabled can still be
+     * searched. But, data that is indexed while this setting is enabled cannot
+     * be fully searched if the setting is later disabled.
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_TRIGRAM_SEARCH_INDEX = false;
+
+    /**
+     * When {@link #ENABLE_COMPACTION compaction} is enabled, merge groups of
+     * adjacent Segments that are in the same size tier instead of Segments
+     * that contain similar data.
+     * <p>
+     * Tiered compaction bounds the number of Segments that each read must
+     * consider and merges Segments by streaming their already sorted data
+     * instead of re-indexing it.
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_TIERED_COMPACTION = false;
+
+    /**
+     * The number of Segments from the same size tier that are merged together
+     * when {@link #ENABLE_TIERED_COMPACTION tiered compaction} is enabled. A
+     * larger fanout rewrites each Segment fewer times at the expense of more
+     * Segments that each read must consider. The minimum is 2.
+     */
+    @Experimental
+    public static int TIERED_COMPACTION_FANOUT = 4;
+
+    /**
+     * Service each client connection with a virtual thread instead of a
+     * platform thread, if the JVM supports virtual threads.
+     * <p>
+     * Each client connection occupies a worker thread for as long as it is
+     * open, even when idle (e.g. connections in a client-side connection
+     * pool). Virtual threads are cheap to create and don't occupy an operating
+     * system thread while waiting for a request, so thousands of connections
+     * can be serviced without exhausting system resources or incurring
+     * excessive context switching.
+     * </p>
+     * <p>
+     * If the JVM doesn't support virtual threads, this setting has no effect.
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_VIRTUAL_THREAD_WORKERS = false;
+
+    /**
+     * Use a cache-friendly bloom filter format for new Segments that can be
+     * read directly from the Segment's memory mapped file.
+     * <p>
+     * The bloom filters of Segments in the legacy format are deserialized onto
+     * the heap when the Segment is loaded, so heap usage and startup time grow
+     * with the number of Segments. Filters in the blocked format are probed in
+     * place without being deserialized. Existing Segments keep the format they
+     * were written with until they are rewritten (e.g., by compaction or a
+     * reindex).
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_BLOCKED_BLOOM_FILTERS = false;
+
+    /**
+     * Flush new Manifests with their entries sorted by hash and a sparse index
+     * of fences so that a lookup against a Manifest that isn't in memory only
+     * reads a small part of it from disk.
+     * <p>
+     * Manifests in the legacy format must be streamed from disk (or loaded
+     * entirely into memory) to find a single entry. Existing Segments keep the
+     * format they were written with until they are rewritten (e.g., by
+     * compaction or a reindex).
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_SORTED_MANIFESTS = false;
+
+    /**
+     * Flush the revisions in new Segments as compressed blocks to reduce the
+     * amount of disk space and page cache that each Segment requires.
+     * <p>
+     * Within each block, revisions only store the bytes that follow the prefix
+     * they share with the previous revision and then the entire block is
+     * deflated. Lookups only read and inflate the blocks that overlap the
+     * relevant Manifest range. Existing Segments keep the format they were
+     * written with until they are rewritten (e.g., by compaction or a
+     * reindex).
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_COMPRESSED_CHUNKS = false;
+
+    /**
+     * Skip search indexing for writes that are offset by another write about
+     * the same key, value and record within the same batch
+     * {@link Transporter transport}.
+     * <p>
+     * Every write is still stored, so the history of the data is
+     * unaffected, but workloads that repeatedly overwrite the same fields
+     * (e.g., counters or status fields) do much less search indexing. This
+     * only has an effect when {@link #ENABLE_BATCH_TRANSPORTS batch
+     * transports} are enabled.
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_BATCH_WRITE_COALESCING = false;
+
+    /**
+     * Share each fsync of the Buffer among concurrent durable writes instead
+     * of performing an fsync for each write.
+     * <p>
+     * Each write still only returns once it is durable, but it waits up to
+     * {@link #BUFFER_GROUP_SYNC_INTERVAL} milliseconds (or until
+     * {@link #BUFFER_GROUP_SYNC_THRESHOLD} bytes are pending) so that other
+     * concurrent writes can be made durable by the same fsync. This greatly
+     * increases write throughput when there are many concurrent clients, at
+     * the expense of slightly higher latency for a lone writer.
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_BUFFER_GROUP_SYNC = false;
+
+    /**
+     * Once a Database cache is full, only cache a record that is loaded from
+     * disk if it has been requested recently, and don't let the garbage
+     * collector clear cached records.
+     * <p>
+     * A compact frequency sketch tracks how often each record is requested.
+     * Until a cache first evicts a record to stay within its memory limit,
+     * every loaded record is cached. After that, a record that is requested
+     * once (e.g., during a scan of a wide index) is loaded without being
+     * cached, so it can't displace the records that are repeatedly requested. Since the caches no longer churn, cached records
+     * are strongly held and only evicted when a cache exceeds its memory
+     * limit, which avoids the garbage collection pauses that occur when many
+     * softly held records are cleared at once.
+     * </p>
+     */
+    @Experimental
+    public static boolean ENABLE_CACHE_ADMISSION_CONTROL = false;
+
     /**
      * Use a more memory-efficient representation for storage metadata.
      * <p>
@@ -445,6 +640,13 @@ public final class GlobalState extends Constants {
         BUFFER_PAGE_SIZE = (int) config.getSize("buffer_page_size",
                 BUFFER_PAGE_SIZE);
 
+        BUFFER_GROUP_SYNC_INTERVAL = config.getOrDefault(
+                "buffer_group_sync_interval", Interpreters.numberOrNull(),
+                BUFFER_GROUP_SYNC_INTERVAL);
+
+        BUFFER_GROUP_SYNC_THRESHOLD = config.getSize(
+                "buffer_group_sync_threshold", BUFFER_GROUP_SYNC_THRESHOLD);
+
         CLIENT_PORT = config.getOrDefault("client_port",
                 Interpreters.numberOrNull(), CLIENT_PORT);
 
@@ -509,6 +711,50 @@ public final class GlobalState extends Constants {
         ENABLE_VERIFY_BY_LOOKUP = config.getOrDefault("enable_verify_by_lookup",
                 Interpreters.booleanOrNull(), ENABLE_VERIFY_BY_LOOKUP);
 
+        ENABLE_PARTIAL_INDEX_LOADING = config.getOrDefault(
+                "enable_partial_index_loading", Interpreters.booleanOrNull(),
+                ENABLE_PARTIAL_INDEX_LOADING);
+
+        ENABLE_TRIGRAM_SEARCH_INDEX = config.getOrDefault(
+                "enable_trigram_search_index", Interpreters.booleanOrNull(),
+                ENABLE_TRIGRAM_SEARCH_INDEX);
+
+        ENABLE_TIERED_COMPACTION = config.getOrDefault(
+                "enable_tiered_compaction", Interpreters.booleanOrNull(),
+                ENABLE_TIERED_COMPACTION);
+
+        TIERED_COMPACTION_FANOUT = config.getOrDefault(
+                "tiered_compaction_fanout", Interpreters.numberOrNull(),
+                TIERED_COMPACTION_FANOUT);
+
+        ENABLE_VIRTUAL_THREAD_WORKERS = config.getOrDefault(
+                "enable_virtual_thread_workers", Interpreters.booleanOrNull(),
+                ENABLE_VIRTUAL_THREAD_WORKERS);
+
+        ENABLE_BLOCKED_BLOOM_FILTERS = config.getOrDefault(
+                "enable_blocked_bloom_filters", Interpreters.booleanOrNull(),
+                ENABLE_BLOCKED_BLOOM_FILTERS);
+
+        ENABLE_SORTED_MANIFESTS = config.getOrDefault(
+                "enable_sorted_manifests", Interpreters.booleanOrNull(),
+                ENABLE_SORTED_MANIFESTS);
+
+        ENABLE_COMPRESSED_CHUNKS = config.getOrDefault(
+                "enable_compressed_chunks", Interpreters.booleanOrNull(),
+                ENABLE_COMPRESSED_CHUNKS);
+
+        ENABLE_BATCH_WRITE_COALESCING = config.getOrDefault(
+                "enable_batch_write_coalescing", Interpreters.booleanOrNull(),
+                ENABLE_BATCH_WRITE_COALESCING);
+
+        ENABLE_BUFFER_GROUP_SYNC = config.getOrDefault(
+                "enable_buffer_group_sync", Interpreters.booleanOrNull(),
+                ENABLE_BUFFER_GROUP_SYNC);
+
+        ENABLE_CACHE_ADMISSION_CONTROL = config.getOrDefault(
+                "enable_cache_admission_control", Interpreters.booleanOrNull(),
+                ENABLE_CACHE_ADMISSION_CONTROL);
+
         INIT_ROOT_PASSWORD = config.getOrDefault("init.root.password",
                 config.getOrDefault("init_root_password", INIT_ROOT_PASSWORD));
 
@@ -527,6 +773,9 @@ public final class GlobalState extends Constants {
             NUM_TRANSPORTER_THREADS = config.getOrDefault(
                     "transporter.num_threads", Interpreters.numberOrNull(),
                     NUM_TRANSPORTER_THREADS);
+            MAX_TRANSPORT_BACKLOG = config.getOrDefault(
+                    "transporter.max_backlog", Interpreters.numberOrNull(),
+                    MAX_TRANSPORT_BACKLOG);
             USE_FAIR_TRANSPORT_LOCK = !config.getOrDefault(
                     "transporter.passive", Interpreters.booleanOrNull(), false);
         }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import javax.annotation.Nullable;
+
+/**
+ * Tools for using virtual threads when the JVM that runs Concourse Server
+ * supports them.
+ * <p>
+ * Virtual threads are only available on newer JDKs, so they are accessed
+ * reflectively to keep Concourse Server compatible with older runtimes.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+public final class VirtualThreads {
+
+    /**
+     * A {@link ThreadFactory} that creates virtual threads named with a
+     * {@code prefix} followed by a counter, or {@code null} if the JVM doesn't
+     * support virtual threads.
+     *
+     * @param prefix
+     * @return the {@link ThreadFactory} or {@code null}
+     */
+    @Nullable
+    public static ThreadFactory factory(String prefix) {
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Object virtual = Thread.class.getMethod("ofVirtual").invoke(null);
+            virtual = builder.getMethod("name", String.class, long.class)
+                    .invoke(virtual, prefix, 0L);
+            return (ThreadFactory) builder.getMethod("factory")
+                    .invoke(virtual);
+        }
+        catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Return {@code true} if the JVM supports virtual threads.
+     *
+     * @return a boolean that indicates whether virtual threads are supported
+     */
+    public static boolean isSupported() {
+        return factory("") != null;
+    }
+
+    /**
+     * Return an {@link ExecutorService} that starts a new virtual thread for
+     * each task, or {@code null} if the JVM doesn't support virtual threads.
+     * <p>
+     * Each thread is named with the {@code prefix} followed by a counter.
+     * </p>
+     *
+     * @param prefix
+     * @return the {@link ExecutorService} or {@code null}
+     */
+    @Nullable
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = factory(prefix);
+        if(factory != null) {
+            try {
+                Method method = Executors.class.getMethod(
+                        "newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) method.invoke(null, factory);
+            }
+            catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+        else {
+            return null;
+        }
+    }
+
+    private VirtualThreads() {/* no-init */}
+
+}
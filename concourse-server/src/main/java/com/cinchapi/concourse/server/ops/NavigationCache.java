@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.ops;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.cinchapi.concourse.server.storage.AtomicOperation;
+import com.cinchapi.concourse.thrift.TObject;
+import com.cinchapi.concourse.validate.Keys.KeyType;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * A {@link NavigationCache} remembers the data that is read from each record
+ * that is reached while traversing {@link KeyType#NAVIGATION_KEY navigation
+ * keys} from many records during a single operation.
+ * <p>
+ * When many source records link to the same destinations (e.g., employees
+ * that link to a handful of employers), each destination is only read once
+ * per operation, no matter how many source records reach it, instead of once
+ * per source record. A {@link NavigationCache} must only be used within the
+ * scope of a single read (e.g., the same {@link AtomicOperation} or
+ * timestamp) so that the remembered data is never stale.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+@NotThreadSafe
+final class NavigationCache {
+
+    /**
+     * The values for individual keys in destination records that were looked
+     * up, mapping each key to each record to its values.
+     */
+    private final Map<String, Map<Long, Set<TObject>>> lookups = new HashMap<>();
+
+    /**
+     * The entire contents of destination records that were selected.
+     */
+    private final Map<Long, Map<String, Set<TObject>>> records = new HashMap<>();
+
+    /**
+     * Return the values for {@code key} in {@code record}, using the
+     * {@code loader} if they haven't been read before.
+     *
+     * @param key
+     * @param record
+     * @param loader
+     * @return the values
+     */
+    public Set<TObject> lookup(String key, long record,
+            Supplier<Set<TObject>> loader) {
+        Map<String, Set<TObject>> data = records.get(record);
+        if(data != null) {
+            return data.getOrDefault(key, ImmutableSet.of());
+        }
+        else {
+            return lookups.computeIfAbsent(key, $ -> new HashMap<>())
+                    .computeIfAbsent(record, $ -> loader.get());
+        }
+    }
+
+    /**
+     * Return the entire contents of {@code record}, using the {@code loader}
+     * if it hasn't been selected before.
+     *
+     * @param record
+     * @param loader
+     * @return the contents of the {@code record}
+     */
+    public Map<String, Set<TObject>> select(long record,
+            Supplier<Map<String, Set<TObject>>> loader) {
+        return records.computeIfAbsent(record, $ -> loader.get());
+    }
+
+}
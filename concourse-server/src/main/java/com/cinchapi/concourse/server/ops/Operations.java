@@ -29,6 +29,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import com.cinchapi.ccl.syntax.AbstractSyntaxTree;
 import com.cinchapi.common.base.StringSplitter;
 import com.cinchapi.concourse.Constants;
@@ -64,6 +66,7 @@ import com.cinchapi.concourse.util.Navigation;
 import com.cinchapi.concourse.util.Numbers;
 import com.cinchapi.concourse.util.TMaps;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -636,7 +639,7 @@ public final class Operations {
                 // key.
                 staging.put(record, TObject.NULL);
             }
-            sortByValue(staging, order, timestamp, store);
+            sortByValue(staging, order, page, timestamp, store);
             records = Paging.page(staging.keySet(), page);
             order = NoOrder.INSTANCE;
             page = NoPage.INSTANCE;
@@ -657,7 +660,7 @@ public final class Operations {
         // If sorting was requested, but it was not previously applied in this
         // method during an shortcut optimization, apply it here. This is a
         // no-op if order == NoOrder.
-        sortByValue(data, order, timestamp, store);
+        sortByValue(data, order, page, timestamp, store);
 
         // If pagination was requested ,but was not previously applied in this
         // method during a shortcut optimization, perform it here. This is a
@@ -807,7 +810,7 @@ public final class Operations {
             for (long record : records) {
                 staging.put(record, ImmutableMap.of());
             }
-            sortByValue(staging, order, timestamp, store);
+            sortByValue(staging, order, page, timestamp, store);
             records = Paging.page(staging.keySet(), page);
             order = NoOrder.INSTANCE;
             page = NoPage.INSTANCE;
@@ -830,7 +833,7 @@ public final class Operations {
         // If sorting was requested, but it was not previously applied in this
         // method during an shortcut optimization, apply it here. This is a
         // no-op if order == NoOrder.
-        sortByValue(data, order, timestamp, store);
+        sortByValue(data, order, page, timestamp, store);
 
         // If pagination was requested ,but was not previously applied in this
         // method during a shortcut optimization, perform it here. This is a
@@ -917,7 +920,7 @@ public final class Operations {
         // If sorting was requested, but it was not previously applied in this
         // method during an shortcut optimization, apply it here. This is a
         // no-op if order == NoOrder.
-        sortByValue(data, order, timestamp, store);
+        sortByValue(data, order, page, timestamp, store);
 
         // If pagination was requested ,but was not previously applied in this
         // method during a shortcut optimization, perform it here. This is a
@@ -1512,16 +1515,20 @@ public final class Operations {
                 // order key.
                 staging.put(record, ImmutableSet.of());
             }
-            sortByValues(staging, order, timestamp, store);
+            sortByValues(staging, order, page, timestamp, store);
             records = Paging.page(staging.keySet(), page);
             order = NoOrder.INSTANCE;
             page = NoPage.INSTANCE;
         }
+        // Remember the destinations of any navigation so that the ones that
+        // are shared by many of the #records are only read once
+        NavigationCache cache = new NavigationCache();
+        Collection<String> keys = ImmutableList.of(key);
         for (long record : records) {
             try {
-                Set<TObject> values = timestamp == Time.NONE
-                        ? Stores.select(store, key, record)
-                        : Stores.select(store, key, record, timestamp);
+                Set<TObject> values = Stores
+                        .select(store, keys, record, timestamp, cache)
+                        .get(key);
                 data.put(record, values);
             }
             catch (NoSuchElementException e) {
@@ -1532,7 +1539,7 @@ public final class Operations {
         // If sorting was requested, but it was not previously applied in this
         // method during an shortcut optimization, apply it here. This is a
         // no-op if order == NoOrder.
-        sortByValues(data, order, timestamp, store);
+        sortByValues(data, order, page, timestamp, store);
 
         // If pagination was requested ,but was not previously applied in this
         // method during a shortcut optimization, perform it here. This is a
@@ -1680,15 +1687,17 @@ public final class Operations {
             for (long record : records) {
                 staging.put(record, ImmutableMap.of());
             }
-            sortByValues(staging, order, timestamp, store);
+            sortByValues(staging, order, page, timestamp, store);
             records = Paging.page(staging.keySet(), page);
             order = NoOrder.INSTANCE;
             page = NoPage.INSTANCE;
         }
+        // Remember the destinations of any navigation so that the ones that
+        // are shared by many of the #records are only read once
+        NavigationCache cache = new NavigationCache();
         for (long record : records) {
-            Map<String, Set<TObject>> row = timestamp == Time.NONE
-                    ? Stores.select(store, keys, record)
-                    : Stores.select(store, keys, record, timestamp);
+            Map<String, Set<TObject>> row = Stores.select(store, keys, record,
+                    timestamp, cache);
             if(!row.isEmpty()) {
                 TMaps.putResultDatasetOptimized(data, record, row);
             }
@@ -1696,7 +1705,7 @@ public final class Operations {
         // If sorting was requested, but it was not previously applied in this
         // method during an shortcut optimization, apply it here. This is a
         // no-op if order == NoOrder.
-        sortByValues(data, order, timestamp, store);
+        sortByValues(data, order, page, timestamp, store);
 
         // If pagination was requested ,but was not previously applied in this
         // method during a shortcut optimization, perform it here. This is a
@@ -1778,7 +1787,7 @@ public final class Operations {
         // If sorting was requested, but it was not previously applied in this
         // method during an shortcut optimization, apply it here. This is a
         // no-op if order == NoOrder.
-        sortByValues(data, order, timestamp, store);
+        sortByValues(data, order, page, timestamp, store);
 
         // If pagination was requested ,but was not previously applied in this
         // method during a shortcut optimization, perform it here. This is a
@@ -1917,6 +1926,30 @@ public final class Operations {
      */
     public static Set<TObject> traverseKeyRecordOptionalAtomic(String key,
             long record, long timestamp, Store store) {
+        return traverseKeyRecordOptionalAtomic(key, record, timestamp, store,
+                null);
+    }
+
+    /**
+     * Atomically traverse a navigation {@code key} from {@code record} and
+     * return the values that are at the end of the path.
+     * <p>
+     * If a {@code cache} is provided, it is used to avoid reading the same
+     * key in the same record more than once when many traversals pass through
+     * it during the same operation.
+     * </p>
+     * 
+     * @param key
+     * @param record
+     * @param timestamp
+     * @param store
+     * @param cache
+     * @return all the values that can be reached by traversing the document
+     *         graph along {@code key} from {@code record}
+     */
+    private static Set<TObject> traverseKeyRecordOptionalAtomic(String key,
+            long record, long timestamp, Store store,
+            @Nullable NavigationCache cache) {
         String[] toks = key.split("\\.");
         Set<TObject> values = Sets.newLinkedHashSet();
         Set<Long> nodes = ImmutableSet.of(record);
@@ -1924,9 +1957,13 @@ public final class Operations {
             key = toks[i];
             Set<Long> descendents = Sets.newLinkedHashSet();
             for (long node : nodes) {
-                Set<TObject> $values = timestamp == Time.NONE
-                        ? Stores.select(store, key, node)
-                        : Stores.select(store, key, node, timestamp);
+                String stop = key;
+                Supplier<Set<TObject>> loader = () -> timestamp == Time.NONE
+                        ? Stores.select(store, stop, node)
+                        : Stores.select(store, stop, node, timestamp);
+                Set<TObject> $values = cache != null
+                        ? cache.lookup(stop, node, loader)
+                        : loader.get();
                 if(i == toks.length - 1) {
                     values.addAll($values);
                 }
@@ -1961,9 +1998,10 @@ public final class Operations {
     public static Map<Long, Set<TObject>> traverseKeyRecordsOptionalAtomic(
             String key, Collection<Long> records, long timestamp, Store store) {
         Map<Long, Set<TObject>> data = Maps.newLinkedHashMap();
+        NavigationCache cache = new NavigationCache();
         for (long record : records) {
             Set<TObject> values = traverseKeyRecordOptionalAtomic(key, record,
-                    timestamp, store);
+                    timestamp, store, cache);
             if(!values.isEmpty()) {
                 data.put(record, values);
             }
@@ -1986,10 +2024,32 @@ public final class Operations {
      */
     public static Map<String, Set<TObject>> traverseKeysRecordOptionalAtomic(
             Collection<String> keys, long record, long timestamp, Store store) {
+        return traverseKeysRecordOptionalAtomic(keys, record, timestamp, store,
+                new NavigationCache());
+    }
+
+    /**
+     * Atomically traverse each of the navigation {@code keys} from
+     * {@code record} and map each key to the values that are at the end of the
+     * path, using the {@code cache} to avoid reading the same key in the same
+     * record more than once.
+     * 
+     * @param keys
+     * @param record
+     * @param timestamp
+     * @param store
+     * @param cache
+     * @return a mapping from each of the {@code keys} to all of the values that
+     *         can be reached by traversing the document graph along the key
+     *         from {@code record}
+     */
+    private static Map<String, Set<TObject>> traverseKeysRecordOptionalAtomic(
+            Collection<String> keys, long record, long timestamp, Store store,
+            NavigationCache cache) {
         Map<String, Set<TObject>> data = Maps.newLinkedHashMap();
         for (String key : keys) {
             Set<TObject> values = traverseKeyRecordOptionalAtomic(key, record,
-                    timestamp, store);
+                    timestamp, store, cache);
             if(!values.isEmpty()) {
                 data.put(key, values);
             }
@@ -2014,9 +2074,10 @@ public final class Operations {
             Collection<String> keys, Collection<Long> records, long timestamp,
             Store store) {
         Map<Long, Map<String, Set<TObject>>> data = Maps.newLinkedHashMap();
+        NavigationCache cache = new NavigationCache();
         for (long record : records) {
             Map<String, Set<TObject>> entry = traverseKeysRecordOptionalAtomic(
-                    keys, record, timestamp, store);
+                    keys, record, timestamp, store, cache);
             if(!entry.isEmpty()) {
                 data.put(record, entry);
             }
@@ -2132,17 +2193,19 @@ public final class Operations {
      * 
      * @param data the sortable collection to be ordered by its value
      * @param order the ordering specification to apply
+     * @param page the page that is subsequently applied, so only the entries
+     *            that may be on it are kept
      * @param timestamp the timestamp at which to view the data, or
      *            {@link Time#NONE} for current data
      * @param store the data store to use for comparison operations
      */
     private static void sortByValue(Sortable<TObject> data, Order order,
-            long timestamp, Store store) {
+            Page page, long timestamp, Store store) {
         if(timestamp == Time.NONE) {
-            data.sort(Sorting.byValue(order, store));
+            data.sort(Sorting.byValue(order, store, page));
         }
         else {
-            data.sort(Sorting.byValue(order, store), timestamp);
+            data.sort(Sorting.byValue(order, store, page), timestamp);
         }
     }
 
@@ -2153,17 +2216,19 @@ public final class Operations {
      * 
      * @param data the sortable collection to be ordered by its values
      * @param order the ordering specification to apply
+     * @param page the page that is subsequently applied, so only the entries
+     *            that may be on it are kept
      * @param timestamp the timestamp at which to view the data, or
      *            {@link Time#NONE} for current data
      * @param store the data store to use for comparison operations
      */
     private static void sortByValues(Sortable<Set<TObject>> data, Order order,
-            long timestamp, Store store) {
+            Page page, long timestamp, Store store) {
         if(timestamp == Time.NONE) {
-            data.sort(Sorting.byValues(order, store));
+            data.sort(Sorting.byValues(order, store, page));
         }
         else {
-            data.sort(Sorting.byValues(order, store), timestamp);
+            data.sort(Sorting.byValues(order, store, page), timestamp);
         }
     }
 
@@ -32,6 +32,7 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -300,6 +301,31 @@ public final class Stores {
      */
     public static Map<String, Set<TObject>> select(Store store,
             Collection<String> keys, long record, long timestamp) {
+        return select(store, keys, record, timestamp, null);
+    }
+
+    /**
+     * Select all of the {@code keys} from {@code record} at {@code timestamp}
+     * within {@code store}.
+     * <p>
+     * If a {@link NavigationCache} is provided, the data that is read from
+     * each record that is reached while traversing
+     * {@link KeyType#NAVIGATION_KEY navigation keys} is remembered, so that
+     * selecting the same {@code keys} from other records in the same operation
+     * doesn't read the shared destinations again.
+     * </p>
+     * 
+     * @param store
+     * @param keys
+     * @param record
+     * @param timestamp
+     * @param cache
+     * @return a mapping from each of the {@code keys} to the data held for it
+     *         in {@code record} at {@code timestamp} within {@code store}
+     */
+    static Map<String, Set<TObject>> select(Store store,
+            Collection<String> keys, long record, long timestamp,
+            @Nullable NavigationCache cache) {
         // TODO: does this need an atomic operation?
         if(keys.isEmpty()) {
             return ImmutableMap.of();
@@ -394,9 +420,12 @@ public final class Stores {
                                     // selected from each record, so it makes
                                     // sense to select the entire record from
                                     // the Engine, once
-                                    intermediate = timestamp == Time.NONE
+                                    Supplier<Map<String, Set<TObject>>> loader = () -> timestamp == Time.NONE
                                             ? store.select(link)
                                             : store.select(link, timestamp);
+                                    intermediate = cache != null
+                                            ? cache.select(link, loader)
+                                            : loader.get();
                                 }
                                 for (Node successor : successors) {
                                     String stop = successor.stop;
@@ -404,9 +433,13 @@ public final class Stores {
                                         // This means there is only 1 successor,
                                         // so the lookup should defer to the
                                         // Strategy framework
+                                        Supplier<Set<TObject>> loader = () -> lookupWithStrategy(
+                                                store, stop, link, timestamp);
                                         intermediate = ImmutableMap.of(stop,
-                                                lookupWithStrategy(store, stop,
-                                                        link, timestamp));
+                                                cache != null
+                                                        ? cache.lookup(stop,
+                                                                link, loader)
+                                                        : loader.get());
                                     }
                                     Set<TObject> values = intermediate
                                             .get(stop);
@@ -17,6 +17,7 @@ package com.cinchapi.concourse.server.query;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -61,34 +62,74 @@ public class Finder extends ConditionTreeVisitor<Set<Long>> {
         return INSTANCE;
     }
 
+    /**
+     * Return the {@code candidates} that satisfy the expression in
+     * {@code tree}, by looking up and checking the values that are stored for
+     * the expression's key in each candidate record.
+     * 
+     * @param tree
+     * @param candidates
+     * @param store
+     * @return the records that satisfy the expression
+     */
+    private static Set<Long> verify(ExpressionTree tree, Set<Long> candidates,
+            Store store) {
+        ExpressionSymbol expression = ((ExpressionSymbol) tree.root());
+        String key = expression.raw().key();
+        Operator operator = (Operator) expression.raw().operator();
+        ArrayBuilder<TObject> builder = ArrayBuilder.builder();
+        expression.values().forEach(
+                value -> builder.add(Convert.javaToThrift(value.value())));
+        TObject[] values = builder.build();
+        boolean present = expression.timestamp() == TimestampSymbol.PRESENT
+                || expression.timestamp() == null;
+        long timestamp = expression.raw().timestamp();
+        Set<Long> results = new LinkedHashSet<>();
+        for (long record : candidates) {
+            Set<TObject> stored = present ? store.select(key, record)
+                    : store.select(key, record, timestamp);
+            for (TObject value : stored) {
+                if(value.isIgnoreCase(operator, values)) {
+                    results.add(record);
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
     private Finder() {/* singleton */}
 
     @Override
     public Set<Long> visit(ConjunctionTree tree, Object... data) {
         if(tree.root() == ConjunctionSymbol.AND) {
-            Set<Long> a;
-            AbstractSyntaxTree bTree;
-            // Attempt to short circuit by evaluating the leaf node first to see
-            // if its result set is empty
-            if(!tree.left().isLeaf() && tree.right().isLeaf()) {
-                a = tree.right().accept(this, data);
-                bTree = tree.left();
-            }
-            else {
-                a = tree.left().accept(this, data);
-                bTree = tree.right();
-            }
-            if(a.isEmpty()) {
-                // Since the AND conjunction takes the intersection, we know
-                // that the result set is empty, regardless of what evaluation
-                // is done to the second branch
-                return Collections.emptySet();
-            }
-            else {
-                Set<Long> b = bTree.accept(this, data);
-                Set<Long> results = TSets.intersection(a, b);
-                return results;
+            Verify.that(data.length >= 1);
+            Verify.that(data[0] instanceof Store);
+            Store store = (Store) data[0];
+            // Evaluate the operands in order of increasing cost so that the
+            // most selective ones narrow the candidate records first. Once
+            // there are few enough candidates, it is cheaper to verify each of
+            // them than to load the index for an operand.
+            Set<Long> results = null;
+            for (AbstractSyntaxTree operand : Planner.plan(tree, store)) {
+                if(results == null) {
+                    results = operand.accept(this, data);
+                }
+                else if(Planner.shouldVerify(operand, results.size(), store)) {
+                    results = verify((ExpressionTree) operand, results, store);
+                }
+                else {
+                    results = TSets.intersection(results,
+                            operand.accept(this, data));
+                }
+                if(results.isEmpty()) {
+                    // Since the AND conjunction takes the intersection, we
+                    // know that the result set is empty, regardless of what
+                    // evaluation is done to the remaining operands
+                    return Collections.emptySet();
+                }
             }
+            return results;
         }
         else {
             Set<Long> left = tree.left().accept(this, data);
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.cinchapi.ccl.grammar.ConjunctionSymbol;
+import com.cinchapi.ccl.grammar.ExpressionSymbol;
+import com.cinchapi.ccl.syntax.AbstractSyntaxTree;
+import com.cinchapi.ccl.syntax.ConjunctionTree;
+import com.cinchapi.ccl.syntax.ExpressionTree;
+import com.cinchapi.ccl.type.Function;
+import com.cinchapi.common.base.AnyStrings;
+import com.cinchapi.concourse.Constants;
+import com.cinchapi.concourse.server.storage.Store;
+import com.cinchapi.concourse.thrift.Operator;
+import com.cinchapi.concourse.validate.Keys;
+import com.cinchapi.concourse.validate.Keys.KeyType;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+/**
+ * A {@link Planner} decides the order in which the operands of a conjunction
+ * are evaluated by the {@link Finder} and whether an operand can be evaluated
+ * by verifying each of the candidate records that have already been found
+ * instead of by loading an index.
+ * <p>
+ * Plans are based on a heuristic cost for each operand that multiplies the
+ * estimated selectivity of the operand's {@link Operator} with the relative
+ * effort of evaluating the operand, given the type of key and whether the
+ * {@link Store} has already loaded the index for that key into
+ * {@link Store#memory() memory}.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+public final class Planner {
+
+    /**
+     * The maximum number of candidate records for which it is preferable to
+     * verify an operand against each record instead of loading the index for
+     * the operand's key.
+     */
+    static final int MAX_VERIFICATION_CANDIDATES = 1000;
+
+    /**
+     * The estimated fraction of records that satisfy an expression that uses
+     * each {@link Operator}.
+     */
+    // @formatter:off
+    private static final Map<Operator, Double> SELECTIVITY = ImmutableMap
+            .<Operator, Double> builder()
+            .put(Operator.EQUALS, 0.01)
+            .put(Operator.LINKS_TO, 0.01)
+            .put(Operator.BETWEEN, 0.1)
+            .put(Operator.CONTAINS, 0.1)
+            .put(Operator.GREATER_THAN, 0.33)
+            .put(Operator.GREATER_THAN_OR_EQUALS, 0.33)
+            .put(Operator.LESS_THAN, 0.33)
+            .put(Operator.LESS_THAN_OR_EQUALS, 0.33)
+            .put(Operator.REGEX, 0.5)
+            .put(Operator.NOT_REGEX, 0.9)
+            .put(Operator.NOT_CONTAINS, 0.9)
+            .put(Operator.NOT_EQUALS, 0.99)
+            .build();
+    // @formatter:on
+
+    /**
+     * Return a description of the plan that the {@link Finder} follows to
+     * evaluate the {@code tree} against the {@code store}.
+     *
+     * @param tree
+     * @param store
+     * @return the plan
+     */
+    public static String explain(AbstractSyntaxTree tree, Store store) {
+        StringBuilder sb = new StringBuilder();
+        explain(tree, store, 0, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Return the operands of the {@code tree}, which must be an {@code AND}
+     * conjunction, in the order that they should be evaluated.
+     * <p>
+     * Nested {@code AND} conjunctions are flattened so that all of their
+     * operands can be ordered together.
+     * </p>
+     *
+     * @param tree
+     * @param store
+     * @return the ordered operands
+     */
+    static List<AbstractSyntaxTree> plan(ConjunctionTree tree, Store store) {
+        List<AbstractSyntaxTree> operands = new ArrayList<>();
+        flatten(tree, operands);
+        Map<AbstractSyntaxTree, Double> costs = Maps.newIdentityHashMap();
+        for (AbstractSyntaxTree operand : operands) {
+            costs.put(operand, cost(operand, store));
+        }
+        operands.sort(Comparator.comparing(costs::get));
+        return operands;
+    }
+
+    /**
+     * Return {@code true} if the {@link Finder} should evaluate the
+     * {@code operand} by verifying whether each of the {@code candidates}
+     * satisfies it instead of finding all the records that satisfy it and
+     * taking the intersection.
+     *
+     * @param operand
+     * @param candidates
+     * @param store
+     * @return a boolean that indicates whether the {@code operand} should be
+     *         verified
+     */
+    static boolean shouldVerify(AbstractSyntaxTree operand, int candidates,
+            Store store) {
+        return candidates <= MAX_VERIFICATION_CANDIDATES
+                && isVerifiable(operand) && !store.memory()
+                        .contains(((ExpressionSymbol) operand.root()).raw()
+                                .key());
+    }
+
+    /**
+     * Return the estimated cost of evaluating the {@code tree} against the
+     * {@code store}.
+     *
+     * @param tree
+     * @param store
+     * @return the cost
+     */
+    private static double cost(AbstractSyntaxTree tree, Store store) {
+        if(tree instanceof ConjunctionTree) {
+            ConjunctionTree conjunction = (ConjunctionTree) tree;
+            double left = cost(conjunction.left(), store);
+            double right = cost(conjunction.right(), store);
+            return conjunction.root() == ConjunctionSymbol.AND
+                    ? Math.min(left, right)
+                    : left + right;
+        }
+        else {
+            ExpressionSymbol expression = (ExpressionSymbol) tree.root();
+            String key = expression.raw().key();
+            Operator operator = (Operator) expression.raw().operator();
+            if(key.equals(Constants.JSON_RESERVED_IDENTIFIER_NAME)) {
+                // Evaluating a record id doesn't require any lookups
+                return operator == Operator.EQUALS ? 0 : 1;
+            }
+            double selectivity = SELECTIVITY.getOrDefault(operator, 1.0);
+            double effort;
+            KeyType type = Keys.parse(key).type();
+            if(type == KeyType.NAVIGATION_KEY) {
+                effort = 10;
+            }
+            else if(type == KeyType.FUNCTION_KEY) {
+                effort = 20;
+            }
+            else if(store.memory().contains(key)) {
+                effort = 1;
+            }
+            else {
+                effort = 2;
+            }
+            return selectivity * effort;
+        }
+    }
+
+    /**
+     * Append a description of the plan for {@code tree} to {@code sb}.
+     *
+     * @param tree
+     * @param store
+     * @param depth
+     * @param sb
+     */
+    private static void explain(AbstractSyntaxTree tree, Store store,
+            int depth, StringBuilder sb) {
+        for (int i = 0; i < depth; ++i) {
+            sb.append("  ");
+        }
+        if(tree instanceof ConjunctionTree) {
+            ConjunctionTree conjunction = (ConjunctionTree) tree;
+            List<AbstractSyntaxTree> operands;
+            if(conjunction.root() == ConjunctionSymbol.AND) {
+                sb.append("AND (ordered by cost)");
+                operands = plan(conjunction, store);
+            }
+            else {
+                sb.append("OR");
+                operands = new ArrayList<>();
+                operands.add(conjunction.left());
+                operands.add(conjunction.right());
+            }
+            sb.append(AnyStrings.format(" [cost={}]",
+                    String.format("%.4f", cost(tree, store))));
+            sb.append(System.lineSeparator());
+            for (AbstractSyntaxTree operand : operands) {
+                explain(operand, store, depth + 1, sb);
+            }
+        }
+        else {
+            ExpressionSymbol expression = (ExpressionSymbol) tree.root();
+            String key = expression.raw().key();
+            String source;
+            if(isVerifiable(tree) && !store.memory().contains(key)) {
+                source = AnyStrings.format(
+                        "VERIFY if at most {} candidates, otherwise INDEX",
+                        MAX_VERIFICATION_CANDIDATES);
+            }
+            else {
+                source = "INDEX";
+            }
+            sb.append(AnyStrings.format("{} {} {} [cost={}, source={}]", key,
+                    expression.raw().operator(), expression.raw().values(),
+                    String.format("%.4f", cost(tree, store)), source));
+            sb.append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Add the operands of the {@code tree} to {@code operands}, recursively
+     * adding the operands of any nested {@code AND} conjunctions.
+     *
+     * @param tree
+     * @param operands
+     */
+    private static void flatten(ConjunctionTree tree,
+            List<AbstractSyntaxTree> operands) {
+        for (AbstractSyntaxTree operand : new AbstractSyntaxTree[] {
+                tree.left(), tree.right() }) {
+            if(operand instanceof ConjunctionTree
+                    && operand.root() == ConjunctionSymbol.AND) {
+                flatten((ConjunctionTree) operand, operands);
+            }
+            else {
+                operands.add(operand);
+            }
+        }
+    }
+
+    /**
+     * Return {@code true} if {@code tree} is an expression that can be
+     * evaluated by verifying the values that are stored for its key in a
+     * candidate record.
+     *
+     * @param tree
+     * @return a boolean that indicates whether {@code tree} is verifiable
+     */
+    private static boolean isVerifiable(AbstractSyntaxTree tree) {
+        if(tree instanceof ExpressionTree) {
+            ExpressionSymbol expression = (ExpressionSymbol) tree.root();
+            String key = expression.raw().key();
+            switch ((Operator) expression.raw().operator()) {
+            case EQUALS:
+            case NOT_EQUALS:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUALS:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUALS:
+            case BETWEEN:
+                return Keys.parse(key).type() == KeyType.WRITABLE_KEY
+                        && expression.raw().values().stream()
+                                .noneMatch(value -> value instanceof Function);
+            default:
+                return false;
+            }
+        }
+        else {
+            return false;
+        }
+    }
+
+    private Planner() {/* no-init */}
+
+}
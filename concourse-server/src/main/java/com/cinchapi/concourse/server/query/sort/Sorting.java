@@ -22,6 +22,8 @@ import java.util.stream.Stream;
 
 import com.cinchapi.concourse.EmptyOperationException;
 import com.cinchapi.concourse.data.sort.Sorter;
+import com.cinchapi.concourse.lang.paginate.NoPage;
+import com.cinchapi.concourse.lang.paginate.Page;
 import com.cinchapi.concourse.lang.sort.NoOrder;
 import com.cinchapi.concourse.lang.sort.Order;
 import com.cinchapi.concourse.server.ops.Stores;
@@ -45,8 +47,24 @@ public final class Sorting {
      * @return the {@link StoreSorter}
      */
     public static Sorter<TObject> byValue(Order order, Store store) {
+        return byValue(order, store, NoPage.INSTANCE);
+    }
+
+    /**
+     * Return a {@link StoreSorter} that sorts a result set containing scalar
+     * values and only keeps the entries that are needed to subsequently
+     * {@link com.cinchapi.concourse.server.query.paginate.Paging#page(Map, Page)
+     * apply} the {@code page}.
+     * 
+     * @param order
+     * @param store
+     * @param page
+     * @return the {@link StoreSorter}
+     */
+    public static Sorter<TObject> byValue(Order order, Store store,
+            Page page) {
         return order instanceof NoOrder ? new NoOrderSorter<>()
-                : new ByValueSorter(order, store);
+                : new ByValueSorter(order, store, limit(page));
     }
 
     /**
@@ -58,8 +76,41 @@ public final class Sorting {
      * @return the {@link StoreSorter}
      */
     public static Sorter<Set<TObject>> byValues(Order order, Store store) {
+        return byValues(order, store, NoPage.INSTANCE);
+    }
+
+    /**
+     * Return a {@link StoreSorter} that sorts a result set containing a set of
+     * values and only keeps the entries that are needed to subsequently
+     * {@link com.cinchapi.concourse.server.query.paginate.Paging#page(Map, Page)
+     * apply} the {@code page}.
+     * 
+     * @param order
+     * @param store
+     * @param page
+     * @return the {@link StoreSorter}
+     */
+    public static Sorter<Set<TObject>> byValues(Order order, Store store,
+            Page page) {
         return order instanceof NoOrder ? new NoOrderSorter<>()
-                : new ByValuesSorter(order, store);
+                : new ByValuesSorter(order, store, limit(page));
+    }
+
+    /**
+     * Return the number of sorted entries that must be kept in order to
+     * subsequently apply the {@code page}.
+     * 
+     * @param page
+     * @return the limit
+     */
+    private static int limit(Page page) {
+        if(page instanceof NoPage) {
+            return Integer.MAX_VALUE;
+        }
+        else {
+            return (int) Math.min((long) page.skip() + page.limit(),
+                    Integer.MAX_VALUE);
+        }
     }
 
     private Sorting() {/* no-init */}
@@ -97,9 +148,10 @@ public final class Sorting {
          * 
          * @param order
          * @param store
+         * @param limit
          */
-        protected ByValueSorter(Order order, Store store) {
-            super(order, store);
+        protected ByValueSorter(Order order, Store store, int limit) {
+            super(order, store, limit);
         }
 
         @Override
@@ -132,9 +184,10 @@ public final class Sorting {
          * 
          * @param order
          * @param store
+         * @param limit
          */
-        protected ByValuesSorter(Order order, Store store) {
-            super(order, store);
+        protected ByValuesSorter(Order order, Store store, int limit) {
+            super(order, store, limit);
         }
 
         @Override
@@ -15,9 +15,13 @@
  */
 package com.cinchapi.concourse.server.query.sort;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -52,6 +56,13 @@ abstract class StoreSorter<V> implements Sorter<V> {
      */
     protected final Store store;
 
+    /**
+     * The maximum number of entries to return from a sort. If the result set
+     * contains more entries, only the first {@code limit} entries in sorted
+     * order are kept.
+     */
+    private final int limit;
+
     /**
      * Construct a new instance.
      * 
@@ -59,8 +70,20 @@ abstract class StoreSorter<V> implements Sorter<V> {
      * @param store
      */
     protected StoreSorter(Order order, Store store) {
+        this(order, store, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Construct a new instance.
+     * 
+     * @param order
+     * @param store
+     * @param limit
+     */
+    protected StoreSorter(Order order, Store store, int limit) {
         this.order = order;
         this.store = store;
+        this.limit = limit;
     }
 
     @Override
@@ -69,36 +92,52 @@ abstract class StoreSorter<V> implements Sorter<V> {
         return sort(stream, null);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public final Stream<Entry<Long, Map<String, V>>> sort(
             Stream<Entry<Long, Map<String, V>>> stream, @Nullable Long at) {
-        ArrayBuilder<Comparator<Entry<Long, Map<String, V>>>> comparators = ArrayBuilder
-                .builder();
-        for (OrderComponent component : order.spec()) {
-            String key = component.key();
-            Timestamp timestamp = component.timestamp();
-            Direction direction = component.direction();
-            Comparator<Entry<Long, Map<String, V>>> $comparator = (e1, e2) -> {
-                long r1 = e1.getKey();
-                long r2 = e2.getKey();
-                Map<String, V> d1 = e1.getValue();
-                Map<String, V> d2 = e2.getValue();
-                V v1;
-                V v2;
+        List<Entry<Long, Map<String, V>>> entries = stream
+                .collect(Collectors.toList());
+        if(entries.size() < 2) {
+            // There is nothing to compare, so avoid looking up any values
+            return entries.stream();
+        }
+        List<OrderComponent> components = order.spec();
+        // Decorate each entry with the values for each of the order
+        // components so that each value is retrieved exactly once, instead of
+        // during every comparison.
+        List<Decorated<V>> decorated = entries.stream().map(entry -> {
+            long record = entry.getKey();
+            Map<String, V> data = entry.getValue();
+            Object[] values = new Object[components.size()];
+            int i = 0;
+            for (OrderComponent component : components) {
+                String key = component.key();
+                Timestamp timestamp = component.timestamp();
+                V value;
                 if(timestamp == null) {
-                    v1 = d1.get(key);
-                    if(v1 == null) {
-                        v1 = at != null ? lookup(key, r1, at) : lookup(key, r1);
-                    }
-                    v2 = d2.get(key);
-                    if(v2 == null) {
-                        v2 = at != null ? lookup(key, r2, at) : lookup(key, r2);
+                    value = data.get(key);
+                    if(value == null) {
+                        value = at != null ? lookup(key, record, at)
+                                : lookup(key, record);
                     }
                 }
                 else {
-                    v1 = lookup(key, r1, timestamp.getMicros());
-                    v2 = lookup(key, r2, timestamp.getMicros());
+                    value = lookup(key, record, timestamp.getMicros());
                 }
+                values[i++] = value;
+            }
+            return new Decorated<>(entry, values);
+        }).collect(Collectors.toCollection(ArrayList::new));
+        ArrayBuilder<Comparator<Decorated<V>>> comparators = ArrayBuilder
+                .builder();
+        int i = 0;
+        for (OrderComponent component : components) {
+            int index = i++;
+            Direction direction = component.direction();
+            Comparator<Decorated<V>> $comparator = (e1, e2) -> {
+                V v1 = (V) e1.values[index];
+                V v2 = (V) e2.values[index];
                 if(!Empty.ness().describes(v1) && !Empty.ness().describes(v2)) {
                     // The coefficient is only applied when both values are
                     // non-empty. Otherwise, the empty value should float to the
@@ -118,10 +157,29 @@ abstract class StoreSorter<V> implements Sorter<V> {
             };
             comparators.add($comparator);
         }
-        comparators.add((e1, e2) -> e1.getKey().compareTo(e2.getKey()));
-        Comparator<Entry<Long, Map<String, V>>> comparator = CompoundComparator
+        comparators.add((e1, e2) -> e1.entry.getKey()
+                .compareTo(e2.entry.getKey()));
+        Comparator<Decorated<V>> comparator = CompoundComparator
                 .of(comparators.build());
-        return stream.sorted(comparator);
+        if(decorated.size() > limit) {
+            // Use a bounded heap, whose head is the "largest" entry, to only
+            // retain the first #limit entries in sorted order.
+            PriorityQueue<Decorated<V>> heap = new PriorityQueue<>(limit + 1,
+                    comparator.reversed());
+            for (Decorated<V> entry : decorated) {
+                if(heap.size() < limit) {
+                    heap.offer(entry);
+                }
+                else if(limit > 0
+                        && comparator.compare(entry, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.offer(entry);
+                }
+            }
+            decorated = new ArrayList<>(heap);
+        }
+        decorated.sort(comparator);
+        return decorated.stream().map(entry -> entry.entry);
     }
 
     /**
@@ -156,4 +214,35 @@ abstract class StoreSorter<V> implements Sorter<V> {
      */
     protected abstract V lookup(String key, long record, long timestamp);
 
+    /**
+     * An entry in the result set that is decorated with the values on which it
+     * is sorted.
+     *
+     * @author Jeff Nelson
+     */
+    private static final class Decorated<V> {
+
+        /**
+         * The entry.
+         */
+        private final Entry<Long, Map<String, V>> entry;
+
+        /**
+         * The values for each {@link OrderComponent}, in order.
+         */
+        private final Object[] values;
+
+        /**
+         * Construct a new instance.
+         * 
+         * @param entry
+         * @param values
+         */
+        private Decorated(Entry<Long, Map<String, V>> entry, Object[] values) {
+            this.entry = entry;
+            this.values = values;
+        }
+
+    }
+
 }
@@ -299,10 +299,7 @@ public class AtomicOperation extends BufferedStore implements
         Text key0 = Text.wrapCached(key);
         RangeToken rangeToken = RangeToken.forReading(key0, Operator.BETWEEN,
                 Value.NEGATIVE_INFINITY, Value.POSITIVE_INFINITY);
-        Iterable<Range<Value>> ranges = rangeToken.ranges();
-        for (Range<Value> range : ranges) {
-            rangeReads2Lock.put(key0, range);
-        }
+        addRangeReadToken(rangeToken);
         return super.browse(key);
     }
 
@@ -332,7 +329,7 @@ public class AtomicOperation extends BufferedStore implements
             // Must perform a locking read to prevent a non-repeatable read if
             // writes occur between the present and the future timestamp(s)
             Token token = Token.wrap(key, record);
-            reads2Lock.add(token);
+            addReadToken(token);
             return super.chronologize(key, record, start, end);
         }
         else {
@@ -392,7 +389,7 @@ public class AtomicOperation extends BufferedStore implements
     public final boolean contains(long record) {
         checkState();
         Token token = Token.wrap(record);
-        reads2Lock.add(token);
+        addReadToken(token);
         wideReads.put(record, token);
         return super.contains(record);
     }
@@ -405,10 +402,7 @@ public class AtomicOperation extends BufferedStore implements
         Text key0 = Text.wrapCached(key);
         RangeToken rangeToken = RangeToken.forReading(key0, operator,
                 Transformers.transformArray(values, Value::wrap, Value.class));
-        Iterable<Range<Value>> ranges = rangeToken.ranges();
-        for (Range<Value> range : ranges) {
-            rangeReads2Lock.put(key0, range);
-        }
+        addRangeReadToken(rangeToken);
         return super.explore(key, aliases);
     }
 
@@ -435,7 +429,7 @@ public class AtomicOperation extends BufferedStore implements
             throws AtomicStateException {
         checkState();
         Token token = Token.wrap(key, record);
-        reads2Lock.add(token);
+        addReadToken(token);
         return super.gather(key, record);
     }
 
@@ -520,7 +514,7 @@ public class AtomicOperation extends BufferedStore implements
             throws AtomicStateException {
         checkState();
         Token token = Token.wrap(record);
-        reads2Lock.add(token);
+        addReadToken(token);
         wideReads.put(record, token);
         return super.review(record);
     }
@@ -530,7 +524,7 @@ public class AtomicOperation extends BufferedStore implements
             throws AtomicStateException {
         checkState();
         Token token = Token.wrap(key, record);
-        reads2Lock.add(token);
+        addReadToken(token);
         return super.review(key, record);
     }
 
@@ -551,12 +545,19 @@ public class AtomicOperation extends BufferedStore implements
         return super.search(key, query);
     }
 
+    @Override
+    public final Set<Long> search(String key, String query, int limit)
+            throws AtomicStateException {
+        checkState();
+        return super.search(key, query, limit);
+    }
+
     @Override
     public final Map<String, Set<TObject>> select(long record)
             throws AtomicStateException {
         checkState();
         Token token = Token.wrap(record);
-        reads2Lock.add(token);
+        addReadToken(token);
         wideReads.put(record, token);
         return super.select(record);
     }
@@ -578,7 +579,7 @@ public class AtomicOperation extends BufferedStore implements
             throws AtomicStateException {
         checkState();
         Token token = Token.wrap(key, record);
-        reads2Lock.add(token);
+        addReadToken(token);
         return super.select(key, record);
     }
 
@@ -613,10 +614,10 @@ public class AtomicOperation extends BufferedStore implements
                 Value.wrap(value));
         Token wide = wideReads.get(record);
         if(wide != null) {
-            writes2Lock.add(wide);
+            addWriteToken(wide);
         }
         else {
-            writes2Lock.add(token);
+            addWriteToken(token);
             // CON-669: Prevent a conflicting wide read, but don't listen for
             // wide version change
             Token shared = Token.shareable(record);
@@ -664,6 +665,14 @@ public class AtomicOperation extends BufferedStore implements
         observers.add(observer);
     }
 
+    @Override
+    public void subscribe(TokenEventObserver observer, Token token) {
+        // The source only announces to this operation about the tokens in
+        // which it has declared interest, so it must also declare interest on
+        // behalf of any nested operations that it observes for.
+        source.subscribe(this, token);
+    }
+
     @Override
     public void sync() {/* no-op */}
 
@@ -676,7 +685,7 @@ public class AtomicOperation extends BufferedStore implements
     public void touch(long record) {
         checkState();
         Token token = Token.wrap(record);
-        reads2Lock.add(token);
+        addReadToken(token);
         wideReads.put(record, token);
     }
 
@@ -702,7 +711,7 @@ public class AtomicOperation extends BufferedStore implements
         checkState();
         Token token = Token.wrap(write.getKey().toString(),
                 write.getRecord().longValue());
-        reads2Lock.add(token);
+        addReadToken(token);
         return super.verify(write);
     }
 
@@ -794,10 +803,10 @@ public class AtomicOperation extends BufferedStore implements
                 write.getValue());
         Token wide = wideReads.get(record);
         if(wide != null) {
-            writes2Lock.add(wide);
+            addWriteToken(wide);
         }
         else {
-            writes2Lock.add(token);
+            addWriteToken(token);
             // CON-669: Prevent a conflicting wide read, but don't listen for
             // wide version change
             Token shared = Token.shareable(record);
@@ -961,10 +970,10 @@ public class AtomicOperation extends BufferedStore implements
                 write.getValue());
         Token wide = wideReads.get(record);
         if(wide != null) {
-            writes2Lock.add(wide);
+            addWriteToken(wide);
         }
         else {
-            writes2Lock.add(token);
+            addWriteToken(token);
             // CON-669: Prevent a conflicting wide read, but don't listen for
             // wide version change
             Token shared = Token.shareable(record);
@@ -1120,6 +1129,42 @@ public class AtomicOperation extends BufferedStore implements
         }
     }
 
+    /**
+     * Add the ranges of the {@code token} to {@link #rangeReads2Lock} and
+     * declare interest in announcements about the {@code token} to the
+     * {@link #source}.
+     * 
+     * @param token
+     */
+    private void addRangeReadToken(RangeToken token) {
+        for (Range<Value> range : token.ranges()) {
+            rangeReads2Lock.put(token.getKey(), range);
+        }
+        source.subscribe(this, token);
+    }
+
+    /**
+     * Add the {@code token} to {@link #reads2Lock} and declare interest in
+     * announcements about the {@code token} to the {@link #source}.
+     * 
+     * @param token
+     */
+    private void addReadToken(Token token) {
+        reads2Lock.add(token);
+        source.subscribe(this, token);
+    }
+
+    /**
+     * Add the {@code token} to {@link #writes2Lock} and declare interest in
+     * announcements about the {@code token} to the {@link #source}.
+     * 
+     * @param token
+     */
+    private void addWriteToken(Token token) {
+        writes2Lock.add(token);
+        source.subscribe(this, token);
+    }
+
     /**
      * Cancel the operation and set its status to {@link Status#ABORTED},
      * regardless of its current state.
@@ -1228,6 +1273,9 @@ public class AtomicOperation extends BufferedStore implements
      *         can be {@code #complete(long) applied}
      */
     private final boolean prepare() {
+        if(!isReadOnly()) {
+            source.onPrepare(this);
+        }
         if(status.compareAndSet(Status.OPEN, Status.PENDING)) {
             checkIfQueuedPreempted();
             if(acquireLocks()) {
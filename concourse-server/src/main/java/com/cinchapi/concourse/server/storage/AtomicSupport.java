@@ -51,4 +51,12 @@ public interface AtomicSupport extends
      */
     public default void onCommit(AtomicOperation operation) {/* no-op */}
 
+    /**
+     * Perform any work that should happen before {@code operation}, which has
+     * writes, acquires the locks that it needs to commit.
+     * 
+     * @param operation
+     */
+    public default void onPrepare(AtomicOperation operation) {/* no-op */}
+
 }
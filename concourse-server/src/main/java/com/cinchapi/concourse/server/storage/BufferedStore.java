@@ -15,6 +15,7 @@
  */
 package com.cinchapi.concourse.server.storage;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -318,6 +319,48 @@ public abstract class BufferedStore implements Store {
                 durable.search(key, query));
     }
 
+    @Override
+    public Set<Long> search(String key, String query, int limit) {
+        if(limit <= 0) {
+            return new LinkedHashSet<>();
+        }
+        Set<Long> buffered = limbo.search(key, query);
+        if(buffered.isEmpty()) {
+            return durable.search(key, query, limit);
+        }
+        else {
+            // A buffered match negates a durable match for the same record
+            // (see #search(String, String)), so fetch enough of the ranked
+            // durable matches to fill the limit after dropping the negated
+            // ones.
+            int window = (int) Math.min((long) limit + buffered.size(),
+                    Integer.MAX_VALUE);
+            Set<Long> ranked = durable.search(key, query, window);
+            Set<Long> results = new LinkedHashSet<>();
+            for (long record : ranked) {
+                if(results.size() == limit) {
+                    break;
+                }
+                else if(!buffered.contains(record)) {
+                    results.add(record);
+                }
+            }
+            // The buffered matches can't be scored, so they fill any remaining
+            // slots after the ranked durable ones. If there are remaining
+            // slots, the #ranked window was not filled, so it contains every
+            // durable match and any buffered match outside of it is new.
+            for (long record : buffered) {
+                if(results.size() == limit) {
+                    break;
+                }
+                else if(!ranked.contains(record)) {
+                    results.add(record);
+                }
+            }
+            return results;
+        }
+    }
+
     @Override
     public Map<String, Set<TObject>> select(long record) {
         Map<String, Set<TObject>> context = $select(record);
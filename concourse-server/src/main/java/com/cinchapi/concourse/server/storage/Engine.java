@@ -16,17 +16,17 @@
 package com.cinchapi.concourse.server.storage;
 
 import static com.cinchapi.concourse.server.GlobalState.ENABLE_BATCH_TRANSPORTS;
+import static com.cinchapi.concourse.server.GlobalState.MAX_TRANSPORT_BACKLOG;
+import static com.cinchapi.concourse.server.GlobalState.NUM_TRANSPORTER_THREADS;
 import static com.cinchapi.concourse.server.GlobalState.USE_FAIR_TRANSPORT_LOCK;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import java.io.File;
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -164,10 +164,11 @@ public final class Engine extends BufferedStore implements
     /**
      * Those that have {@link #subscribe(TokenEventObserver) subscribed} to
      * receive {@link #announce(TokenEvent, Token) announcements} about
-     * {@link TokenEvent token events}.
+     * {@link TokenEvent token events}, indexed by the {@link Token tokens} in
+     * which they have {@link #subscribe(TokenEventObserver, Token) declared
+     * interest}.
      */
-    private final Collection<TokenEventObserver> observers = ConcurrentHashMap
-            .newKeySet();
+    private final TokenEventRegistry observers = new TokenEventRegistry();
 
     /**
      * A flag to indicate if the Engine is running or not.
@@ -302,6 +303,7 @@ public final class Engine extends BufferedStore implements
 
     @Override
     public boolean add(String key, TObject value, long record) {
+        throttle();
         transportLock.readLock().lock();
         Token sharedToken = Token.shareable(record);
         Token writeToken = Token.wrap(key, record);
@@ -346,15 +348,14 @@ public final class Engine extends BufferedStore implements
     @Override
     @Restricted
     public void announce(TokenEvent event, Token... tokens) {
-        Iterator<TokenEventObserver> it = observers.iterator();
-        while (it.hasNext()) {
-            TokenEventObserver observer = it.next();
-            for (Token token : tokens) {
-                if(observer.observe(event, token)) {
-                    if(event == TokenEvent.VERSION_CHANGE) {
-                        it.remove();
-                        break;
-                    }
+        // Only visit the observers that declared interest in each token
+        // instead of every observer, so the cost of each write doesn't grow
+        // with the number of in-flight atomic operations.
+        for (Token token : tokens) {
+            for (TokenEventObserver observer : observers.observersOf(token)) {
+                if(observer.observe(event, token)
+                        && event == TokenEvent.VERSION_CHANGE) {
+                    observers.remove(observer);
                 }
             }
         }
@@ -552,8 +553,23 @@ public final class Engine extends BufferedStore implements
         return sb.toString();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Writes that are committed from an {@link AtomicOperation} or
+     * {@link Transaction} are {@link #accept(Write) accepted} while the
+     * operation holds its locks, so the operation is throttled once here,
+     * before it acquires them, instead of for each of its writes.
+     * </p>
+     */
+    @Override
+    public void onPrepare(AtomicOperation operation) {
+        throttle();
+    }
+
     @Override
     public boolean remove(String key, TObject value, long record) {
+        throttle();
         transportLock.readLock().lock();
         Token sharedToken = Token.shareable(record);
         Token writeToken = Token.wrap(key, record);
@@ -683,6 +699,21 @@ public final class Engine extends BufferedStore implements
         }
     }
 
+    @Override
+    public Set<Long> search(String key, String query, int limit) {
+        // NOTE: Range locking for a search query requires too much overhead, so
+        // we must be willing to live with the fact that a search query may
+        // provide inconsistent results if a match is added while the read is
+        // processing.
+        transportLock.readLock().lock();
+        try {
+            return super.search(key, query, limit);
+        }
+        finally {
+            transportLock.readLock().unlock();
+        }
+    }
+
     @Override
     public Map<String, Set<TObject>> select(long record) {
         transportLock.readLock().lock();
@@ -757,6 +788,7 @@ public final class Engine extends BufferedStore implements
 
     @Override
     public void set(String key, TObject value, long record) {
+        throttle();
         transportLock.readLock().lock();
         Token sharedToken = Token.shareable(record);
         Token writeToken = Token.wrap(key, record);
@@ -822,6 +854,12 @@ public final class Engine extends BufferedStore implements
         observers.add(observer);
     }
 
+    @Override
+    @Restricted
+    public void subscribe(TokenEventObserver observer, Token token) {
+        observers.add(observer, token);
+    }
+
     @Override
     public void sync() {
         limbo.sync();
@@ -935,6 +973,7 @@ public final class Engine extends BufferedStore implements
                     .withLock(lock)
                     .withSegmentWriter(segmentWriter)
                     .environment(environment)
+                    .numIndexerThreads(NUM_TRANSPORTER_THREADS)
                     .build();
             // @formatter:on
         }
@@ -945,6 +984,23 @@ public final class Engine extends BufferedStore implements
         return transporter;
     }
 
+    /**
+     * Block the calling thread while the {@link Buffer} has more full pages
+     * waiting to be transported than the configured
+     * {@link GlobalState#MAX_TRANSPORT_BACKLOG backlog} so that writes are
+     * slowed down to a rate that the {@link Transporter} can sustain.
+     * <p>
+     * This must be called before grabbing the {@link #transportLock} or any
+     * locks from the {@link #broker}; otherwise, the {@link Transporter} would
+     * not be able to make the progress that this method is waiting for.
+     * </p>
+     */
+    private void throttle() {
+        if(transporter != null) {
+            ((Buffer) limbo).waitUntilWritable(MAX_TRANSPORT_BACKLOG);
+        }
+    }
+
     /**
      * Restore any transactions that did not finish committing prior to the
      * previous shutdown.
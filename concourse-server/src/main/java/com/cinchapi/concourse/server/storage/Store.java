@@ -15,10 +15,12 @@
  */
 package com.cinchapi.concourse.server.storage;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.stream.Collectors;
 
 import com.cinchapi.concourse.annotate.DoNotInvoke;
 import com.cinchapi.concourse.server.concurrent.Locks;
@@ -450,6 +452,36 @@ public interface Store {
      */
     public Set<Long> search(String key, String query);
 
+    /**
+     * Search {@code key} for {@code query} and return, at most, {@code limit}
+     * of the matching records in order of relevance.
+     * <p>
+     * This method performs a fulltext search for {@code query} in all data
+     * <em>currently</em> mapped from {@code key}.
+     * </p>
+     * <p>
+     * The default implementation returns the first {@code limit} records from
+     * {@link #search(String, String)}. A {@link Store} that can rank search
+     * matches more efficiently should override this method.
+     * </p>
+     * <p>
+     * If {@code limit} is not positive, no records are returned.
+     * </p>
+     * 
+     * @param key
+     * @param query
+     * @param limit
+     * @return the Set of primary keys identifying the most relevant records
+     *         matching the search
+     */
+    public default Set<Long> search(String key, String query, int limit) {
+        if(limit <= 0) {
+            return new LinkedHashSet<>();
+        }
+        return search(key, query).stream().limit(limit)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     /**
      * Search {@code key} for {@code query}.
      * <p>
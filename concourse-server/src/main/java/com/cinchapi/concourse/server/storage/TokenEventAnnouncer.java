@@ -22,9 +22,11 @@ import com.cinchapi.concourse.server.concurrent.Token;
  * {@link #observeVersionChanges(TokenEventObserver) registered observers}
  * about any {@link TokenEvent token events} it facilitates or becomes aware of.
  * <p>
- * All {@link TokenEvent token events} are {@link #announceVersionChange(Token)
- * announced}, so {@link TokenEventObserver observers} are expected to filter
- * those which are relevant based on the concerned {@link Token} and
+ * {@link TokenEvent Token events} are only guaranteed to be announced to the
+ * {@link TokenEventObserver observers} that have
+ * {@link #subscribe(TokenEventObserver, Token) declared interest} in the
+ * concerned {@link Token}, but observers are still expected to filter those
+ * which are relevant based on the concerned {@link Token} and
  * {@link TokenEvent event type}
  * </p>
  *
@@ -59,6 +61,22 @@ interface TokenEventAnnouncer {
      */
     public void subscribe(TokenEventObserver observer);
 
+    /**
+     * Declare that the {@code observer}, which must already be
+     * {@link #subscribe(TokenEventObserver) subscribed}, is interested in
+     * announcements about the {@code token}.
+     * <p>
+     * An announcer may skip any {@link TokenEventObserver observer} that
+     * hasn't declared interest in an announced {@link Token}. For a
+     * {@link com.cinchapi.concourse.server.concurrent.RangeToken RangeToken},
+     * interest extends to all announcements about the same key.
+     * </p>
+     * 
+     * @param observer
+     * @param token
+     */
+    public void subscribe(TokenEventObserver observer, Token token);
+
     /**
      * Remove {@code observer} from the list of those that receive
      * {@link TokenEvent} {@link #announceVersionChange(Token) announcements}.
@@ -29,8 +29,10 @@ interface TokenEventObserver {
      * Handle the announcement of {@code event} for {@code token}.
      * <p>
      * This method will observe announcements for all {@link TokenEvent events}
-     * concerning all {@link Token tokens}, so filtering logic must be
-     * implemented here, if it is required.
+     * concerning any {@link Token tokens} in which this observer has
+     * {@link TokenEventAnnouncer#subscribe(TokenEventObserver, Token) declared
+     * interest}, and possibly others, so filtering logic must be implemented
+     * here, if it is required.
      * </p>
      * 
      * @param event
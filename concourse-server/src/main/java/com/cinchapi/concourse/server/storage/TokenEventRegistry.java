@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.cinchapi.concourse.server.concurrent.RangeToken;
+import com.cinchapi.concourse.server.concurrent.Token;
+
+/**
+ * A registry of {@link TokenEventObserver observers} that is indexed by the
+ * {@link Token tokens} in which each observer has declared interest, so that a
+ * {@link TokenEventAnnouncer} only visits the observers that are concerned
+ * with each announcement.
+ * <p>
+ * A {@link Token} is indexed by its value (e.g., a {@link Token} for a record
+ * is interchangeable with the {@link Token#shareable(long) shareable} one).
+ * A {@link RangeToken} is indexed by its {@link RangeToken#getKey() key}, so
+ * an announcement about any {@link RangeToken} for a key reaches every
+ * observer with a range of interest for that key and the observer decides
+ * whether the ranges actually intersect.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+@ThreadSafe
+final class TokenEventRegistry {
+
+    /**
+     * Return the value under which the {@code token} is indexed.
+     *
+     * @param token
+     * @return the index key
+     */
+    private static Object indexKey(Token token) {
+        return token instanceof RangeToken ? ((RangeToken) token).getKey()
+                : token;
+    }
+
+    /**
+     * A mapping from each {@link #indexKey(Token) index key} to the observers
+     * that are interested in announcements about it.
+     */
+    private final Map<Object, Set<TokenEventObserver>> index = new ConcurrentHashMap<>();
+
+    /**
+     * A mapping from each registered observer to the
+     * {@link #indexKey(Token) index keys} under which it appears in the
+     * {@link #index}.
+     */
+    private final Map<TokenEventObserver, Set<Object>> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Add the {@code observer} to this registry without any interests.
+     *
+     * @param observer
+     */
+    public void add(TokenEventObserver observer) {
+        subscriptions.putIfAbsent(observer, ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Register the interest of the {@code observer}, which must already have
+     * been {@link #add(TokenEventObserver) added}, in announcements about the
+     * {@code token}.
+     * <p>
+     * If the {@code observer} is not in this registry, this method has no
+     * effect.
+     * </p>
+     *
+     * @param observer
+     * @param token
+     */
+    public void add(TokenEventObserver observer, Token token) {
+        Set<Object> keys = subscriptions.get(observer);
+        if(keys != null) {
+            Object key = indexKey(token);
+            if(keys.add(key)) {
+                index.compute(key, (k, observers) -> {
+                    observers = observers == null
+                            ? ConcurrentHashMap.newKeySet()
+                            : observers;
+                    observers.add(observer);
+                    return observers;
+                });
+                if(subscriptions.get(observer) != keys) {
+                    // The observer was concurrently removed, so make sure that
+                    // it doesn't linger in the index.
+                    unindex(observer, key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all the observers from this registry.
+     */
+    public void clear() {
+        subscriptions.clear();
+        index.clear();
+    }
+
+    /**
+     * Return {@code true} if the {@code observer} is in this registry.
+     *
+     * @param observer
+     * @return a boolean that indicates whether the {@code observer} has been
+     *         added
+     */
+    public boolean contains(TokenEventObserver observer) {
+        return subscriptions.containsKey(observer);
+    }
+
+    /**
+     * Return the observers that are interested in announcements about the
+     * {@code token}.
+     *
+     * @param token
+     * @return the interested observers
+     */
+    public Iterable<TokenEventObserver> observersOf(Token token) {
+        Set<TokenEventObserver> observers = index.get(indexKey(token));
+        return observers != null ? observers : Collections.emptySet();
+    }
+
+    /**
+     * Remove the {@code observer} and all of its interests from this registry.
+     *
+     * @param observer
+     */
+    public void remove(TokenEventObserver observer) {
+        Set<Object> keys = subscriptions.remove(observer);
+        if(keys != null) {
+            for (Object key : keys) {
+                unindex(observer, key);
+            }
+        }
+    }
+
+    /**
+     * Return the number of observers in this registry.
+     *
+     * @return the size
+     */
+    public int size() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Remove the {@code observer} from the {@link #index} entry for the
+     * {@code key}, dropping the entry if no other observers remain.
+     *
+     * @param observer
+     * @param key
+     */
+    private void unindex(TokenEventObserver observer, Object key) {
+        index.computeIfPresent(key, (k, observers) -> {
+            observers.remove(observer);
+            return observers.isEmpty() ? null : observers;
+        });
+    }
+
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.cache;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.cinchapi.concourse.server.io.Composite;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * A split block bloom filter that stores its bits in fixed size blocks that
+ * each fit within a single cache line.
+ * <p>
+ * Each element is hashed to exactly one block and sets one bit in each of the
+ * block's {@link #WORDS_PER_BLOCK words}, so every probe touches a single
+ * cache line. The serialized form is a small header followed by the raw words,
+ * so a filter that is {@link #load(ByteBuffer) loaded} from a memory mapped
+ * file is probed in place without deserializing anything onto the heap.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+@ThreadSafe
+final class BlockedBloomFilter {
+
+    /**
+     * Create a new {@link BlockedBloomFilter} with enough capacity for
+     * {@code expectedInsertions}.
+     *
+     * @param expectedInsertions
+     * @return the {@link BlockedBloomFilter}
+     */
+    static BlockedBloomFilter create(int expectedInsertions) {
+        long bits = (long) Math.max(expectedInsertions, 1) * BITS_PER_ELEMENT;
+        int blocks = (int) Math.min(Integer.MAX_VALUE / WORDS_PER_BLOCK,
+                (bits + BITS_PER_BLOCK - 1) / BITS_PER_BLOCK);
+        return new BlockedBloomFilter(blocks);
+    }
+
+    /**
+     * Return {@code true} if {@code bytes} contain a serialized
+     * {@link BlockedBloomFilter}.
+     *
+     * @param bytes
+     * @return a boolean that indicates whether {@code bytes} can be
+     *         {@link #load(ByteBuffer) loaded}
+     */
+    static boolean isBlockedFormat(ByteBuffer bytes) {
+        return bytes.remaining() >= HEADER_SIZE
+                && bytes.getInt(bytes.position()) == MAGIC;
+    }
+
+    /**
+     * Load a {@link BlockedBloomFilter} that reads directly from the
+     * {@code bytes} instead of copying them.
+     *
+     * @param bytes
+     * @return the loaded {@link BlockedBloomFilter}
+     */
+    static BlockedBloomFilter load(ByteBuffer bytes) {
+        Preconditions.checkArgument(isBlockedFormat(bytes),
+                "The bytes do not contain a blocked bloom filter");
+        return new BlockedBloomFilter(bytes.slice());
+    }
+
+    /**
+     * A value that identifies the serialized form of a
+     * {@link BlockedBloomFilter}. It cannot be confused with a Java serialized
+     * filter because those always begin with {@code 0xACED}.
+     */
+    private static final int MAGIC = 0x53424246; // SBBF
+
+    /**
+     * The number of bytes that precede the words in the serialized form.
+     */
+    private static final int HEADER_SIZE = 8; // MAGIC + block count
+
+    /**
+     * The number of 32-bit words in each block.
+     */
+    private static final int WORDS_PER_BLOCK = 8;
+
+    /**
+     * The number of bits in each block.
+     */
+    private static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * Integer.SIZE;
+
+    /**
+     * The number of bits that are allocated for each expected insertion, which
+     * gives a false positive probability of about 2%.
+     */
+    private static final int BITS_PER_ELEMENT = 10;
+
+    /**
+     * The odd constants that are multiplied with an element's hash to choose
+     * which bit to set in each word of its block.
+     */
+    private static final int[] SALT = { 0x47b6137b, 0x44974d91, 0x8824ad5b,
+            0xa2b7289d, 0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31 };
+
+    /**
+     * The {@link HashFunction} that is used to hash each element.
+     */
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    /**
+     * The number of blocks in this filter.
+     */
+    private final int blocks;
+
+    /**
+     * The serialized form of the filter when it is {@link #load(ByteBuffer)
+     * loaded}, or {@code null} if the filter is mutable.
+     */
+    @Nullable
+    private final ByteBuffer bytes;
+
+    /**
+     * The words of the filter when it is mutable, or {@code null} if the filter
+     * was {@link #load(ByteBuffer) loaded}.
+     */
+    @Nullable
+    private final AtomicIntegerArray words;
+
+    /**
+     * Construct a new mutable instance.
+     *
+     * @param blocks
+     */
+    private BlockedBloomFilter(int blocks) {
+        this.blocks = blocks;
+        this.bytes = null;
+        this.words = new AtomicIntegerArray(blocks * WORDS_PER_BLOCK);
+    }
+
+    /**
+     * Construct a new read-only instance.
+     *
+     * @param bytes
+     */
+    private BlockedBloomFilter(ByteBuffer bytes) {
+        this.bytes = bytes;
+        this.blocks = bytes.getInt(4);
+        this.words = null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if(obj instanceof BlockedBloomFilter) {
+            BlockedBloomFilter other = (BlockedBloomFilter) obj;
+            if(blocks == other.blocks) {
+                for (int i = 0; i < blocks * WORDS_PER_BLOCK; ++i) {
+                    if(word(i) != other.word(i)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = blocks;
+        for (int i = 0; i < blocks * WORDS_PER_BLOCK; ++i) {
+            hashCode = 31 * hashCode + word(i);
+        }
+        return hashCode;
+    }
+
+    /**
+     * Return an estimate of the number of distinct elements that have been
+     * put in this filter, based on the number of bits that are set.
+     *
+     * @return the estimated element count
+     */
+    long approximateElementCount() {
+        return estimate(bitCount(null));
+    }
+
+    /**
+     * Return an estimate of the number of distinct elements that have been
+     * put in either this filter or the {@code other} one.
+     *
+     * @param other
+     * @return the estimated element count of the union
+     */
+    long approximateUnionCount(BlockedBloomFilter other) {
+        Preconditions.checkArgument(isCompatible(other),
+                "The two bloom filters are not compatible");
+        return estimate(bitCount(other));
+    }
+
+    /**
+     * Return the serialized form of this filter.
+     *
+     * @return the bytes
+     */
+    ByteBuffer getBytes() {
+        ByteBuffer serialized = ByteBuffer.allocate(size());
+        serialized.putInt(MAGIC);
+        serialized.putInt(blocks);
+        for (int i = 0; i < blocks * WORDS_PER_BLOCK; ++i) {
+            serialized.putInt(word(i));
+        }
+        serialized.flip();
+        return serialized;
+    }
+
+    /**
+     * Return {@code true} if this filter and the {@code other} one have the
+     * same dimensions.
+     *
+     * @param other
+     * @return a boolean that indicates whether the filters are compatible
+     */
+    boolean isCompatible(BlockedBloomFilter other) {
+        return blocks == other.blocks;
+    }
+
+    /**
+     * Return {@code true} if the {@code composite} <strong>might</strong> have
+     * been put in this filter or {@code false} if this is definitely not the
+     * case.
+     *
+     * @param composite
+     * @return {@code true} if {@code composite} might exist
+     */
+    boolean mightContain(Composite composite) {
+        long hash = hash(composite);
+        int offset = block(hash) * WORDS_PER_BLOCK;
+        int key = (int) hash;
+        for (int i = 0; i < WORDS_PER_BLOCK; ++i) {
+            int mask = 1 << ((key * SALT[i]) >>> 27);
+            if((word(offset + i) & mask) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Put the {@code composite} into this filter.
+     *
+     * @param composite
+     * @return {@code true} if the filter's bits changed
+     */
+    boolean put(Composite composite) {
+        Preconditions.checkState(words != null,
+                "Cannot modify a bloom filter that was loaded");
+        long hash = hash(composite);
+        int offset = block(hash) * WORDS_PER_BLOCK;
+        int key = (int) hash;
+        boolean changed = false;
+        for (int i = 0; i < WORDS_PER_BLOCK; ++i) {
+            int mask = 1 << ((key * SALT[i]) >>> 27);
+            int index = offset + i;
+            int word;
+            while (((word = words.get(index)) & mask) == 0) {
+                if(words.compareAndSet(index, word, word | mask)) {
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Return the number of bytes in the serialized form of this filter.
+     *
+     * @return the size
+     */
+    int size() {
+        return HEADER_SIZE + blocks * WORDS_PER_BLOCK * 4;
+    }
+
+    /**
+     * Return the number of bits that are set in this filter or, if
+     * {@code other} is not {@code null}, in the union of this filter and the
+     * {@code other} one.
+     *
+     * @param other
+     * @return the number of set bits
+     */
+    private long bitCount(@Nullable BlockedBloomFilter other) {
+        long count = 0;
+        for (int i = 0; i < blocks * WORDS_PER_BLOCK; ++i) {
+            int word = other == null ? word(i) : word(i) | other.word(i);
+            count += Integer.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Return the index of the block for an element with {@code hash}.
+     *
+     * @param hash
+     * @return the block index
+     */
+    private int block(long hash) {
+        return (int) (((hash >>> 32) * blocks) >>> 32);
+    }
+
+    /**
+     * Return an estimate of the number of distinct elements that produce
+     * {@code bitCount} set bits.
+     *
+     * @param bitCount
+     * @return the estimated element count
+     */
+    private long estimate(long bitCount) {
+        double size = (double) blocks * BITS_PER_BLOCK;
+        return Math.round(-size / WORDS_PER_BLOCK
+                * Math.log1p(-Math.min(bitCount, size - 1) / size));
+    }
+
+    /**
+     * Return the hash of the {@code composite}.
+     *
+     * @param composite
+     * @return the hash
+     */
+    private long hash(Composite composite) {
+        return HASH_FUNCTION.hashBytes(composite.bytes()).asLong();
+    }
+
+    /**
+     * Return the word at {@code index}.
+     *
+     * @param index
+     * @return the word
+     */
+    private int word(int index) {
+        return words != null ? words.get(index)
+                : bytes.getInt(HEADER_SIZE + index * 4);
+    }
+
+}
@@ -23,9 +23,11 @@ import java.io.ObjectStreamClass;
 import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import com.cinchapi.common.base.CheckedExceptions;
+import com.cinchapi.concourse.server.GlobalState;
 import com.cinchapi.concourse.server.io.ByteBufferInputStream;
 import com.cinchapi.concourse.server.io.ByteSink;
 import com.cinchapi.concourse.server.io.Byteable;
@@ -57,24 +59,43 @@ public class BloomFilter implements Byteable {
      * @return the BloomFilter
      */
     public static BloomFilter create(int expectedInsertions) {
-        return new BloomFilter(expectedInsertions);
+        return GlobalState.ENABLE_BLOCKED_BLOOM_FILTERS
+                ? new BloomFilter(BlockedBloomFilter.create(expectedInsertions))
+                : new BloomFilter(expectedInsertions);
     }
 
     /**
      * Load an existing {@link BloomFilter} from the {@code bytes}.
+     * <p>
+     * If the {@code bytes} contain a {@link BlockedBloomFilter blocked}
+     * filter, the loaded {@link BloomFilter} reads directly from the
+     * {@code bytes} (e.g., a memory mapped region of a file) instead of
+     * deserializing them onto the heap.
+     * </p>
      * 
      * @param bytes
      * @return the loaded {@link BloomFilter}
      */
     public static BloomFilter load(ByteBuffer bytes) {
-        return new BloomFilter(bytes);
+        return BlockedBloomFilter.isBlockedFormat(bytes)
+                ? new BloomFilter(BlockedBloomFilter.load(bytes))
+                : new BloomFilter(bytes);
     }
 
     /**
-     * The wrapped bloom filter. This is where the data is actually stored.
+     * The wrapped bloom filter. This is where the data is actually stored,
+     * unless this is a {@link #blocked} filter.
      */
+    @Nullable
     private final com.google.common.hash.BloomFilter<Composite> source;
 
+    /**
+     * The {@link BlockedBloomFilter} where the data is stored, if this
+     * {@link BloomFilter} doesn't wrap a {@link #source}.
+     */
+    @Nullable
+    private final BlockedBloomFilter blocked;
+
     /**
      * Track if this {@link BloomFilter} was upgraded when being
      * {@link BloomFilter(ByteBuffer) loaded}.
@@ -110,6 +131,7 @@ public class BloomFilter implements Byteable {
             };
             this.source = (com.google.common.hash.BloomFilter<Composite>) input
                     .readObject();
+            this.blocked = null;
             this.upgraded = upgraded.get();
             input.close();
         }
@@ -132,6 +154,18 @@ public class BloomFilter implements Byteable {
                                                                       // false
                                                                       // positive
                                                                       // probability
+        this.blocked = null;
+        this.upgraded = false;
+    }
+
+    /**
+     * Construct a new instance.
+     * 
+     * @param blocked
+     */
+    private BloomFilter(BlockedBloomFilter blocked) {
+        this.source = null;
+        this.blocked = blocked;
         this.upgraded = false;
     }
 
@@ -145,7 +179,8 @@ public class BloomFilter implements Byteable {
     public boolean equals(Object obj) {
         if(obj instanceof BloomFilter) {
             BloomFilter other = (BloomFilter) obj;
-            return source.equals(other.source);
+            return blocked != null ? blocked.equals(other.blocked)
+                    : source.equals(other.source);
         }
         else {
             return false;
@@ -154,12 +189,13 @@ public class BloomFilter implements Byteable {
 
     @Override
     public ByteBuffer getBytes() {
-        return Serializables.getBytes(source);
+        return blocked != null ? blocked.getBytes()
+                : Serializables.getBytes(source);
     }
 
     @Override
     public int hashCode() {
-        return source.hashCode();
+        return blocked != null ? blocked.hashCode() : source.hashCode();
     }
 
     /**
@@ -193,7 +229,8 @@ public class BloomFilter implements Byteable {
      * @return {@code true} if {@code composite} might exist
      */
     public boolean mightContain(Composite composite) {
-        return source.mightContain(composite);
+        return blocked != null ? blocked.mightContain(composite)
+                : source.mightContain(composite);
     }
 
     /**
@@ -254,7 +291,7 @@ public class BloomFilter implements Byteable {
      *         called.
      */
     public boolean put(Composite composite) {
-        return source.put(composite);
+        return blocked != null ? blocked.put(composite) : source.put(composite);
     }
 
     /**
@@ -281,14 +318,27 @@ public class BloomFilter implements Byteable {
 
     @Override
     public int size() {
-        return getBytes().capacity();
+        return blocked != null ? blocked.size() : getBytes().capacity();
+    }
+
+    /**
+     * Return the {@link BlockedBloomFilter} for this {@link BloomFilter}, if
+     * it doesn't wrap a {@link #source() source}.
+     * 
+     * @return the blocked filter or {@code null}
+     */
+    @Nullable
+    BlockedBloomFilter blocked() {
+        return blocked;
     }
 
     /**
-     * Return the underlying source for this {@link BloomFilter}.
+     * Return the underlying source for this {@link BloomFilter}, if it isn't
+     * {@link #blocked() blocked}.
      * 
-     * @return the source
+     * @return the source or {@code null}
      */
+    @Nullable
     com.google.common.hash.BloomFilter<Composite> source() {
         return source;
     }
@@ -33,6 +33,12 @@ public final class BloomFilters {
      * @return the estimated size of (a ⋃ b)
      */
     public static long estimateUnionCount(BloomFilter a, BloomFilter b) {
+        if(a.blocked() != null || b.blocked() != null) {
+            Preconditions.checkArgument(
+                    a.blocked() != null && b.blocked() != null,
+                    "The two bloom filters are not compatible");
+            return a.blocked().approximateUnionCount(b.blocked());
+        }
         Preconditions.checkArgument(a.source().isCompatible(b.source()),
                 "The two bloom filters are not compatible");
         BloomFilter union = BloomFilter.load(a.getBytes());
@@ -49,8 +55,7 @@ public final class BloomFilters {
      * @return the estimated size of (a ⋂ b)
      */
     public static long estimateIntersectionCount(BloomFilter a, BloomFilter b) {
-        return (a.source().approximateElementCount()
-                + b.source().approximateElementCount())
+        return (approximateElementCount(a) + approximateElementCount(b))
                 - estimateUnionCount(a, b);
     }
 
@@ -67,6 +72,18 @@ public final class BloomFilters {
                 / (double) estimateUnionCount(a, b);
     }
 
+    /**
+     * Return an estimate of the number of distinct elements in {@code filter}.
+     * 
+     * @param filter
+     * @return the estimated element count
+     */
+    private static long approximateElementCount(BloomFilter filter) {
+        return filter.blocked() != null
+                ? filter.blocked().approximateElementCount()
+                : filter.source().approximateElementCount();
+    }
+
     private BloomFilters() {/* no init */}
 
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A {@link FrequencySketch} is a compact, probabilistic estimate of how often
+ * each item has been {@link #increment(Object) seen} recently.
+ * <p>
+ * The sketch is a count-min sketch of 4-bit counters, so an item's
+ * {@link #frequency(Object) frequency} may be overestimated (but never
+ * underestimated) and saturates at 15. After every {@code sampleSize}
+ * increments, all the counters are halved so that the sketch reflects recent
+ * popularity instead of all-time popularity.
+ * </p>
+ * <p>
+ * A cache can use the sketch as a TinyLFU-style admission filter: an item
+ * that has only been seen once (e.g., as part of a one-off scan) isn't
+ * admitted, so it can't displace the items that are repeatedly accessed.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+@ThreadSafe
+public final class FrequencySketch {
+
+    /**
+     * The number of hash functions (e.g., rows) in the sketch.
+     */
+    private static final int DEPTH = 4;
+
+    /**
+     * The largest value that a counter can hold.
+     */
+    private static final long MAX_COUNT = 15;
+
+    /**
+     * The seed for each of the {@link #DEPTH} hash functions.
+     */
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L,
+            0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+    /**
+     * Apply a supplemental hash function to {@code hash} to defend against
+     * poor quality hash codes.
+     *
+     * @param hash
+     * @return the spread hash
+     */
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+
+    /**
+     * The number of increments since the counters were last halved.
+     */
+    private final AtomicInteger additions = new AtomicInteger(0);
+
+    /**
+     * A mask that maps a hash to the index of a counter.
+     */
+    private final int mask;
+
+    /**
+     * The number of increments after which all the counters are halved.
+     */
+    private final int sampleSize;
+
+    /**
+     * The counters, packed 16 to a long.
+     */
+    private final AtomicLongArray table;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param counters the number of counters, which must be a power of two
+     *            that is at least 16
+     */
+    public FrequencySketch(int counters) {
+        Preconditions.checkArgument(
+                counters >= 16 && Integer.bitCount(counters) == 1,
+                "The number of counters must be a power of two that is at "
+                        + "least 16");
+        this.table = new AtomicLongArray(counters / 16);
+        this.mask = counters - 1;
+        this.sampleSize = counters;
+    }
+
+    /**
+     * Return the estimated number of times that {@code item} has been
+     * {@link #increment(Object) seen} recently.
+     *
+     * @param item
+     * @return the estimated frequency, between 0 and 15
+     */
+    public int frequency(Object item) {
+        int hash = spread(item.hashCode());
+        long frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; ++i) {
+            int index = indexOf(hash, i);
+            long count = (table.get(index >>> 4) >>> offsetOf(index))
+                    & MAX_COUNT;
+            frequency = Math.min(frequency, count);
+        }
+        return (int) frequency;
+    }
+
+    /**
+     * Record that {@code item} has been seen.
+     *
+     * @param item
+     */
+    public void increment(Object item) {
+        int hash = spread(item.hashCode());
+        for (int i = 0; i < DEPTH; ++i) {
+            int index = indexOf(hash, i);
+            int slot = index >>> 4;
+            int offset = offsetOf(index);
+            long current;
+            do {
+                current = table.get(slot);
+                if(((current >>> offset) & MAX_COUNT) == MAX_COUNT) {
+                    break;
+                }
+            }
+            while (!table.compareAndSet(slot, current,
+                    current + (1L << offset)));
+        }
+        if(additions.incrementAndGet() >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Return the index of the counter for {@code hash} in {@code row}.
+     *
+     * @param hash
+     * @param row
+     * @return the index
+     */
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += (h >>> 32);
+        return (int) h & mask;
+    }
+
+    /**
+     * Return the bit offset of the counter at {@code index} within its long.
+     *
+     * @param index
+     * @return the offset
+     */
+    private int offsetOf(int index) {
+        return (index & 15) << 2;
+    }
+
+    /**
+     * Halve all the counters so that old increments gradually stop
+     * influencing the estimated frequencies.
+     */
+    private void reset() {
+        synchronized (additions) {
+            if(additions.get() >= sampleSize) {
+                for (int i = 0; i < table.length(); ++i) {
+                    long current;
+                    do {
+                        current = table.get(i);
+                    }
+                    while (!table.compareAndSet(i, current,
+                            (current >>> 1) & 0x7777777777777777L));
+                }
+                additions.set(0);
+            }
+        }
+    }
+
+}
@@ -25,6 +25,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -33,6 +35,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -44,6 +47,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
@@ -62,9 +66,12 @@ import com.cinchapi.common.collect.concurrent.ThreadFactories;
 import com.cinchapi.common.concurrent.JoinableExecutorService;
 import com.cinchapi.concourse.annotate.Restricted;
 import com.cinchapi.concourse.collect.BridgeSortMap;
+import com.cinchapi.concourse.search.CompiledInfingram;
+import com.cinchapi.concourse.search.Infingram;
 import com.cinchapi.concourse.server.GlobalState;
 import com.cinchapi.concourse.server.concurrent.AwaitableExecutorService;
 import com.cinchapi.concourse.server.concurrent.NoOpScheduledExecutorService;
+import com.cinchapi.concourse.server.io.Byteable;
 import com.cinchapi.concourse.server.io.Composite;
 import com.cinchapi.concourse.server.io.FileSystem;
 import com.cinchapi.concourse.server.jmx.ManagedOperation;
@@ -76,17 +83,24 @@ import com.cinchapi.concourse.server.model.Value;
 import com.cinchapi.concourse.server.storage.DurableStore;
 import com.cinchapi.concourse.server.storage.Memory;
 import com.cinchapi.concourse.server.storage.WriteStreamProfiler;
+import com.cinchapi.concourse.server.storage.cache.FrequencySketch;
 import com.cinchapi.concourse.server.storage.db.compaction.Compactor;
 import com.cinchapi.concourse.server.storage.db.compaction.NoOpCompactor;
 import com.cinchapi.concourse.server.storage.db.compaction.similarity.SimilarityCompactor;
+import com.cinchapi.concourse.server.storage.db.compaction.tiered.TieredCompactor;
+import com.cinchapi.concourse.server.storage.db.kernel.Chunk;
 import com.cinchapi.concourse.server.storage.db.kernel.CorpusArtifact;
+import com.cinchapi.concourse.server.storage.db.kernel.CorpusChunk;
 import com.cinchapi.concourse.server.storage.db.kernel.Segment;
 import com.cinchapi.concourse.server.storage.db.kernel.Segment.Receipt;
+import com.cinchapi.concourse.server.storage.db.kernel.SegmentCatalog;
 import com.cinchapi.concourse.server.storage.db.kernel.SegmentLoadingException;
 import com.cinchapi.concourse.server.storage.temp.Buffer;
 import com.cinchapi.concourse.server.storage.temp.Write;
+import com.cinchapi.concourse.thrift.Operator;
 import com.cinchapi.concourse.thrift.TObject;
 import com.cinchapi.concourse.thrift.TObject.Aliases;
+import com.cinchapi.concourse.thrift.Type;
 import com.cinchapi.concourse.util.Comparators;
 import com.cinchapi.concourse.util.Logger;
 import com.cinchapi.concourse.util.TStrings;
@@ -98,12 +112,14 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalCause;
 import com.google.common.cache.Weigher;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Range;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Streams;
 import com.google.common.collect.TreeMultimap;
@@ -185,18 +201,58 @@ public final class Database implements DurableStore {
         return null;
     }
 
+    /**
+     * The term frequency saturation parameter that is used for BM25 scoring
+     * in {@link #search(String, String, int)}.
+     */
+    private static final double BM25_K1 = 1.2;
+
+    /**
+     * The number of counters in the {@link FrequencySketch} that each cache
+     * uses for {@link #ENABLE_CACHE_ADMISSION_CONTROL admission control}.
+     */
+    private static final int CACHE_ADMISSION_SKETCH_COUNTERS = 1 << 16;
+
+    /**
+     * The number of times that a key must have been requested recently for its
+     * missing value to be cached when {@link #ENABLE_CACHE_ADMISSION_CONTROL
+     * admission control} is enabled and the cache is full.
+     */
+    private static final int CACHE_ADMISSION_THRESHOLD = 2;
+
     /**
      * Global flag to indicate if async data reads are enabled
      */
     // Copied here as a final variable for (hopeful) performance gains.
     private static final boolean ENABLE_ASYNC_DATA_READS = GlobalState.ENABLE_ASYNC_DATA_READS;
 
+    /**
+     * Global flag that indicates if caches only admit values for keys that
+     * have been requested recently.
+     */
+    // Copied here as a final variable for (hopeful) performance gains.
+    private static final boolean ENABLE_CACHE_ADMISSION_CONTROL = GlobalState.ENABLE_CACHE_ADMISSION_CONTROL;
+
     /**
      * Global flag that indicates if compaction is enabled.
      */
     // Copied here as a final variable for (hopeful) performance gains.
     private static final boolean ENABLE_COMPACTION = GlobalState.ENABLE_COMPACTION;
 
+    /**
+     * Global flag that indicates if compaction should use the
+     * {@link TieredCompactor}.
+     */
+    // Copied here as a final variable for (hopeful) performance gains.
+    private static final boolean ENABLE_TIERED_COMPACTION = GlobalState.ENABLE_TIERED_COMPACTION;
+
+    /**
+     * Global flag that indicates if range queries may be evaluated using
+     * {@link #getIndexRecord(Text, Range) partial index records}.
+     */
+    // Copied here as a final variable for (hopeful) performance gains.
+    private static final boolean ENABLE_PARTIAL_INDEX_LOADING = GlobalState.ENABLE_PARTIAL_INDEX_LOADING;
+
     /**
      * Global flag that indicates if search data is cached.
      */
@@ -603,7 +659,7 @@ public final class Database implements DurableStore {
     @Override
     public Map<TObject, Set<Long>> browse(String key, long timestamp) {
         Text L = Text.wrapCached(key);
-        IndexRecord index = getIndexRecord(L);
+        IndexRecord index = getIndexRecord(L, timestamp);
         Map<Value, Set<Identifier>> data = index.getAll(timestamp);
         return Internals.transformAssumedSortedMap(data, Value::getTObject,
                 Identifier::longValue, TObjectSorter.INSTANCE);
@@ -614,7 +670,8 @@ public final class Database implements DurableStore {
             long start, long end) {
         Identifier L = Identifier.of(record);
         Text K = Text.wrapCached(key);
-        TableRecord table = getTableRecord(L);
+        // Revisions at or after #end don't affect the chronology
+        TableRecord table = getTableRecord(L, K, end - 1);
         Map<Long, Set<Value>> data = table.chronologize(K, start, end);
         return Transformers.transformMapSet(data, Functions.identity(),
                 Value::getTObject);
@@ -654,9 +711,10 @@ public final class Database implements DurableStore {
     @Override
     public Map<Long, Set<TObject>> explore(String key, Aliases aliases) {
         Text L = Text.wrapCached(key);
-        IndexRecord index = getIndexRecord(L);
         Value[] Ks = Transformers.transformArray(aliases.values(), Value::wrap,
                 Value.class);
+        IndexRecord index = getIndexRecord(L,
+                IndexRecord.span(aliases.operator(), Ks));
         Map<Identifier, Set<Value>> map = index.findAndGet(aliases.operator(),
                 Ks);
         return Transformers.transformTreeMapSet(map, Identifier::longValue,
@@ -667,9 +725,10 @@ public final class Database implements DurableStore {
     public Map<Long, Set<TObject>> explore(String key, Aliases aliases,
             long timestamp) {
         Text L = Text.wrapCached(key);
-        IndexRecord index = getIndexRecord(L);
         Value[] Ks = Transformers.transformArray(aliases.values(), Value::wrap,
                 Value.class);
+        IndexRecord index = getIndexRecord(L,
+                IndexRecord.historicalSpan(aliases.operator(), Ks));
         Map<Identifier, Set<Value>> map = index.findAndGet(timestamp,
                 aliases.operator(), Ks);
         return Transformers.transformTreeMapSet(map, Identifier::longValue,
@@ -689,7 +748,7 @@ public final class Database implements DurableStore {
     public Set<TObject> gather(String key, long record, long timestamp) {
         Text L = Text.wrapCached(key);
         Identifier V = Identifier.of(record);
-        IndexRecord index = getIndexRecord(L);
+        IndexRecord index = getIndexRecord(L, timestamp);
         Set<Value> Ks = index.gather(V, timestamp);
         return Transformers.transformSet(Ks, Value::getTObject);
     }
@@ -704,6 +763,28 @@ public final class Database implements DurableStore {
         return directory.toString();
     }
 
+    /**
+     * Return the total number of bytes in all the {@link Segment Segments}
+     * that have been compacted.
+     * 
+     * @return the number of bytes read by compaction
+     */
+    @ManagedOperation
+    public long getCompactionBytesRead() {
+        return compactor != null ? compactor.bytesRead() : 0;
+    }
+
+    /**
+     * Return the total number of bytes in all the {@link Segment Segments}
+     * that have been produced by compaction.
+     * 
+     * @return the number of bytes written by compaction
+     */
+    @ManagedOperation
+    public long getCompactionBytesWritten() {
+        return compactor != null ? compactor.bytesWritten() : 0;
+    }
+
     /**
      * Return a the list of ids for all the blocks that are currently in scope.
      * 
@@ -883,8 +964,7 @@ public final class Database implements DurableStore {
                     Segment segment = segments.get(i);
                     Segment clean = balanced.get(segment);
                     if(clean != null) {
-                        clean.transfer(storage.directory()
-                                .resolve(UUID.randomUUID() + ".seg"));
+                        storage.save(clean);
                         segments.set(i, clean);
                         segment.delete();
                     }
@@ -921,35 +1001,8 @@ public final class Database implements DurableStore {
         // search potentially works across multiple ones.
         masterLock.readLock().lock();
         try {
-            Text L = Text.wrapCached(key);
-            // Get each word in the query separately to ensure that multi word
-            // search works.
-            String[] words = query.toString().toLowerCase().split(
-                    TStrings.REGEX_GROUP_OF_ONE_OR_MORE_WHITESPACE_CHARS);
-            Multimap<Identifier, Integer> reference = ImmutableMultimap.of();
-            boolean initial = true;
-            for (String word : words) {
-                Text K = Text.wrap(word);
-                CorpusRecord corpus = getCorpusRecord(L, K);
-                Set<Position> appearances = corpus.get(K);
-                Multimap<Identifier, Integer> temp = HashMultimap.create();
-                for (Position appearance : appearances) {
-                    Identifier record = appearance.getIdentifier();
-                    int position = appearance.getIndex();
-                    if(initial) {
-                        temp.put(record, position);
-                    }
-                    else {
-                        for (int current : reference.get(record)) {
-                            if(position == current + 1) {
-                                temp.put(record, position);
-                            }
-                        }
-                    }
-                }
-                initial = false;
-                reference = temp;
-            }
+            Multimap<Identifier, Integer> reference = getPhraseAppearances(
+                    Text.wrapCached(key), query, null);
 
             // Result Scoring: Scoring is simply the number of times the query
             // appears in a Record [e.g. the number of Positions mapped from
@@ -972,6 +1025,70 @@ public final class Database implements DurableStore {
         }
     }
 
+    @Override
+    public Set<Long> search(String key, String query, int limit) {
+        masterLock.readLock().lock();
+        try {
+            List<Map<Identifier, Integer>> frequencies = new ArrayList<>();
+            Multimap<Identifier, Integer> reference = getPhraseAppearances(
+                    Text.wrapCached(key), query, frequencies);
+            if(reference.isEmpty() || limit <= 0) {
+                return new LinkedHashSet<>();
+            }
+
+            // Result Scoring: Each record that contains the query is scored
+            // using BM25, summing the score for each word in the query. The
+            // inverse document frequency of each word is relative to the
+            // records that contain any of the words in the query.
+            Set<Identifier> documents = new HashSet<>();
+            for (Map<Identifier, Integer> tf : frequencies) {
+                documents.addAll(tf.keySet());
+            }
+            int n = documents.size();
+            double[] idf = new double[frequencies.size()];
+            for (int i = 0; i < idf.length; ++i) {
+                int df = frequencies.get(i).size();
+                idf[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            }
+            Comparator<Entry<Identifier, Double>> ranking = (e1, e2) -> {
+                int c = Double.compare(e2.getValue(), e1.getValue());
+                return c != 0 ? c
+                        : Long.compareUnsigned(e1.getKey().longValue(),
+                                e2.getKey().longValue());
+            };
+
+            // Use a bounded heap, whose head is the least relevant match, to
+            // only retain the #limit most relevant matches.
+            PriorityQueue<Entry<Identifier, Double>> heap = new PriorityQueue<>(
+                    Math.min(limit, reference.keySet().size()) + 1,
+                    ranking.reversed());
+            for (Identifier record : reference.keySet()) {
+                double score = 0;
+                for (int i = 0; i < idf.length; ++i) {
+                    int tf = frequencies.get(i).get(record);
+                    score += idf[i] * (tf * (BM25_K1 + 1))
+                            / (tf + BM25_K1);
+                }
+                Entry<Identifier, Double> match = Maps.immutableEntry(record,
+                        score);
+                if(heap.size() < limit) {
+                    heap.offer(match);
+                }
+                else if(ranking.compare(match, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.offer(match);
+                }
+            }
+            List<Entry<Identifier, Double>> matches = new ArrayList<>(heap);
+            matches.sort(ranking);
+            return matches.stream().map(match -> match.getKey().longValue())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+        finally {
+            masterLock.readLock().unlock();
+        }
+    }
+
     @Override
     public Map<String, Set<TObject>> select(long record) {
         Identifier L = Identifier.of(record);
@@ -985,7 +1102,7 @@ public final class Database implements DurableStore {
     @Override
     public Map<String, Set<TObject>> select(long record, long timestamp) {
         Identifier L = Identifier.of(record);
-        TableRecord table = getTableRecord(L);
+        TableRecord table = getTableRecord(L, timestamp);
         Map<Text, Set<Value>> data = table.getAll(timestamp);
         return Transformers.transformTreeMapSet(data, Text::toString,
                 Value::getTObject,
@@ -1005,7 +1122,7 @@ public final class Database implements DurableStore {
     public Set<TObject> select(String key, long record, long timestamp) {
         Identifier L = Identifier.of(record);
         Text K = Text.wrapCached(key);
-        TableRecord table = getTableRecord(L, K);
+        TableRecord table = getTableRecord(L, K, timestamp);
         Set<Value> data = table.get(K, timestamp);
         return Transformers.transformSet(data, Value::getTObject);
     }
@@ -1024,10 +1141,13 @@ public final class Database implements DurableStore {
             ArrayBuilder<Runnable> tasks = ArrayBuilder.builder();
             List<Segment> segments = Collections
                     .synchronizedList(this.segments);
+            // Segments that are in the catalog are loaded without reading
+            // their files and are only opened when they are first probed, so
+            // startup time doesn't grow with the amount of stored data.
             Stream<Path> files = storage.files();
             files.forEach(file -> tasks.add(() -> {
                 try {
-                    Segment segment = Segment.load(file);
+                    Segment segment = storage.catalog.load(file);
                     segments.add(segment);
                 }
                 catch (SegmentLoadingException e) {
@@ -1057,6 +1177,9 @@ public final class Database implements DurableStore {
                 }
             }
 
+            // Drop catalog entries for Segment files that no longer exist
+            storage.catalog.retain(this.segments);
+
             // Sort the segments in chronological order
             Collections.sort(this.segments, Segment.TEMPORAL_COMPARATOR);
 
@@ -1100,7 +1223,9 @@ public final class Database implements DurableStore {
              */
             // @formatter:off
             compactor = ENABLE_COMPACTION
-                    ? new SimilarityCompactor(storage)
+                    ? (ENABLE_TIERED_COMPACTION
+                            ? new TieredCompactor(storage)
+                            : new SimilarityCompactor(storage))
                     : NoOpCompactor.instance();
 
             fullCompaction = ENABLE_COMPACTION
@@ -1191,7 +1316,7 @@ public final class Database implements DurableStore {
         Identifier L = write.getRecord();
         Text K = write.getKey();
         Value V = write.getValue();
-        TableRecord table = getTableRecord(L, K);
+        TableRecord table = getTableRecord(L, K, timestamp);
         return table.contains(K, V, timestamp);
     }
 
@@ -1211,11 +1336,21 @@ public final class Database implements DurableStore {
         Weigher<Composite, T> weigher = (key, value) -> key.size()
                 + value.size();
         // @formatter:off
-        LoadingCache<Composite, T> cache = CacheBuilder.newBuilder()
+        CacheBuilder<Composite, T> builder = CacheBuilder.newBuilder()
                 .weigher(weigher)
-                .maximumWeight(maximumWeight)
-                .softValues()
+                .maximumWeight(maximumWeight);
+        if(!ENABLE_CACHE_ADMISSION_CONTROL) {
+            // Without admission control, soft values are a safety net
+            // against a burst of one-off loads exhausting the heap before
+            // eviction catches up
+            builder.softValues();
+        }
+        AtomicBoolean full = new AtomicBoolean(false);
+        LoadingCache<Composite, T> cache = builder
                 .removalListener(notification -> {
+                    if(notification.getCause() == RemovalCause.SIZE) {
+                        full.set(true);
+                    }
                     if(notification.wasEvicted()) {
                         T record = notification.getValue();
                         Logger.debug("Evicted {} from cache due to {}", 
@@ -1247,7 +1382,10 @@ public final class Database implements DurableStore {
 
                 });
         // @formatter:on
-        return new RunningAwareCache<>(cache, loader);
+        FrequencySketch sketch = ENABLE_CACHE_ADMISSION_CONTROL
+                ? new FrequencySketch(CACHE_ADMISSION_SKETCH_COUNTERS)
+                : null;
+        return new RunningAwareCache<>(cache, loader, sketch, full);
     }
 
     /**
@@ -1329,6 +1467,121 @@ public final class Database implements DurableStore {
         }
     }
 
+    /**
+     * Return an {@link IndexRecord} for {@code key} that is guaranteed to have
+     * the historical state at {@code timestamp}.
+     * <p>
+     * If the full {@link IndexRecord} for {@code key} is cached, it is
+     * returned. Otherwise, if there are {@link #skipsSegmentsAfter(long)
+     * Segments to skip}, this method will attempt to short circuit by only
+     * reading the {@link Segment Segments} that
+     * {@link Segment#mightContainVersionsAtOrBefore(long) might contain}
+     * {@link Revision revisions} at or before {@code timestamp}. As a result,
+     * the returned {@link IndexRecord} is not cached and cannot be reliably
+     * used for other queries. If there aren't any Segments to skip, the full
+     * {@link IndexRecord} is loaded and cached.
+     * </p>
+     * 
+     * @param key
+     * @param timestamp
+     * @return the {@link IndexRecord}
+     */
+    private IndexRecord getIndexRecord(Text key, long timestamp) {
+        masterLock.readLock().lock();
+        try {
+            Composite composite = Composite.create(key);
+            IndexRecord index = indexCache.getIfPresent(composite);
+            if(index == null && !skipsSegmentsAfter(timestamp)) {
+                index = getIndexRecord(key);
+            }
+            else if(index == null) {
+                // Create a time-bounded IndexRecord to handle this, but DO NOT
+                // cache it since it is missing later revisions.
+                index = IndexRecord.create(key);
+                seekAtOrBefore(timestamp, composite, Segment::index, index, key,
+                        null);
+            }
+            return index;
+        }
+        finally {
+            masterLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return an {@link IndexRecord} that is guaranteed to have the present and
+     * historical state for the values of {@code key} within the
+     * {@code span}.
+     * <p>
+     * If the full {@link IndexRecord} for {@code key} is cached, it is
+     * returned. Otherwise, if {@link #ENABLE_PARTIAL_INDEX_LOADING partial
+     * index loading} is enabled and there is a {@code span} (e.g., the
+     * {@link IndexRecord#span(Operator, Value...) span} of an operation), this
+     * method will attempt to short circuit by not loading {@link Revision
+     * revisions} for values outside of that span. As a result, the returned
+     * {@link IndexRecord} is not cached and cannot be reliably used for other
+     * queries.
+     * </p>
+     * 
+     * @param key
+     * @param span the {@link Range} of values that are needed or {@code null}
+     *            if every value is potentially needed
+     * @return the {@link IndexRecord}
+     */
+    @SuppressWarnings("unchecked")
+    private IndexRecord getIndexRecord(Text key, @Nullable Range<Value> span) {
+        masterLock.readLock().lock();
+        try {
+            Composite composite = Composite.create(key);
+            IndexRecord index = indexCache.getIfPresent(composite);
+            if(index == null) {
+                Range<Value> range = ENABLE_PARTIAL_INDEX_LOADING ? span
+                        : null;
+                if(range != null) {
+                    // Create a partial IndexRecord to handle this, but DO NOT
+                    // cache it since it has no other utility.
+                    index = IndexRecord.createPartial(key, range);
+                    // Skip the Segments whose fences show that they don't
+                    // store any values in the #range for the #key
+                    List<Segment> overlapping = segments.stream()
+                            .filter(segment -> segment.index().mightOverlap(key,
+                                    range))
+                            .collect(Collectors.toList());
+                    if(options.enableAsyncIndexDataReads()) {
+                        int i = 0;
+                        Fragment<Text, Value, Identifier>[] fragments = new Fragment[overlapping
+                                .size()];
+                        Runnable[] tasks = new Runnable[overlapping.size()];
+                        for (Segment segment : overlapping) {
+                            Fragment<Text, Value, Identifier> fragment = new Fragment<>(
+                                    key, null);
+                            fragments[i] = fragment;
+                            tasks[i++] = () -> segment.index().seek(composite,
+                                    range, fragment);
+                        }
+                        reader.join(tasks);
+                        index.append(fragments);
+                    }
+                    else {
+                        for (Segment segment : overlapping) {
+                            segment.index().seek(composite, range, index);
+                        }
+                    }
+                }
+                else {
+                    index = indexCache.get(composite);
+                }
+            }
+            return index;
+        }
+        catch (ExecutionException e) {
+            throw CheckedExceptions.wrapAsRuntimeException(e);
+        }
+        finally {
+            masterLock.readLock().unlock();
+        }
+    }
+
     /**
      * Return a {@link Record} that is guaranteed to have the present state for
      * whether {@code value} is contained for {@code key} in {@code record}. The
@@ -1386,6 +1639,136 @@ public final class Database implements DurableStore {
         }
     }
 
+    /**
+     * Return a mapping from each record where the words in {@code query}
+     * appear consecutively within the indexed terms for {@code key} to the
+     * position of the last word in each appearance.
+     * 
+     * @param key
+     * @param query
+     * @param frequencies a {@link List} to which a mapping from each record
+     *            where each word in {@code query} appears to the number of
+     *            times it appears is added, if it is not {@code null}
+     * @return the appearances of {@code query}
+     */
+    private Multimap<Identifier, Integer> getPhraseAppearances(Text key,
+            String query,
+            @Nullable List<Map<Identifier, Integer>> frequencies) {
+        // Get each word in the query separately to ensure that multi word
+        // search works.
+        String[] words = query.toString().toLowerCase()
+                .split(TStrings.REGEX_GROUP_OF_ONE_OR_MORE_WHITESPACE_CHARS);
+        Multimap<Identifier, Integer> reference = ImmutableMultimap.of();
+        boolean initial = true;
+        for (String word : words) {
+            Set<Position> appearances = getSearchAppearances(key, word);
+            Map<Identifier, Integer> tf = frequencies != null ? new HashMap<>()
+                    : null;
+            Multimap<Identifier, Integer> temp = HashMultimap.create();
+            for (Position appearance : appearances) {
+                Identifier record = appearance.getIdentifier();
+                int position = appearance.getIndex();
+                if(tf != null) {
+                    tf.merge(record, 1, Integer::sum);
+                }
+                if(initial) {
+                    temp.put(record, position);
+                }
+                else {
+                    for (int current : reference.get(record)) {
+                        if(position == current + 1) {
+                            temp.put(record, position);
+                        }
+                    }
+                }
+            }
+            if(tf != null) {
+                frequencies.add(tf);
+            }
+            initial = false;
+            reference = temp;
+        }
+        return reference;
+    }
+
+    /**
+     * Return the {@link Position positions} where {@code word} appears within
+     * the indexed terms for {@code key}.
+     * <p>
+     * If the {@link GlobalState#ENABLE_TRIGRAM_SEARCH_INDEX trigram search
+     * index} is enabled and {@code word} is longer than a trigram, the
+     * candidate positions are those where all the trigrams of {@code word}
+     * appear. Each candidate is then verified against the stored values for
+     * {@code key} because a term may contain each of the trigrams without
+     * containing {@code word}.
+     * </p>
+     * 
+     * @param key
+     * @param word
+     * @return the positions where {@code word} appears
+     */
+    private Set<Position> getSearchAppearances(Text key, String word) {
+        int length = word.length();
+        // NOTE: This is NOT static because unit tests sequencing would
+        // cause this to fail :-/
+        if(!GlobalState.ENABLE_TRIGRAM_SEARCH_INDEX
+                || length <= CorpusChunk.TRIGRAM_LENGTH) {
+            Text K = Text.wrap(word);
+            CorpusRecord corpus = getCorpusRecord(key, K);
+            return corpus.get(K);
+        }
+        else {
+            Set<Position> candidates = null;
+            Set<String> trigrams = new LinkedHashSet<>();
+            for (int i = 0; i + CorpusChunk.TRIGRAM_LENGTH <= length; ++i) {
+                trigrams.add(
+                        word.substring(i, i + CorpusChunk.TRIGRAM_LENGTH));
+            }
+            for (String trigram : trigrams) {
+                Text K = Text.wrap(trigram);
+                CorpusRecord corpus = getCorpusRecord(key, K);
+                if(candidates == null) {
+                    candidates = new HashSet<>(corpus.get(K));
+                }
+                else {
+                    candidates.retainAll(corpus.get(K));
+                }
+                if(candidates.isEmpty()) {
+                    break;
+                }
+            }
+            Infingram needle = new CompiledInfingram(word);
+            Map<Identifier, List<String[]>> terms = new HashMap<>();
+            Set<Position> appearances = new HashSet<>();
+            for (Position candidate : candidates) {
+                // Tokenize the stored values in the same manner as the
+                // CorpusChunk so that the index of each token lines up with
+                // the candidate's position.
+                List<String[]> tokens = terms.computeIfAbsent(
+                        candidate.getIdentifier(), record -> {
+                            List<String[]> $tokens = new ArrayList<>();
+                            for (Value value : getTableRecord(record, key)
+                                    .get(key)) {
+                                if(value.getType() == Type.STRING) {
+                                    $tokens.add(value.getObject().toString()
+                                            .toLowerCase()
+                                            .split(TStrings.REGEX_GROUP_OF_ONE_OR_MORE_WHITESPACE_CHARS));
+                                }
+                            }
+                            return $tokens;
+                        });
+                int index = candidate.getIndex();
+                for (String[] toks : tokens) {
+                    if(index < toks.length && needle.in(toks[index])) {
+                        appearances.add(candidate);
+                        break;
+                    }
+                }
+            }
+            return appearances;
+        }
+    }
+
     /**
      * Return the TableRecord identifier by {@code identifier}.
      * 
@@ -1441,6 +1824,95 @@ public final class Database implements DurableStore {
         }
     }
 
+    /**
+     * Return a {@link TableRecord} for {@code identifier} that is guaranteed to
+     * have the historical state at {@code timestamp}.
+     * <p>
+     * If the full {@link TableRecord} is cached, it is returned. Otherwise,
+     * if there are {@link #skipsSegmentsAfter(long) Segments to skip}, this
+     * method will attempt to short circuit by only reading the
+     * {@link Segment Segments} that
+     * {@link Segment#mightContainVersionsAtOrBefore(long) might contain}
+     * {@link Revision revisions} at or before {@code timestamp}. As a result,
+     * the returned {@link TableRecord} is not cached and cannot be reliably
+     * used for other queries. If there aren't any Segments to skip, the full
+     * {@link TableRecord} is loaded and cached.
+     * </p>
+     * 
+     * @param identifier
+     * @param timestamp
+     * @return the TableRecord
+     */
+    private TableRecord getTableRecord(Identifier identifier, long timestamp) {
+        masterLock.readLock().lock();
+        try {
+            Composite composite = Composite.create(identifier);
+            TableRecord table = tableCache.getIfPresent(composite);
+            if(table == null && !skipsSegmentsAfter(timestamp)) {
+                table = getTableRecord(identifier);
+            }
+            else if(table == null) {
+                // Create a time-bounded TableRecord to handle this, but DO NOT
+                // cache it since it is missing later revisions.
+                table = TableRecord.create(identifier);
+                seekAtOrBefore(timestamp, composite, Segment::table, table,
+                        identifier, null);
+            }
+            return table;
+        }
+        finally {
+            masterLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return a potentially partial {@link TableRecord} for {@code key} in
+     * {@code identifier} that is guaranteed to have the historical state at
+     * {@code timestamp}.
+     * <p>
+     * If a full or partial {@link TableRecord} is cached, it is returned.
+     * Otherwise, if there are {@link #skipsSegmentsAfter(long) Segments to
+     * skip}, this method will attempt to short circuit by only reading the
+     * {@link Segment Segments} that
+     * {@link Segment#mightContainVersionsAtOrBefore(long) might contain}
+     * {@link Revision revisions} at or before {@code timestamp}. As a result,
+     * the returned {@link TableRecord} is not cached and cannot be reliably
+     * used for other queries. If there aren't any Segments to skip, the
+     * partial {@link TableRecord} is loaded and cached.
+     * </p>
+     * 
+     * @param identifier
+     * @param key
+     * @param timestamp
+     * @return the TableRecord
+     */
+    private TableRecord getTableRecord(Identifier identifier, Text key,
+            long timestamp) {
+        masterLock.readLock().lock();
+        try {
+            TableRecord table = tableCache
+                    .getIfPresent(Composite.create(identifier));
+            if(table == null && !skipsSegmentsAfter(timestamp)) {
+                table = getTableRecord(identifier, key);
+            }
+            else if(table == null) {
+                Composite composite = Composite.create(identifier, key);
+                table = tablePartialCache.getIfPresent(composite);
+                if(table == null) {
+                    // Create a time-bounded TableRecord to handle this, but DO
+                    // NOT cache it since it is missing later revisions.
+                    table = TableRecord.createPartial(identifier, key);
+                    seekAtOrBefore(timestamp, composite, Segment::table, table,
+                            identifier, key);
+                }
+            }
+            return table;
+        }
+        finally {
+            masterLock.readLock().unlock();
+        }
+    }
+
     /**
      * Rotate the database by adding a new {@link Segment} and setting it as
      * {@link #seg0} so that it is the destination into which subsequent
@@ -1470,6 +1942,66 @@ public final class Database implements DurableStore {
         }
     }
 
+    /**
+     * Seek the {@link Revision revisions} that match {@code composite} and
+     * have a version at or before {@code timestamp} from the {@link Chunk}
+     * that the {@code chunk} function returns for each relevant
+     * {@link Segment} and {@link Record#append(Revision) append} them to the
+     * {@code record}.
+     * <p>
+     * {@link Segment Segments} whose versions are all after {@code timestamp}
+     * are skipped. Any later {@link Revision revisions} in the other
+     * {@link Segment Segments} are dropped so that the {@code record}
+     * consistently reflects the state at {@code timestamp}.
+     * </p>
+     * 
+     * @param timestamp
+     * @param composite
+     * @param chunk
+     * @param record
+     * @param locator
+     * @param key
+     */
+    private <L extends Byteable & Comparable<L>, K extends Byteable & Comparable<K>, V extends Byteable & Comparable<V>> void seekAtOrBefore(
+            long timestamp, Composite composite,
+            Function<Segment, Chunk<L, K, V>> chunk, Record<L, K, V> record,
+            L locator, @Nullable K key) {
+        for (Segment segment : segments) {
+            if(segment.mightContainVersionsAtOrBefore(timestamp)) {
+                Fragment<L, K, V> fragment = new Fragment<>(locator, key);
+                chunk.apply(segment).seek(composite, fragment);
+                for (Revision<L, K, V> revision : fragment.revisions()) {
+                    if(revision.getVersion() <= timestamp) {
+                        record.append(revision);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Return {@code true} if a historical read at {@code timestamp} can skip
+     * at least one of the {@link #segments} because it doesn't
+     * {@link Segment#mightContainVersionsAtOrBefore(long) contain any
+     * versions} at or before {@code timestamp}.
+     * <p>
+     * If no {@link Segment} can be skipped, a time-bounded {@link Record} reads
+     * the same data as the full one, so it is better to load and cache the
+     * full {@link Record} for subsequent reads.
+     * </p>
+     * 
+     * @param timestamp
+     * @return {@code true} if any {@link Segment Segments} can be skipped
+     */
+    private boolean skipsSegmentsAfter(long timestamp) {
+        for (Segment segment : segments) {
+            if(!segment.mightContainVersionsAtOrBefore(timestamp)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * If necessary, update all the in-memory caches with data from the
      * {@link Receipt receipt} in order to maintain read consistency.
@@ -2003,14 +2535,37 @@ public final class Database implements DurableStore {
          */
         private final Function<K, V> loader;
 
+        /**
+         * When {@link GlobalState#ENABLE_CACHE_ADMISSION_CONTROL admission
+         * control} is enabled, the sketch that estimates how often each key
+         * is requested so that a missing value is only cached if its key has
+         * been requested before. Otherwise, {@code null}.
+         */
+        @Nullable
+        private final FrequencySketch sketch;
+
+        /**
+         * A flag that is set once the {@link #cache} has evicted a value to
+         * stay within its maximum weight, which means that caching another
+         * value may displace one that is in use. Until then, every missing
+         * value is cached, regardless of the {@link #sketch}.
+         */
+        private final AtomicBoolean full;
+
         /**
          * Construct a new instance.
          * 
          * @param cache
+         * @param loader
+         * @param sketch
+         * @param full
          */
-        RunningAwareCache(LoadingCache<K, V> cache, Function<K, V> loader) {
+        RunningAwareCache(LoadingCache<K, V> cache, Function<K, V> loader,
+                @Nullable FrequencySketch sketch, AtomicBoolean full) {
             this.cache = cache;
             this.loader = loader;
+            this.sketch = sketch;
+            this.full = full;
         }
 
         @Override
@@ -2033,7 +2588,29 @@ public final class Database implements DurableStore {
 
         @Override
         public V get(K key) throws ExecutionException {
-            return running ? cache.get(key) : loader.apply(key);
+            if(!running) {
+                return loader.apply(key);
+            }
+            else if(sketch != null) {
+                sketch.increment(key);
+                V value = cache.getIfPresent(key);
+                if(value != null) {
+                    return value;
+                }
+                else if(!full.get() || sketch
+                        .frequency(key) >= CACHE_ADMISSION_THRESHOLD) {
+                    return cache.get(key);
+                }
+                else {
+                    // The key hasn't been requested recently enough to
+                    // displace the cached values (e.g., it is part of a
+                    // one-off scan), so load it without caching it
+                    return loader.apply(key);
+                }
+            }
+            else {
+                return cache.get(key);
+            }
         }
 
         @Override
@@ -2080,6 +2657,7 @@ public final class Database implements DurableStore {
         public void invalidateAll() {
             if(running) {
                 cache.invalidateAll();
+                full.set(false);
             }
         }
 
@@ -2132,6 +2710,17 @@ public final class Database implements DurableStore {
 
         private static String FILESYSTEM_HOOK_FILE_NAME = ".fs";
 
+        /**
+         * The name of the file where the {@link #catalog} is stored.
+         */
+        private static String CATALOG_FILE_NAME = ".catalog";
+
+        /**
+         * The {@link SegmentCatalog} that records the metadata of each
+         * {@link #save(Segment) saved} {@link Segment}.
+         */
+        private final SegmentCatalog catalog;
+
         /**
          * The directory where .{@link Segment seg} files are stored.
          */
@@ -2165,6 +2754,8 @@ public final class Database implements DurableStore {
             this.segments = segments;
             this.lock = lock;
             this.fs = directory.resolve(FILESYSTEM_HOOK_FILE_NAME).toFile();
+            this.catalog = new SegmentCatalog(
+                    directory.resolve(CATALOG_FILE_NAME));
             try {
                 fs.createNewFile(); // File must "exist" in order to
                                     // hook into disk space APIs
@@ -2191,13 +2782,14 @@ public final class Database implements DurableStore {
         }
 
         /**
-         * Return a {@link Stream} of all the storage files.
+         * Return a {@link Stream} of all the storage files, excluding the
+         * hidden ones that hold bookkeeping (e.g., the {@link #catalog}).
          * 
          * @return the storage files
          */
         public Stream<Path> files() {
-            return FileSystem.ls(directory).filter(file -> !file.getFileName()
-                    .toString().equals(FILESYSTEM_HOOK_FILE_NAME));
+            return FileSystem.ls(directory).filter(
+                    file -> !file.getFileName().toString().startsWith("."));
         }
 
         @Override
@@ -2209,6 +2801,7 @@ public final class Database implements DurableStore {
         public Path save(Segment segment) {
             Path file = directory.resolve(UUID.randomUUID() + ".seg");
             segment.transfer(file);
+            catalog.add(segment);
             return file;
         }
 
@@ -17,6 +17,7 @@ package com.cinchapi.concourse.server.storage.db;
 
 import java.lang.ref.SoftReference;
 import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,7 @@ import com.cinchapi.concourse.annotate.DoNotInvoke;
 import com.cinchapi.concourse.annotate.PackagePrivate;
 import com.cinchapi.concourse.search.CompiledInfingram;
 import com.cinchapi.concourse.search.Infingram;
+import com.cinchapi.concourse.server.GlobalState;
 import com.cinchapi.concourse.server.model.Identifier;
 import com.cinchapi.concourse.server.model.Text;
 import com.cinchapi.concourse.server.model.Value;
@@ -49,6 +51,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 
 /**
@@ -85,6 +88,101 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
         return new IndexRecord(locator, key);
     }
 
+    /**
+     * Return an {@link IndexRecord} that only holds data for the keys in
+     * {@code locator} that fall within {@code range}.
+     * <p>
+     * The returned {@link IndexRecord} can only be used to
+     * {@link #findAndGet(Operator, Value...) find} data for an operation whose
+     * {@link #span(Operator, Value...) span} is enclosed by {@code range}.
+     * </p>
+     * 
+     * @param locator
+     * @param range
+     * @return the {@link IndexRecord}
+     */
+    public static IndexRecord createPartial(Text locator, Range<Value> range) {
+        return new IndexRecord(locator, null, range);
+    }
+
+    /**
+     * Return the {@link Range} of keys that must be present in an
+     * {@link IndexRecord} in order to evaluate {@code operator} in relation to
+     * the {@code values}.
+     * <p>
+     * The returned {@link Range} accounts for the case insensitive matching
+     * that is performed by {@link #findAndGet(Operator, Value...)} (see
+     * CON-667), so it may be wider than the literal range expressed by the
+     * operation.
+     * </p>
+     * 
+     * @param operator
+     * @param values
+     * @return the {@link Range} of keys that are necessary to evaluate the
+     *         operation or {@code null} if every key is potentially necessary
+     *         (e.g. for a {@link Operator#REGEX} operation)
+     */
+    @Nullable
+    public static Range<Value> span(Operator operator, Value... values) {
+        Value value = values[0];
+        switch (operator) {
+        case EQUALS:
+            return Range.closed(value.toUpperCase(), value.toLowerCase());
+        case GREATER_THAN:
+            return Range.greaterThan(value.toLowerCase());
+        case GREATER_THAN_OR_EQUALS:
+            return Range.atLeast(value.toUpperCase());
+        case LESS_THAN:
+            return Range.lessThan(value.toUpperCase());
+        case LESS_THAN_OR_EQUALS:
+            return Range.atMost(value.toLowerCase());
+        case BETWEEN:
+            Preconditions.checkArgument(values.length > 1);
+            Value lower = value.toUpperCase();
+            Value upper = values[1].toUpperCase();
+            return lower.compareTo(upper) <= 0 ? Range.closedOpen(lower, upper)
+                    : null;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Return the {@link Range} of keys that must be present in an
+     * {@link IndexRecord} in order to evaluate {@code operator} in relation to
+     * the {@code values} at a historical timestamp.
+     * <p>
+     * Historical evaluation of {@link Operator#GREATER_THAN},
+     * {@link Operator#GREATER_THAN_OR_EQUALS}, {@link Operator#LESS_THAN} and
+     * {@link Operator#LESS_THAN_OR_EQUALS} compares stored values to a
+     * character sequence one character at a time without regard to case. The
+     * endpoints of a {@link #span(Operator, Value...) span} change the case of
+     * the entire string, which doesn't always agree (e.g. "\u00DF" upper cases
+     * to "SS"), so those operations may match keys that are outside of the
+     * span.
+     * </p>
+     * 
+     * @param operator
+     * @param values
+     * @return the {@link Range} of keys that are necessary to evaluate the
+     *         historical operation or {@code null} if every key is potentially
+     *         necessary
+     */
+    @Nullable
+    public static Range<Value> historicalSpan(Operator operator,
+            Value... values) {
+        switch (operator) {
+        case GREATER_THAN:
+        case GREATER_THAN_OR_EQUALS:
+        case LESS_THAN:
+        case LESS_THAN_OR_EQUALS:
+            return values[0].isCharSequenceType() ? null
+                    : span(operator, values);
+        default:
+            return span(operator, values);
+        }
+    }
+
     /**
      * Determines whether a nearby key should be coalesced with another one.
      * <p>
@@ -103,6 +201,15 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
      */
     private final transient Cube cube = new Cube();
 
+    /**
+     * If this {@link IndexRecord} was
+     * {@link #createPartial(Text, Range) created} to only hold data for a
+     * {@link Range} of keys, this is that {@link Range}. Otherwise, it is
+     * {@code null}.
+     */
+    @Nullable
+    private final Range<Value> range;
+
     /**
      * DO NOT INVOKE. Use {@link Record#createSearchRecord(Text)} or
      * {@link Record#createSecondaryRecordPartial(Text, Value)} instead.
@@ -113,7 +220,20 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
     @DoNotInvoke
     @PackagePrivate
     IndexRecord(Text locator, @Nullable Value key) {
+        this(locator, key, null);
+    }
+
+    /**
+     * Construct a new instance.
+     * 
+     * @param locator
+     * @param key
+     * @param range
+     */
+    private IndexRecord(Text locator, @Nullable Value key,
+            @Nullable Range<Value> range) {
         super(locator, key);
+        this.range = range;
     }
 
     /**
@@ -260,6 +380,23 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
         }
     }
 
+    @Override
+    public boolean isPartial() {
+        return super.isPartial() || range != null;
+    }
+
+    /**
+     * Return the {@link Range} of keys to which this {@link IndexRecord} is
+     * limited, if it was {@link #createPartial(Text, Range) created} as such.
+     * 
+     * @return the {@link Range} of keys or {@code null} if this
+     *         {@link IndexRecord} is not limited to a {@link Range}
+     */
+    @Nullable
+    public Range<Value> range() {
+        return range;
+    }
+
     @Override
     protected Map<Value, List<CompactRevision<Identifier>>> $createHistoryMap() {
         return new CoalescableTreeMap<>();
@@ -270,6 +407,17 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
         return new CoalescableTreeMap<>();
     }
 
+    @Override
+    protected void checkIsRelevantRevision(
+            Revision<Text, Value, Identifier> revision)
+            throws IllegalArgumentException {
+        super.checkIsRelevantRevision(revision);
+        Preconditions.checkArgument(
+                range == null || range.contains(revision.getKey()),
+                "Cannot append %s because it does not belong to %s", revision,
+                this);
+    }
+
     @Override
     protected void onAppend(Revision<Text, Value, Identifier> revision) {
         cube.clear();
@@ -360,6 +508,13 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
     private Map<Identifier, Set<Value>> findAndGet(boolean historical,
             long timestamp, Operator operator,
             Value... values) { /* Authorized */
+        if(range != null) {
+            Range<Value> span = historical ? historicalSpan(operator, values)
+                    : span(operator, values);
+            Preconditions.checkState(span != null && range.encloses(span),
+                    "Cannot evaluate %s %s using %s", operator,
+                    Arrays.toString(values), this);
+        }
         // CON-667: Value ordering for Strings is such that uppercase characters
         // are "smaller" than lowercase ones. Concourse uses case insensitive
         // matching, so we sometimes must modify the input #values in order to
@@ -539,6 +694,28 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
         // In the future, we may extend the Cube to hold slices for hot
         // historical timestamps.
 
+        /**
+         * A flag that indicates whether the slice of present data is held
+         * strongly instead of via a {@link SoftReference}.
+         * <p>
+         * With {@link GlobalState#ENABLE_CACHE_ADMISSION_CONTROL admission
+         * control}, the {@link Database} caches hold each {@link IndexRecord}
+         * strongly and bound its lifetime by weight, so the slice, which only
+         * references the {@link Identifier Identifiers} and {@link Value
+         * Values} that the {@link IndexRecord} already holds, is released
+         * along with it. Soft references are cleared in bulk when the heap is
+         * under pressure, which causes GC storms.
+         * </p>
+         */
+        private static final boolean HOLD_STRONGLY = GlobalState.ENABLE_CACHE_ADMISSION_CONTROL;
+
+        /**
+         * The slice of present data when it is {@link #HOLD_STRONGLY held
+         * strongly}.
+         */
+        @Nullable
+        private transient Map<Identifier, Set<Value>> present = null;
+
         /**
          * The slice of present data.
          */
@@ -549,6 +726,7 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
          * Remove all the data in the cube.
          */
         public void clear() {
+            present = null;
             slice.clear();
         }
 
@@ -562,10 +740,17 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
          */
         public void put(Identifier record, Value value, long timestamp) {
             if(timestamp == Time.NONE) {
-                if(slice.get() == null) {
-                    slice = new SoftReference<>(Maps.newHashMap());
+                Map<Identifier, Set<Value>> data = slice(timestamp);
+                if(data == null) {
+                    data = Maps.newHashMap();
+                    if(HOLD_STRONGLY) {
+                        present = data;
+                    }
+                    else {
+                        slice = new SoftReference<>(data);
+                    }
                 }
-                MultimapViews.put(slice.get(), record, value);
+                MultimapViews.put(data, record, value);
             }
         }
 
@@ -578,7 +763,7 @@ public final class IndexRecord extends Record<Text, Value, Identifier> {
         @Nullable
         public Map<Identifier, Set<Value>> slice(long timestamp) {
             if(timestamp == Time.NONE) {
-                return slice.get();
+                return HOLD_STRONGLY ? present : slice.get();
             }
             else {
                 return null;
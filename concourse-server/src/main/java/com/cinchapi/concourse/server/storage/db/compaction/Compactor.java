@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
@@ -73,6 +74,23 @@ public abstract class Compactor {
      */
     private final Shift shift;
 
+    /**
+     * The total number of bytes in all the {@link Segment Segments} that have
+     * been compacted.
+     */
+    private final AtomicLong bytesRead = new AtomicLong(0);
+
+    /**
+     * The total number of bytes in all the {@link Segment Segments} that have
+     * been produced by compaction.
+     */
+    private final AtomicLong bytesWritten = new AtomicLong(0);
+
+    /**
+     * The total number of successful {@link #compact(Segment...) compactions}.
+     */
+    private final AtomicLong compactions = new AtomicLong(0);
+
     /**
      * The underlying {@link SegmentStorageSystem storage} for {@link Segment
      * Segments} that may be compacted.
@@ -124,6 +142,36 @@ public abstract class Compactor {
         }
     }
 
+    /**
+     * Return the total number of bytes in all the {@link Segment Segments}
+     * that have been compacted.
+     * 
+     * @return the number of bytes read
+     */
+    public final long bytesRead() {
+        return bytesRead.get();
+    }
+
+    /**
+     * Return the total number of bytes in all the {@link Segment Segments}
+     * that have been produced by compaction.
+     * 
+     * @return the number of bytes written
+     */
+    public final long bytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Return the total number of successful {@link #compact(Segment...)
+     * compactions}.
+     * 
+     * @return the number of compactions
+     */
+    public final long compactions() {
+        return compactions.get();
+    }
+
     /**
      * Return a {@link Queue} that tracks the {@link Segment Segments} that
      * have been compacted and removed from the live collection.
@@ -160,6 +208,22 @@ public abstract class Compactor {
     @Nullable
     protected abstract List<Segment> compact(Segment... segments);
 
+    /**
+     * Return the maximum number of adjacent {@link Segment Segments} that this
+     * {@link Compactor} will ever attempt to {@link #compact(Segment...)
+     * compact} together.
+     * <p>
+     * Once a cycle reaches this {@link Shift#count count}, the next cycle
+     * starts over instead of trying larger groups that would never be
+     * compacted.
+     * </p>
+     * 
+     * @return the maximum shift count
+     */
+    protected int maxShiftCount() {
+        return Integer.MAX_VALUE;
+    }
+
     /**
      * Return {@link Shift#count}.
      * 
@@ -198,7 +262,7 @@ public abstract class Compactor {
             // eligible for compaction.
             --limit;
         }
-        if(count > limit) {
+        if(count > limit || count > maxShiftCount()) {
             // If attempting to compact more Segments than the limit allows,
             // reset by shifting the index back to 0 and the run length to 1.
             index = 0;
@@ -218,8 +282,11 @@ public abstract class Compactor {
                     id, Arrays.toString(group));
             List<Segment> compacted = compact(group);
             if(compacted != null) {
+                long read = 0;
+                long written = 0;
                 for (int i = 0; i < count; ++i) {
                     Segment removed = segments.remove(index);
+                    read += removed.length();
                     garbage.add(removed);
                     Logger.info(
                             "**Job: {}** The compactor removed the following segment: {}",
@@ -229,10 +296,17 @@ public abstract class Compactor {
                     Segment segment = compacted.get(i);
                     segments.add(index, segment);
                     storage.save(segment);
+                    written += segment.length();
                     Logger.info(
                             "**Job: {}** The compactor added the following segment: {}",
                             id, segment);
                 }
+                bytesRead.addAndGet(read);
+                bytesWritten.addAndGet(written);
+                compactions.incrementAndGet();
+                Logger.info(
+                        "**Job: {}** The compactor read {} bytes and wrote {} bytes",
+                        id, read, written);
                 index += (count - 1);
             }
             else {
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.db.compaction.tiered;
+
+import java.util.List;
+
+import com.cinchapi.concourse.server.GlobalState;
+import com.cinchapi.concourse.server.storage.db.SegmentStorageSystem;
+import com.cinchapi.concourse.server.storage.db.compaction.Compactor;
+import com.cinchapi.concourse.server.storage.db.kernel.Segment;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A {@link Compactor} that merges groups of adjacent {@link Segment Segments}
+ * that are in the same size <strong>tier</strong>.
+ * <p>
+ * A {@link Segment Segment's} tier is the number of times that its
+ * {@link Segment#length() length}, measured in Buffer pages, can be divided by
+ * the {@link #fanout} before it is smaller than the {@link #fanout}. Since the
+ * {@link Compactor} only considers adjacent {@link Segment Segments}, each
+ * group also covers a contiguous range of time, so older data is gradually
+ * consolidated into fewer, larger {@link Segment Segments} while recent data
+ * stays in small ones. This bounds the number of {@link Segment Segments} that
+ * each read must consider to roughly {@link #fanout} per tier.
+ * </p>
+ * <p>
+ * Each group is combined using {@link Segment#merge(Segment...)}, which
+ * streams the already sorted revisions of the input {@link Segment Segments}
+ * into off heap memory instead of re-indexing their data.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+public class TieredCompactor extends Compactor {
+
+    /**
+     * The number of {@link Segment Segments} from the same tier that are merged
+     * together, which is configured by
+     * {@link GlobalState#TIERED_COMPACTION_FANOUT}.
+     */
+    private int fanout = Math.max(2, GlobalState.TIERED_COMPACTION_FANOUT);
+
+    /**
+     * Construct a new instance.
+     *
+     * @param storage
+     */
+    public TieredCompactor(SegmentStorageSystem storage) {
+        super(storage);
+    }
+
+    @Override
+    protected List<Segment> compact(Segment... segments) {
+        if(segments.length == fanout) {
+            long requiredDiskSpace = 0;
+            int tier = tier(segments[0]);
+            for (Segment segment : segments) {
+                if(tier(segment) != tier) {
+                    return null;
+                }
+                requiredDiskSpace += segment.length();
+            }
+            if(storage().availableDiskSpace() > requiredDiskSpace) {
+                return ImmutableList.of(Segment.merge(segments));
+            }
+            else {
+                return null;
+            }
+        }
+        else {
+            return null;
+        }
+    }
+
+    /**
+     * Set the {@link #fanout}.
+     *
+     * @param fanout
+     */
+    @VisibleForTesting
+    protected void fanout(int fanout) {
+        Preconditions.checkArgument(fanout >= 2,
+                "The fanout must be at least 2");
+        this.fanout = fanout;
+    }
+
+    @Override
+    protected int maxShiftCount() {
+        return fanout;
+    }
+
+    /**
+     * Return the size tier of the {@code segment}.
+     *
+     * @param segment
+     * @return the tier
+     */
+    private int tier(Segment segment) {
+        long length = segment.length() / GlobalState.BUFFER_PAGE_SIZE;
+        int tier = 0;
+        while (length >= fanout) {
+            length /= fanout;
+            ++tier;
+        }
+        return tier;
+    }
+
+}
@@ -53,6 +53,7 @@ import com.cinchapi.lib.offheap.io.Serializer;
 import com.cinchapi.lib.offheap.memory.OffHeapMemory;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ComparisonChain;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 
 /**
@@ -112,6 +113,19 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
      */
     private final boolean allowEmptyFlush = this instanceof CorpusChunk;
 
+    /**
+     * The {@link CompressedBlocks} of a {@link Chunk} that was flushed in the
+     * compressed form. This is {@code null} until {@link #blocksDetected} or if
+     * the {@link Chunk} isn't compressed.
+     */
+    @Nullable
+    private volatile CompressedBlocks blocks;
+
+    /**
+     * A flag that indicates whether the {@link #blocks} have been detected.
+     */
+    private volatile boolean blocksDetected = false;
+
     /**
      * The bytes for all the {@link #revisions} in a {@link #isMutable()
      * mutable} {@link Chunk} that are generated alongside the {@link #manifest}
@@ -131,6 +145,13 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
      */
     private final List<Runnable> cleaners = new ArrayList<>(1);
 
+    /**
+     * A flag that indicates whether a {@link #isMutable() mutable}
+     * {@link Chunk} is {@link #flush(ByteSink) flushed} in the compressed form
+     * that is described in {@link CompressedBlocks}.
+     */
+    private final boolean compress;
+
     /**
      * A fixed size filter that is used to test whether elements are contained
      * in the {@link Chunk} without actually looking through the {@link Chunk}.
@@ -229,6 +250,7 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
         this.filter = filter;
         this.length = -1;
         this.manifest = null;
+        this.compress = GlobalState.ENABLE_COMPRESSED_CHUNKS;
         this.objects = segment != null ? segment.objects() : null;
         while (objects == null) {
             Logger.warn(
@@ -264,6 +286,7 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
         this.filter = filter;
         this.length = length;
         this.manifest = manifest;
+        this.compress = false;
         this.objects = null;
         this.revisions = null;
         this.$revisions = null;
@@ -363,6 +386,46 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
         return revisions().iterator();
     }
 
+    /**
+     * Insert all the {@link Revision revisions} from each of the
+     * {@code chunks} into this {@link Chunk} using a streaming k-way merge.
+     * <p>
+     * Each {@link Chunk} already stores its {@link Revision revisions} in
+     * sorted order, so the merge only holds the next {@link Revision} from each
+     * of the {@code chunks} at a time and copies each one directly instead of
+     * re-deriving it from the Write that originally produced it.
+     * </p>
+     * 
+     * @param chunks
+     * @return the number of {@link Revision revisions} that were merged
+     * @throws IllegalStateException if the {@link Chunk} is not mutable
+     */
+    final long merge(Iterable<? extends Chunk<L, K, V>> chunks)
+            throws IllegalStateException {
+        List<Iterator<Revision<L, K, V>>> iterators = new ArrayList<>();
+        for (Chunk<L, K, V> chunk : chunks) {
+            iterators.add(chunk.iterator());
+        }
+        Iterator<Revision<L, K, V>> it = Iterators.mergeSorted(iterators,
+                (rev1, rev2) -> Sorter.INSTANCE.compare(rev1, rev2));
+        boolean mutable = isMutable();
+        Locks.lockIfCondition(write, mutable);
+        try {
+            long count = 0;
+            while (it.hasNext()) {
+                Revision<L, K, V> revision = it.next();
+                insertUnsafe(revision.getLocator(), revision.getKey(),
+                        revision.getValue(), revision.getVersion(),
+                        revision.getType());
+                ++count;
+            }
+            return count;
+        }
+        finally {
+            Locks.unlockIfCondition(write, mutable);
+        }
+    }
+
     @Override
     public long length() {
         boolean mutable = isMutable();
@@ -372,6 +435,11 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
                 return length;
             }
             else {
+                if(compress) {
+                    // The length isn't known until the revisions are
+                    // compressed alongside the #manifest
+                    manifest();
+                }
                 return bytes == null ? lengthUnsafe() : bytes.capacity();
             }
         }
@@ -413,6 +481,33 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
      * @param record
      */
     public final void seek(Composite composite, Record<L, K, V> record) {
+        seek(composite, null, record);
+    }
+
+    /**
+     * If it is possible that they exist, look for any {@link Revision
+     * revisions} that match the locator {@code composite} and have a
+     * {@link Revision#getKey() key} that is within {@code range} and
+     * {@link Record#append(Revision) append} them to the {@code record}.
+     * <p>
+     * Since the {@link Revision revisions} for a locator are sorted by key,
+     * this method stops reading as soon as it encounters a {@link Revision}
+     * whose key is above {@code range}. And, if the lower endpoint of
+     * {@code range} is a key that is stored in this {@link Chunk}, reading
+     * begins at the first {@link Revision} for that key instead of the first
+     * {@link Revision} for the locator.
+     * </p>
+     * 
+     * @param composite
+     * @param range
+     * @param record
+     */
+    public final void seek(Composite composite,
+            @Nullable com.google.common.collect.Range<K> range,
+            Record<L, K, V> record) {
+        Preconditions.checkArgument(
+                range == null || composite.parts().length == 1,
+                "A range of keys can only be sought for a locator");
         boolean mutable = isMutable();
         Locks.lockIfCondition(segmentReadLock, mutable);
         Locks.lockIfCondition(read, mutable);
@@ -438,7 +533,13 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
                                         .equals(composite.parts()[1]))
                                         || !checkSecond)) {
                             processing = true;
-                            record.append(revision);
+                            if(range == null
+                                    || range.contains(revision.getKey())) {
+                                record.append(revision);
+                            }
+                            else if(isAbove(range, revision.getKey())) {
+                                break;
+                            }
                         }
                         else if(processing) {
                             break;
@@ -446,20 +547,43 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
                     }
                 }
                 else {
-                    Range range = manifest.lookup(composite);
-                    long start = range.start();
-                    long length = range.end() - (start - 1);
+                    Range entry = manifest.lookup(composite);
+                    long start = entry.start();
+                    long end = entry.end();
+                    if(start != Manifest.NO_ENTRY && range != null
+                            && range.hasLowerBound()) {
+                        // Skip the revisions for any keys that are below the
+                        // #range if there is an entry for the lower endpoint.
+                        Composite lower = Composite.create(composite.parts()[0],
+                                range.lowerEndpoint());
+                        if(filter.mightContain(lower)) {
+                            Range skip = manifest.lookup(lower);
+                            if(skip.start() != Manifest.NO_ENTRY) {
+                                start = skip.start();
+                            }
+                        }
+                    }
+                    long length = end - (start - 1);
                     if(start != Manifest.NO_ENTRY && length > 0) {
-                        Iterator<ByteBuffer> it = ByteableCollections.stream(
-                                channel(), position() + start, length,
-                                GlobalState.DISK_READ_BUFFER_SIZE);
+                        CompressedBlocks blocks = blocks();
+                        Iterator<ByteBuffer> it = blocks != null
+                                ? blocks.stream(start, length)
+                                : ByteableCollections.stream(channel(),
+                                        position() + start, length,
+                                        GlobalState.DISK_READ_BUFFER_SIZE);
                         while (it.hasNext()) {
                             Revision<L, K, V> revision = Byteables
                                     .read(it.next(), xRevisionClass());
-                            Logger.debug(
-                                    "Attempting to append {} from {} to {}",
-                                    revision, this, record);
-                            record.append(revision);
+                            if(range == null
+                                    || range.contains(revision.getKey())) {
+                                Logger.debug(
+                                        "Attempting to append {} from {} to {}",
+                                        revision, this, record);
+                                record.append(revision);
+                            }
+                            else if(isAbove(range, revision.getKey())) {
+                                break;
+                            }
                         }
                     }
                 }
@@ -621,9 +745,21 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
         incrementLengthBy(revision.size() + 4);
         manifest = null;
         bytes = null;
+        onInsert(revision);
         return makeArtifact(revision, composites);
     }
 
+    /**
+     * A hook that is called whenever a {@link Revision} is inserted into this
+     * {@link Chunk}, whether by {@link #insert(Byteable, Byteable, Byteable,
+     * long, Action) insert} or {@link #merge(Iterable) merge}, so that a
+     * subclass can maintain its own metadata about the stored data. The hook
+     * runs while the caller holds the write lock, if any.
+     * 
+     * @param revision
+     */
+    protected void onInsert(Revision<L, K, V> revision) {}
+
     /**
      * Internal implementation to return the {@link #length()} of this
      * {@link Chunk} without grabbing any locks.
@@ -738,6 +874,11 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
                 this.manifest = manifest;
                 if(bytes != null) {
                     bytes.flip();
+                    if(compress && bytes.hasRemaining()) {
+                        // The positions in the #manifest remain relative to
+                        // the uncompressed bytes
+                        bytes = CompressedBlocks.compress(bytes);
+                    }
                 }
             }
             return manifest;
@@ -828,6 +969,51 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
         return ref;
     }
 
+    /**
+     * Return {@code true} if {@code key} is above the upper bound of
+     * {@code range}.
+     *
+     * @param range
+     * @param key
+     * @return a boolean that indicates whether {@code key} is above
+     *         {@code range}
+     */
+    private boolean isAbove(com.google.common.collect.Range<K> range, K key) {
+        if(range.hasUpperBound()) {
+            int c = key.compareTo(range.upperEndpoint());
+            return c > 0 || (c == 0 && range
+                    .upperBoundType() == com.google.common.collect.BoundType.OPEN);
+        }
+        else {
+            return false;
+        }
+    }
+
+    /**
+     * Return the {@link CompressedBlocks} if this {@link Chunk} was flushed in
+     * the compressed form, detecting the form on the first call.
+     * 
+     * @return the {@link CompressedBlocks} or {@code null} if this
+     *         {@link Chunk} is not compressed
+     */
+    @Nullable
+    private CompressedBlocks blocks() {
+        if(!blocksDetected) {
+            synchronized (this) {
+                if(!blocksDetected) {
+                    FileChannel channel = channel();
+                    blocks = CompressedBlocks.isCompressed(channel, position(),
+                            length)
+                                    ? CompressedBlocks.load(channel,
+                                            position(), length)
+                                    : null;
+                    blocksDetected = true;
+                }
+            }
+        }
+        return blocks;
+    }
+
     /**
      * Return an {@link Iterable} over this {@link Chunk}'s {@link Revision
      * revisions}.
@@ -853,12 +1039,13 @@ public abstract class Chunk<L extends Byteable & Comparable<L>, K extends Byteab
         else {
             return () -> {
                 // Incrementally stream the revisions from disk
-
+                CompressedBlocks blocks = blocks();
                 return new Iterator<Revision<L, K, V>>() {
 
-                    private final Iterator<ByteBuffer> it = ByteableCollections
-                            .stream(channel(), position(), length,
-                                    GlobalState.DISK_READ_BUFFER_SIZE);
+                    private final Iterator<ByteBuffer> it = blocks != null
+                            ? blocks.stream(0, Long.MAX_VALUE)
+                            : ByteableCollections.stream(channel(), position(),
+                                    length, GlobalState.DISK_READ_BUFFER_SIZE);
 
                     @Override
                     public boolean hasNext() {
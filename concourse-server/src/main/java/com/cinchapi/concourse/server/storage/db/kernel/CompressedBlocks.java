@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.db.kernel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.concurrent.Immutable;
+
+import com.cinchapi.common.base.CheckedExceptions;
+import com.cinchapi.concourse.server.storage.db.Revision;
+import com.google.common.base.Preconditions;
+
+/**
+ * The block index and codec for a {@link Chunk} whose {@link Revision
+ * Revisions} are stored in compressed blocks.
+ * <p>
+ * The uncompressed (or <em>logical</em>) form of a {@link Chunk} is a sequence
+ * of {@link Revision Revisions} that are each preceded by their size. The
+ * compressed form splits the logical form into blocks of about
+ * {@link #BLOCK_SIZE} bytes that each start at a {@link Revision} boundary.
+ * Within a block, each {@link Revision} only records the bytes that follow the
+ * prefix its locator, key and value share with the previous {@link Revision}
+ * (which is often the entire locator and key since the {@link Revision
+ * Revisions} are sorted). Each block is then deflated.
+ * </p>
+ * <p>
+ * The compressed form has the following layout:
+ * <ol>
+ * <li>{@link #MAGIC} (4 bytes)</li>
+ * <li>the number of blocks (4 bytes)</li>
+ * <li>for each block, its logical position and its offset in the compressed
+ * form (16 bytes)</li>
+ * <li>for each block, its logical length (4 bytes), its prefix encoded length
+ * (4 bytes) and its deflated bytes</li>
+ * </ol>
+ * Since the positions that are recorded in a {@link Chunk Chunk's}
+ * {@link Manifest} are logical, a lookup uses the block index to find and
+ * inflate only the blocks that overlap the {@link Manifest} range.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+@Immutable
+final class CompressedBlocks {
+
+    /**
+     * Return the compressed form of the {@code logical} bytes of a
+     * {@link Chunk}.
+     *
+     * @param logical
+     * @return the compressed bytes
+     */
+    static ByteBuffer compress(ByteBuffer logical) {
+        logical = logical.duplicate();
+        List<long[]> index = new ArrayList<>();
+        List<byte[]> blocks = new ArrayList<>();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            ByteBuffer encoded = ByteBuffer.allocate(BLOCK_SIZE * 2);
+            byte[] buffer = new byte[BLOCK_SIZE];
+            long offset = HEADER_SIZE;
+            while (logical.hasRemaining()) {
+                int start = logical.position();
+                int previous = -1;
+                encoded.clear();
+                while (logical.hasRemaining()
+                        && logical.position() - start < BLOCK_SIZE) {
+                    int position = logical.position();
+                    int size = logical.getInt();
+                    int shared = previous >= 0
+                            ? sharedPrefixLength(logical, previous + 4,
+                                    position + 4, size)
+                            : 0;
+                    encoded = ensureCapacity(encoded, 10 + size);
+                    putVarInt(encoded, size);
+                    putVarInt(encoded, shared);
+                    ByteBuffer revision = logical.duplicate();
+                    revision.position(position + 4);
+                    revision.limit(position + 4 + REVISION_HEADER_SIZE);
+                    encoded.put(revision);
+                    revision.limit(position + 4 + size);
+                    revision.position(
+                            position + 4 + REVISION_HEADER_SIZE + shared);
+                    encoded.put(revision);
+                    logical.position(position + 4 + size);
+                    previous = position;
+                }
+                encoded.flip();
+                deflater.reset();
+                deflater.setInput(encoded.array(), 0, encoded.limit());
+                deflater.finish();
+                ByteBuffer block = ByteBuffer.allocate(8 + encoded.limit()
+                        + (encoded.limit() >> 3) + 64);
+                block.putInt(logical.position() - start);
+                block.putInt(encoded.limit());
+                while (!deflater.finished()) {
+                    int count = deflater.deflate(buffer);
+                    block = ensureCapacity(block, count);
+                    block.put(buffer, 0, count);
+                }
+                index.add(new long[] { start, 0 });
+                blocks.add(Arrays.copyOf(block.array(), block.position()));
+            }
+            offset += (long) index.size() * INDEX_ENTRY_SIZE;
+            for (int i = 0; i < index.size(); ++i) {
+                index.get(i)[1] = offset;
+                offset += blocks.get(i).length;
+            }
+            Preconditions.checkState(offset <= Integer.MAX_VALUE);
+            ByteBuffer compressed = ByteBuffer.allocate((int) offset);
+            compressed.putInt(MAGIC);
+            compressed.putInt(index.size());
+            for (long[] entry : index) {
+                compressed.putLong(entry[0]);
+                compressed.putLong(entry[1]);
+            }
+            for (byte[] block : blocks) {
+                compressed.put(block);
+            }
+            compressed.flip();
+            return compressed;
+        }
+        finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Return {@code true} if the {@code length} bytes at {@code position} in
+     * the {@code channel} are the compressed form of a {@link Chunk}.
+     *
+     * @param channel
+     * @param position
+     * @param length
+     * @return a boolean that indicates whether the {@link Chunk} is compressed
+     */
+    static boolean isCompressed(FileChannel channel, long position,
+            long length) {
+        if(length >= HEADER_SIZE) {
+            ByteBuffer magic = read(channel, position, 4);
+            return magic.remaining() == 4 && magic.getInt() == MAGIC;
+        }
+        else {
+            return false;
+        }
+    }
+
+    /**
+     * Load the block index of the compressed {@link Chunk} that occupies
+     * {@code length} bytes at {@code position} in the {@code channel}.
+     *
+     * @param channel
+     * @param position
+     * @param length
+     * @return the {@link CompressedBlocks}
+     */
+    static CompressedBlocks load(FileChannel channel, long position,
+            long length) {
+        ByteBuffer header = read(channel, position, HEADER_SIZE);
+        Preconditions.checkState(header.getInt() == MAGIC,
+                "The bytes at position %s are not a compressed Chunk",
+                position);
+        int count = header.getInt();
+        ByteBuffer index = read(channel, position + HEADER_SIZE,
+                count * INDEX_ENTRY_SIZE);
+        long[] starts = new long[count];
+        long[] offsets = new long[count];
+        for (int i = 0; i < count; ++i) {
+            starts[i] = index.getLong();
+            offsets[i] = index.getLong();
+        }
+        return new CompressedBlocks(channel, position, length, starts,
+                offsets);
+    }
+
+    /**
+     * The target number of logical bytes in each block.
+     */
+    private static final int BLOCK_SIZE = 65536;
+
+    /**
+     * The number of bytes that precede the block index in the compressed form.
+     */
+    private static final int HEADER_SIZE = 8; // MAGIC + block count
+
+    /**
+     * The number of bytes for each entry in the block index.
+     */
+    private static final int INDEX_ENTRY_SIZE = 16; // start(8), offset(8)
+
+    /**
+     * A value that identifies the compressed form of a {@link Chunk}. It cannot
+     * be confused with the logical form, where the first 4 bytes are always
+     * the (positive) size of the first {@link Revision}.
+     */
+    private static final int MAGIC = 0xFE43424B;
+
+    /**
+     * The number of bytes at the beginning of each {@link Revision} (e.g., the
+     * action and version) that are never shared with the previous one.
+     */
+    private static final int REVISION_HEADER_SIZE = 1 + 8;
+
+    /**
+     * Return {@code buffer} or, if it doesn't have room for {@code required}
+     * more bytes, a larger copy of it.
+     *
+     * @param buffer
+     * @param required
+     * @return a {@link ByteBuffer} with enough room
+     */
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int required) {
+        if(buffer.remaining() < required) {
+            ByteBuffer expanded = ByteBuffer.allocate(Math
+                    .max(buffer.capacity() * 2, buffer.position() + required));
+            buffer.flip();
+            expanded.put(buffer);
+            return expanded;
+        }
+        else {
+            return buffer;
+        }
+    }
+
+    /**
+     * Return a variable length int that was written using
+     * {@link #putVarInt(ByteBuffer, int)}.
+     *
+     * @param buffer
+     * @return the value
+     */
+    private static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        }
+        while (b < 0);
+        return value;
+    }
+
+    /**
+     * Write the non-negative {@code value} to {@code buffer} using as few bytes
+     * as possible.
+     *
+     * @param buffer
+     * @param value
+     */
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Read {@code length} bytes from {@code channel} starting at
+     * {@code position}.
+     *
+     * @param channel
+     * @param position
+     * @param length
+     * @return the bytes that were read
+     */
+    private static ByteBuffer read(FileChannel channel, long position,
+            int length) {
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        try {
+            while (bytes.hasRemaining() && channel.read(bytes,
+                    position + bytes.position()) >= 0) {/* read */}
+        }
+        catch (IOException e) {
+            throw CheckedExceptions.wrapAsRuntimeException(e);
+        }
+        bytes.flip();
+        return bytes;
+    }
+
+    /**
+     * Return the number of bytes that the {@link Revision} of {@code size}
+     * bytes at {@code current} shares with the previous {@link Revision} at
+     * {@code previous}, after their {@link #REVISION_HEADER_SIZE headers}.
+     *
+     * @param bytes
+     * @param previous
+     * @param current
+     * @param size
+     * @return the shared prefix length
+     */
+    private static int sharedPrefixLength(ByteBuffer bytes, int previous,
+            int current, int size) {
+        int max = Math.min(size, bytes.getInt(previous - 4))
+                - REVISION_HEADER_SIZE;
+        int shared = 0;
+        while (shared < max
+                && bytes.get(previous + REVISION_HEADER_SIZE + shared) == bytes
+                        .get(current + REVISION_HEADER_SIZE + shared)) {
+            ++shared;
+        }
+        return shared;
+    }
+
+    /**
+     * The {@link FileChannel} that contains the compressed {@link Chunk}.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The compressed length of the {@link Chunk}.
+     */
+    private final long length;
+
+    /**
+     * The offset of each block, relative to the {@link #position}.
+     */
+    private final long[] offsets;
+
+    /**
+     * The position of the compressed {@link Chunk} in the {@link #channel}.
+     */
+    private final long position;
+
+    /**
+     * The logical position of each block.
+     */
+    private final long[] starts;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param channel
+     * @param position
+     * @param length
+     * @param starts
+     * @param offsets
+     */
+    private CompressedBlocks(FileChannel channel, long position, long length,
+            long[] starts, long[] offsets) {
+        this.channel = channel;
+        this.position = position;
+        this.length = length;
+        this.starts = starts;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Return an {@link Iterator} over the {@link ByteBuffer byte buffers} for
+     * each {@link Revision} that begins within the {@code length} logical
+     * bytes that start at the logical {@code start} position.
+     *
+     * @param start
+     * @param length
+     * @return the {@link Iterator}
+     */
+    Iterator<ByteBuffer> stream(long start, long length) {
+        long end = start + length;
+        int block = Math.max(0, floor(start));
+        return new Iterator<ByteBuffer>() {
+
+            /**
+             * The next block to inflate.
+             */
+            int next = block;
+
+            /**
+             * The logical bytes of the current block.
+             */
+            ByteBuffer current = null;
+
+            /**
+             * The logical position of the {@link #current} block.
+             */
+            long base = 0;
+
+            @Override
+            public boolean hasNext() {
+                while ((current == null || !current.hasRemaining())
+                        && next < starts.length && starts[next] < end) {
+                    base = starts[next];
+                    current = inflate(next);
+                    if(base < start) {
+                        current.position((int) (start - base));
+                    }
+                    ++next;
+                }
+                return current != null && current.hasRemaining()
+                        && base + current.position() < end;
+            }
+
+            @Override
+            public ByteBuffer next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int size = current.getInt();
+                ByteBuffer revision = current.slice();
+                revision.limit(size);
+                current.position(current.position() + size);
+                return revision;
+            }
+
+        };
+    }
+
+    /**
+     * Return the index of the last block whose logical position is less than or
+     * equal to {@code position}, or {@code -1} if there is no such block.
+     *
+     * @param position
+     * @return the block index
+     */
+    private int floor(long position) {
+        int floor = -1;
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if(starts[mid] <= position) {
+                floor = mid;
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        return floor;
+    }
+
+    /**
+     * Read, inflate and decode the {@code block} and return its logical bytes.
+     *
+     * @param block
+     * @return the logical bytes of the block
+     */
+    private ByteBuffer inflate(int block) {
+        long limit = block + 1 < offsets.length ? offsets[block + 1] : length;
+        ByteBuffer bytes = read(channel, position + offsets[block],
+                (int) (limit - offsets[block]));
+        int logicalLength = bytes.getInt();
+        int encodedLength = bytes.getInt();
+        byte[] encoded = new byte[encodedLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes.array(), bytes.position(),
+                    bytes.remaining());
+            int count = 0;
+            while (count < encodedLength) {
+                int inflated = inflater.inflate(encoded, count,
+                        encodedLength - count);
+                if(inflated == 0 && (inflater.finished()
+                        || inflater.needsInput())) {
+                    break;
+                }
+                count += inflated;
+            }
+            Preconditions.checkState(count == encodedLength,
+                    "Block %s of the compressed Chunk at position %s "
+                            + "is corrupt",
+                    block, position);
+        }
+        catch (DataFormatException e) {
+            throw CheckedExceptions.wrapAsRuntimeException(e);
+        }
+        finally {
+            inflater.end();
+        }
+        ByteBuffer source = ByteBuffer.wrap(encoded);
+        ByteBuffer logical = ByteBuffer.allocate(logicalLength);
+        int previous = -1;
+        while (source.hasRemaining()) {
+            int size = getVarInt(source);
+            int shared = getVarInt(source);
+            int current = logical.position();
+            logical.putInt(size);
+            source.limit(source.position() + REVISION_HEADER_SIZE);
+            logical.put(source);
+            source.limit(encoded.length);
+            for (int i = 0; i < shared; ++i) {
+                logical.put(
+                        logical.get(previous + 4 + REVISION_HEADER_SIZE + i));
+            }
+            int suffix = size - REVISION_HEADER_SIZE - shared;
+            source.limit(source.position() + suffix);
+            logical.put(source);
+            source.limit(encoded.length);
+            previous = current;
+        }
+        logical.flip();
+        return logical;
+    }
+
+}
@@ -121,6 +121,13 @@ public class CorpusChunk extends ConcurrentChunk<Text, Text, Position>
                 position, size, filter, manifest);
     }
 
+    /**
+     * The length of the longest n-gram that is indexed for each term when the
+     * {@link GlobalState#ENABLE_TRIGRAM_SEARCH_INDEX trigram search index} is
+     * enabled.
+     */
+    public static final int TRIGRAM_LENGTH = 3;
+
     /**
      * Global flag that indicates if artifacts should be recorded when
      * {@link #index(Text, Text, Position, long, Action, Collection) indexing}.
@@ -287,7 +294,10 @@ public class CorpusChunk extends ConcurrentChunk<Text, Text, Position>
     }
 
     /**
-     * Calculate all possible substrings for {@code term} and
+     * Calculate all possible substrings (or only those that are no longer than
+     * {@link #TRIGRAM_LENGTH} if the
+     * {@link GlobalState#ENABLE_TRIGRAM_SEARCH_INDEX trigram search index} is
+     * enabled) for {@code term} and
      * {@link SearchIndexer#enqueue(SearchIndex, CountUpLatch, Text, String, Position, long, Action)
      * enqueue} work that will store a revision for the {@code term} at
      * {@code position} for {@code key} in {@code record} at {@code version}.
@@ -318,7 +328,14 @@ public class CorpusChunk extends ConcurrentChunk<Text, Text, Position>
         Position pos = Position.of(record, position);
         int length = term.length();
         SearchTermMetrics metrics = new SearchTermMetrics(length);
-        int upperBound = metrics.upperBoundOfPossibleSubstrings();
+
+        // A flag that indicates whether only the n-grams that are no longer
+        // than TRIGRAM_LENGTH are indexed.
+        // NOTE: This is NOT static because unit tests sequencing would
+        // cause this to fail :-/
+        boolean isTrigramIndex = GlobalState.ENABLE_TRIGRAM_SEARCH_INDEX;
+        int upperBound = isTrigramIndex ? TRIGRAM_LENGTH * length
+                : metrics.upperBoundOfPossibleSubstrings();
 
         // Detect if the #term is large enough to likely cause OOMs when
         // indexing and prepare the appropriate precautions.
@@ -344,10 +361,16 @@ public class CorpusChunk extends ConcurrentChunk<Text, Text, Position>
         // @formatter:on
         for (int i = 0; i < length; ++i) {
             int start = i + 1;
-            int limit = (shouldLimitSubstringLength
-                    ? Math.min(length,
-                            start + GlobalState.MAX_SEARCH_SUBSTRING_LENGTH)
-                    : length) + 1;
+            int limit;
+            if(isTrigramIndex) {
+                limit = Math.min(length, i + TRIGRAM_LENGTH) + 1;
+            }
+            else {
+                limit = (shouldLimitSubstringLength
+                        ? Math.min(length,
+                                start + GlobalState.MAX_SEARCH_SUBSTRING_LENGTH)
+                        : length) + 1;
+            }
             for (int j = start; j < limit; ++j) {
                 // @formatter:off
                 Text infix = (isLargeTerm 
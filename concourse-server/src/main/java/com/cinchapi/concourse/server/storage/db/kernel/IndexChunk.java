@@ -33,6 +33,13 @@ import com.cinchapi.concourse.server.storage.db.Revision;
 /**
  * A {@link Chunk} that stores {@link IndexRevision IndexRevisions} for
  * various {@link IndexRecord IndexRecords}.
+ * <p>
+ * An {@link IndexChunk} also tracks the {@link ValueFences fences} of the
+ * values that are stored for each key so that a query for a range of values
+ * can skip the {@link IndexChunk} if none of those values
+ * {@link #mightOverlap(Text, com.google.common.collect.Range) could be in the
+ * range}.
+ * </p>
  *
  * @author Jeff Nelson
  */
@@ -73,7 +80,7 @@ public class IndexChunk extends SerialChunk<Text, Value, Identifier> {
     public static IndexChunk load(Path file, long position, long size,
             BloomFilter filter, Manifest manifest) {
         return new IndexChunk(null, file, null, position, size, filter,
-                manifest);
+                manifest, ValueFences.unknown());
     }
 
     /**
@@ -88,10 +95,33 @@ public class IndexChunk extends SerialChunk<Text, Value, Identifier> {
      */
     public static IndexChunk load(@Nonnull Segment segment, long position,
             long size, BloomFilter filter, Manifest manifest) {
+        return load(segment, position, size, filter, manifest,
+                ValueFences.unknown());
+    }
+
+    /**
+     * Load an existing {@link IndexChunk} whose {@link ValueFences fences}
+     * were recorded when it was flushed.
+     * 
+     * @param segment
+     * @param position
+     * @param size
+     * @param filter
+     * @param manifest
+     * @param fences
+     * @return the loaded {@link Chunk}
+     */
+    static IndexChunk load(@Nonnull Segment segment, long position, long size,
+            BloomFilter filter, Manifest manifest, ValueFences fences) {
         return new IndexChunk(segment, segment.file(), segment.channel(),
-                position, size, filter, manifest);
+                position, size, filter, manifest, fences);
     }
 
+    /**
+     * The minimum and maximum values that are stored for each key.
+     */
+    private final ValueFences fences;
+
     /**
      * Construct a new instance.
      * 
@@ -100,6 +130,7 @@ public class IndexChunk extends SerialChunk<Text, Value, Identifier> {
      */
     private IndexChunk(@Nullable Segment segment, BloomFilter filter) {
         super(segment, filter);
+        this.fences = ValueFences.create();
     }
 
     /**
@@ -112,11 +143,13 @@ public class IndexChunk extends SerialChunk<Text, Value, Identifier> {
      * @param size
      * @param filter
      * @param manifest
+     * @param fences
      */
     private IndexChunk(@Nullable Segment segment, Path file,
             FileChannel channel, long position, long size, BloomFilter filter,
-            Manifest manifest) {
+            Manifest manifest, ValueFences fences) {
         super(segment, file, channel, position, size, filter, manifest);
+        this.fences = fences;
     }
 
     @Override
@@ -125,6 +158,40 @@ public class IndexChunk extends SerialChunk<Text, Value, Identifier> {
         return (IndexArtifact) super.insert(locator, key, value, version, type);
     }
 
+    /**
+     * Return {@code true} if it is possible that this {@link IndexChunk}
+     * stores a value within {@code range} for {@code locator}.
+     * <p>
+     * A mutable {@link IndexChunk} always returns {@code true} because its
+     * {@link ValueFences fences} may lag behind a concurrent
+     * {@link #insert(Text, Value, Identifier, long, Action) insert}.
+     * </p>
+     * 
+     * @param locator
+     * @param range
+     * @return a boolean that indicates whether it is necessary to seek the
+     *         {@code range}
+     */
+    public boolean mightOverlap(Text locator,
+            com.google.common.collect.Range<Value> range) {
+        return isMutable() || fences.mightOverlap(locator, range);
+    }
+
+    /**
+     * Return the {@link ValueFences} that are tracked by this
+     * {@link IndexChunk}.
+     * 
+     * @return the {@link ValueFences}
+     */
+    ValueFences fences() {
+        return fences;
+    }
+
+    @Override
+    protected void onInsert(Revision<Text, Value, Identifier> revision) {
+        fences.include(revision.getLocator(), revision.getKey());
+    }
+
     @Override
     protected IndexArtifact makeArtifact(
             Revision<Text, Value, Identifier> revision,
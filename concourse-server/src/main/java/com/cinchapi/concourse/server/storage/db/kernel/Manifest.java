@@ -15,17 +15,23 @@
  */
 package com.cinchapi.concourse.server.storage.db.kernel;
 
+import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -64,6 +70,14 @@ import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
  * to look on disk for a particular {@code locator} or
  * {@code locator}/{@code key} pair.
  * </p>
+ * <p>
+ * When {@link GlobalState#ENABLE_SORTED_MANIFESTS} is {@code true}, new
+ * {@link Manifest Manifests} are flushed with their entries sorted by hash and
+ * a sparse index of {@link #FENCE_INTERVAL fences}. A lookup against a sorted
+ * {@link Manifest} that is not in memory binary searches the fences and only
+ * scans the entries between two of them, instead of streaming the entire
+ * {@link Manifest} from disk.
+ * </p>
  *
  * @author Jeff Nelson
  */
@@ -120,6 +134,29 @@ public class Manifest extends TransferableByteSequence {
      */
     public static final int NO_ENTRY = -1;
 
+    /**
+     * The number of sorted entries between each fence.
+     */
+    private static final int FENCE_INTERVAL = 64;
+
+    /**
+     * The number of bytes required to record each fence.
+     */
+    private static final int FENCE_SIZE = 12; // hash(4), offset(8)
+
+    /**
+     * A value that identifies a {@link Manifest} that is flushed in the sorted
+     * format. It cannot be confused with the legacy format, where the first 4
+     * bytes are always the (positive) size of the first entry.
+     */
+    private static final int SORTED_FORMAT_MARKER = 0xFE534D46;
+
+    /**
+     * The number of bytes in the header of a sorted {@link Manifest}.
+     */
+    private static final int SORTED_HEADER_SIZE = 12; // marker(4), size(4),
+                                                      // interval(4)
+
     /**
      * The number of worker threads to reserve for the {@link SearchIndexer}.
      */
@@ -203,6 +240,21 @@ public class Manifest extends TransferableByteSequence {
      */
     private long length = 0;
 
+    /**
+     * A flag that indicates whether this {@link Manifest} is (or will be)
+     * flushed in the sorted format. For a {@link Manifest} that is loaded from
+     * disk, this is {@code null} until the format is detected.
+     */
+    @Nullable
+    private Boolean sorted;
+
+    /**
+     * The {@link SortedEntries} that are lazily mapped from disk for a sorted
+     * {@link Manifest}.
+     */
+    @Nullable
+    private SortedEntries sortedEntries;
+
     /**
      * Final reference to {@link #MANIFEST_LENGTH_ENTRY_STREAMING_THRESHOLD}
      * (which is accessible for testing) in hopes of getting a little
@@ -217,7 +269,8 @@ public class Manifest extends TransferableByteSequence {
      */
     private Manifest(int expectedInsertions) {
         super();
-        this.length = 0;
+        this.sorted = GlobalState.ENABLE_SORTED_MANIFESTS;
+        this.length = sorted ? SORTED_HEADER_SIZE : 0;
         this.entries = GlobalState.ENABLE_EFFICIENT_METADATA
                 ? new BinaryHashMap(expectedInsertions)
                 : new HashMap<>(expectedInsertions);
@@ -238,6 +291,7 @@ public class Manifest extends TransferableByteSequence {
         this.length = length;
         this.entries = null;
         this.$entries = null;
+        this.sorted = null;
     }
 
     /**
@@ -360,6 +414,10 @@ public class Manifest extends TransferableByteSequence {
                     ? new BinaryRange()
                     : new LongRange();
             // @formatter:on
+            if(sorted && entries.size() % FENCE_INTERVAL == 0) {
+                // This entry will start a new fence
+                length += FENCE_SIZE;
+            }
             entries.put(composite, range);
             // @formatter:off
             length += composite.size() + 
@@ -372,6 +430,10 @@ public class Manifest extends TransferableByteSequence {
 
     @Override
     protected void flush(ByteSink sink) {
+        if(sorted) {
+            flushSorted(sink);
+            return;
+        }
         for (Entry<Composite, Range> entry : entries().entrySet()) {
             Composite key = entry.getKey();
             Range range = entry.getValue();
@@ -398,6 +460,25 @@ public class Manifest extends TransferableByteSequence {
         return isMutable() || ($entries != null && $entries.get() != null);
     }
 
+    /**
+     * Return the hash of the {@link Composite} whose bytes are the
+     * {@link ByteBuffer#remaining() remaining} {@code bytes}, without changing
+     * the position of {@code bytes}.
+     * <p>
+     * The hash is the same as {@link Composite#hashCode()}.
+     * </p>
+     * 
+     * @param bytes
+     * @return the hash
+     */
+    private static int hash(ByteBuffer bytes) {
+        int hash = 1;
+        for (int i = bytes.position(); i < bytes.limit(); ++i) {
+            hash = 31 * hash + bytes.get(i);
+        }
+        return hash;
+    }
+
     /**
      * Return the entries in this index. This method will lazily load the
      * entries on demand if they do not currently exist in memory.
@@ -434,6 +515,15 @@ public class Manifest extends TransferableByteSequence {
         else if($entries != null && $entries.get() != null) {
             return $entries.get();
         }
+        else if(isSorted()) {
+            // A lookup in the SortedEntries only reads the entries between two
+            // fences, so there is no need to load all of them in the
+            // background
+            if(sortedEntries == null) {
+                sortedEntries = new SortedEntries();
+            }
+            return sortedEntries;
+        }
         else {
             Map<Composite, Range> entries = new StreamedEntries();
             // If the Manifest is small enough to fit comfortably into memory,
@@ -486,6 +576,77 @@ public class Manifest extends TransferableByteSequence {
         }
     }
 
+    /**
+     * Write the entries to {@code sink} in the sorted format.
+     * <p>
+     * The sorted format is a {@link #SORTED_HEADER_SIZE header}, followed by a
+     * fence for every {@link #FENCE_INTERVAL} entries and then the entries,
+     * sorted by the hash of their {@link Composite}. Each fence records the
+     * hash and relative offset of the entry that starts its interval. Each
+     * entry has the same layout as in the legacy format.
+     * </p>
+     * 
+     * @param sink
+     */
+    private void flushSorted(ByteSink sink) {
+        List<Entry<Composite, Range>> entries = new ArrayList<>(
+                entries().entrySet());
+        entries.sort(
+                Comparator.comparingInt(entry -> entry.getKey().hashCode()));
+        sink.putInt(SORTED_FORMAT_MARKER);
+        sink.putInt(entries.size());
+        sink.putInt(FENCE_INTERVAL);
+        int fences = (entries.size() + FENCE_INTERVAL - 1) / FENCE_INTERVAL;
+        long offset = SORTED_HEADER_SIZE + (long) fences * FENCE_SIZE;
+        for (int i = 0; i < entries.size(); ++i) {
+            Composite key = entries.get(i).getKey();
+            if(i % FENCE_INTERVAL == 0) {
+                sink.putInt(key.hashCode());
+                sink.putLong(offset);
+            }
+            offset += 4 + Range.CONSTANT_SIZE + key.size();
+        }
+        for (Entry<Composite, Range> entry : entries) {
+            Composite key = entry.getKey();
+            Range range = entry.getValue();
+            sink.putInt(Range.CONSTANT_SIZE + key.size());
+            sink.put(range.bytes());
+            key.copyTo(sink);
+        }
+    }
+
+    /**
+     * Return {@code true} if this {@link Manifest} is, or will be, flushed in
+     * the sorted format.
+     * <p>
+     * The format of a {@link Manifest} that is loaded from disk is detected
+     * (and cached) on the first call.
+     * </p>
+     * 
+     * @return a boolean that indicates whether this {@link Manifest} is sorted
+     */
+    private boolean isSorted() {
+        if(sorted == null) {
+            if(length >= SORTED_HEADER_SIZE) {
+                ByteBuffer marker = ByteBuffer.allocate(4);
+                try {
+                    while (marker.hasRemaining() && channel().read(marker,
+                            position() + marker.position()) >= 0) {/* read */}
+                }
+                catch (IOException e) {
+                    throw CheckedExceptions.wrapAsRuntimeException(e);
+                }
+                marker.flip();
+                sorted = marker.remaining() == 4
+                        && marker.getInt() == SORTED_FORMAT_MARKER;
+            }
+            else {
+                sorted = false;
+            }
+        }
+        return sorted;
+    }
+
     /**
      * A {@link Map} that stores {@link Manifest} entries on heap in a
      * memory-efficient manner.
@@ -986,4 +1147,195 @@ public class Manifest extends TransferableByteSequence {
         }
 
     }
+
+    /**
+     * A {@link Map} that reads the {@link Entry entries} of a {@link Manifest}
+     * that was flushed in the {@link #flushSorted(ByteSink) sorted format}
+     * directly from a memory mapped file.
+     * <p>
+     * Only the fences are copied onto the heap. A {@link #get(Object) lookup}
+     * binary searches the fences for the last one whose hash is smaller than
+     * the hash of the sought {@link Composite} and scans forward until it
+     * finds the entry or reaches one with a larger hash.
+     * </p>
+     *
+     * @author Jeff Nelson
+     */
+    private final class SortedEntries extends AbstractMap<Composite, Range> {
+
+        /**
+         * The memory mapped bytes of the {@link Manifest}.
+         */
+        private final ByteBuffer bytes;
+
+        /**
+         * The hash of the entry that starts each fence.
+         */
+        private final int[] hashes;
+
+        /**
+         * The offset of the entry that starts each fence.
+         */
+        private final int[] offsets;
+
+        /**
+         * The number of entries.
+         */
+        private final int size;
+
+        /**
+         * Construct a new instance.
+         */
+        SortedEntries() {
+            Preconditions.checkState(length <= Integer.MAX_VALUE,
+                    "A sorted manifest cannot be larger than %s bytes",
+                    Integer.MAX_VALUE);
+            try {
+                this.bytes = channel().map(MapMode.READ_ONLY, position(),
+                        length);
+            }
+            catch (IOException e) {
+                throw CheckedExceptions.wrapAsRuntimeException(e);
+            }
+            this.size = bytes.getInt(4);
+            int interval = bytes.getInt(8);
+            int fences = (size + interval - 1) / interval;
+            this.hashes = new int[fences];
+            this.offsets = new int[fences];
+            for (int i = 0; i < fences; ++i) {
+                int position = SORTED_HEADER_SIZE + i * FENCE_SIZE;
+                hashes[i] = bytes.getInt(position);
+                offsets[i] = (int) bytes.getLong(position + 4);
+            }
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<Composite, Range>> entrySet() {
+            return new AbstractSet<Entry<Composite, Range>>() {
+
+                @Override
+                public Iterator<Entry<Composite, Range>> iterator() {
+                    return new Iterator<Entry<Composite, Range>>() {
+
+                        int position = offsets.length > 0 ? offsets[0]
+                                : bytes.limit();
+
+                        @Override
+                        public boolean hasNext() {
+                            return position < bytes.limit();
+                        }
+
+                        @Override
+                        public Entry<Composite, Range> next() {
+                            if(!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            ByteBuffer next = entry(position);
+                            position += 4 + next.remaining();
+                            Range range = range(next);
+                            Composite key = Composite.load(next);
+                            return new SimpleImmutableEntry<>(key, range);
+                        }
+
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+            };
+        }
+
+        @Override
+        public Range get(Object o) {
+            if(o instanceof Composite && size > 0) {
+                ByteBuffer key = ((Composite) o).getBytes();
+                int hash = hash(key);
+                int position = offsets[fence(hash)];
+                while (position < bytes.limit()) {
+                    ByteBuffer next = entry(position);
+                    position += 4 + next.remaining();
+                    next.position(Range.CONSTANT_SIZE);
+                    int $hash = hash(next);
+                    if($hash > hash) {
+                        break;
+                    }
+                    else if($hash == hash && key.equals(next)) {
+                        next.position(0);
+                        return range(next);
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Range getOrDefault(Object key, Range defaultValue) {
+            Range value = get(key);
+            return value != null ? value : defaultValue;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Return a {@link ByteBuffer} that contains the {@link Range} and
+         * {@link Composite} of the entry at {@code position}.
+         * 
+         * @param position
+         * @return the entry bytes
+         */
+        private ByteBuffer entry(int position) {
+            ByteBuffer entry = bytes.duplicate();
+            entry.position(position + 4);
+            entry.limit(position + 4 + bytes.getInt(position));
+            return entry.slice();
+        }
+
+        /**
+         * Return the index of the fence where the scan for an entry with
+         * {@code hash} must begin.
+         * 
+         * @param hash
+         * @return the fence index
+         */
+        private int fence(int hash) {
+            int fence = 0;
+            int low = 0;
+            int high = hashes.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if(hashes[mid] < hash) {
+                    fence = mid;
+                    low = mid + 1;
+                }
+                else {
+                    high = mid - 1;
+                }
+            }
+            return fence;
+        }
+
+        /**
+         * Read the {@link Range} at the current position of {@code entry}.
+         * 
+         * @param entry
+         * @return the {@link Range}
+         */
+        private Range range(ByteBuffer entry) {
+            return GlobalState.ENABLE_EFFICIENT_METADATA
+                    ? new BinaryRange(entry)
+                    : new LongRange(entry);
+        }
+
+    }
 }
@@ -15,11 +15,13 @@
  */
 package com.cinchapi.concourse.server.storage.db.kernel;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -174,6 +176,42 @@ public final class Segment extends TransferableByteSequence implements
         return segment;
     }
 
+    /**
+     * Return a new {@link #createOffHeap(int) off heap} {@link Segment} that
+     * contains all the data from each of the {@code segments}.
+     * <p>
+     * The {@link Chunk Chunks} of the {@code segments} are
+     * {@link Chunk#merge(Iterable) merged} by streaming their already sorted
+     * {@link Revision revisions}, so none of the data is re-indexed and the
+     * revisions don't need to be held on the heap.
+     * </p>
+     * 
+     * @param segments
+     * @return the merged {@link Segment}
+     */
+    public static Segment merge(Segment... segments) {
+        long count = 0;
+        for (Segment segment : segments) {
+            count += segment.count();
+        }
+        // Ensure the capacity of the OffHeapMemory that is allocated for each
+        // Chunk doesn't overflow
+        int expectedInsertions = (int) Math.min(count,
+                Integer.MAX_VALUE / (Write.MINIMUM_SIZE * 3));
+        Segment merged = createOffHeap(expectedInsertions);
+        merged.table.merge(Arrays.stream(segments).map(Segment::table)
+                .collect(Collectors.toList()));
+        merged.index.merge(Arrays.stream(segments).map(Segment::index)
+                .collect(Collectors.toList()));
+        merged.corpus.merge(Arrays.stream(segments).map(Segment::corpus)
+                .collect(Collectors.toList()));
+        for (Segment segment : segments) {
+            merged.minTs = Math.min(merged.minTs, segment.minTs);
+            merged.maxTs = Math.max(merged.maxTs, segment.maxTs);
+        }
+        return merged;
+    }
+
     /**
      * Load an existing {@link Segment} whose data is stored in {@code file}.
      * 
@@ -182,7 +220,36 @@ public final class Segment extends TransferableByteSequence implements
      * @throws SegmentLoadingException
      */
     public static Segment load(Path file) throws SegmentLoadingException {
-        return new Segment(file);
+        Segment segment = new Segment(file,
+                FileSystem.getFileSize(file.toString()), null);
+        try {
+            segment.open();
+        }
+        catch (RuntimeException e) {
+            throw new SegmentLoadingException(e.getMessage(), e);
+        }
+        return segment;
+    }
+
+    /**
+     * Load the {@link Segment} that is stored in {@code file} using its
+     * previously captured {@link #metadata() metadata} instead of reading it
+     * from the {@code file}.
+     * <p>
+     * Unlike {@link #load(Path)}, the {@link Segment Segment's} filters,
+     * {@link Manifest manifests} and {@link Chunk Chunks} aren't loaded until
+     * one of them is first needed, so no disk access occurs here.
+     * </p>
+     * 
+     * @param file
+     * @param length the size of the {@code file}
+     * @param metadata
+     * @return the loaded {@link Segment}
+     * @throws SegmentLoadingException
+     */
+    static Segment load(Path file, long length, ByteBuffer metadata)
+            throws SegmentLoadingException {
+        return new Segment(file, length, metadata);
     }
 
     /**
@@ -251,7 +318,7 @@ public final class Segment extends TransferableByteSequence implements
             + 8 // minTs
             + 8 // maxTs
             + 8 // syncTs
-            + 8 // reserved for future use
+            + 8 // index.fences().size()
             + 8 // reserved for future use
             + 8 // reserved for future use
             + 8 // reserved for future use
@@ -333,12 +400,20 @@ public final class Segment extends TransferableByteSequence implements
     /**
      * The {@link CorpusChunk} that contains a searchable view of the data.
      */
-    private final CorpusChunk corpus;
+    private CorpusChunk corpus;
 
     /**
      * The {@link IndexChunk} that contains an inverted view of the data.
      */
-    private final IndexChunk index;
+    private IndexChunk index;
+
+    /**
+     * The bytes that were written at the beginning of the file when this
+     * {@link Segment} was {@link #fsync(Path) synced}, or {@code null} if it is
+     * still {@link #isMutable() mutable}.
+     */
+    @Nullable
+    private ByteBuffer metadata;
 
     /**
      * A collection of all the known objects that have been acquired by
@@ -361,10 +436,19 @@ public final class Segment extends TransferableByteSequence implements
      */
     private Map<Byteable, Byteable> objects;
 
+    /**
+     * A flag that indicates whether the {@link Chunk Chunks} of an immutable
+     * {@link Segment} have been loaded from its file. They are
+     * {@link #open() opened} lazily so that a {@link Segment} that is never
+     * read doesn't consume any memory for its filters or
+     * {@link Manifest manifests}.
+     */
+    private volatile boolean opened;
+
     /**
      * The {@link TableChunk} that contains the logical view of the data.
      */
-    private final TableChunk table;
+    private TableChunk table;
 
     /**
      * The schema version at which this {@link Segment} was written.
@@ -392,21 +476,33 @@ public final class Segment extends TransferableByteSequence implements
                         .create(10 * BLOOM_FILTER_ENTRIES_PER_INSERTION_MULTIPLE
                                 * expectedInsertions));
         this.version = SCHEMA_VERSION;
+        this.opened = true;
     }
 
     /**
-     * Load an existing instance.
+     * Load an existing instance, without {@link #open() opening} its
+     * {@link Chunk Chunks}.
      * 
      * @param file
+     * @param length
+     * @param metadata the {@link #metadata() metadata} or {@code null} if it
+     *            must be read from the {@code file}
      * @throws SegmentLoadingException
      */
-    private Segment(Path file) throws SegmentLoadingException {
-        super(file);
+    private Segment(Path file, long length, @Nullable ByteBuffer metadata)
+            throws SegmentLoadingException {
+        super(file, 0, length);
         this.objects = null;
+        this.opened = false;
         try {
-            ByteBuffer metadata = ByteBuffer.allocate(METADATA_LENGTH);
-            channel().read(metadata);
-            metadata.flip();
+            if(metadata == null) {
+                metadata = ByteBuffer.allocate(METADATA_LENGTH);
+                channel().read(metadata, 0);
+                metadata.flip();
+            }
+            else {
+                metadata = metadata.duplicate();
+            }
             byte[] signature = new byte[FILE_SIGNATURE.length];
             metadata.get(signature);
             if(Arrays.equals(signature, FILE_SIGNATURE)) {
@@ -415,75 +511,17 @@ public final class Segment extends TransferableByteSequence implements
                 this.minTs = metadata.getLong();
                 this.maxTs = metadata.getLong();
                 this.syncTs = metadata.getLong();
-                metadata.getLong(); // reserved
-                metadata.getLong(); // reserved
-                metadata.getLong(); // reserved
-                metadata.getLong(); // reserved
-                long tableFilterLength = metadata.getLong();
-                long indexFilterLength = metadata.getLong();
-                long corpusFilterLength = metadata.getLong();
-                long tableManifestLength = metadata.getLong();
-                long indexManifestLength = metadata.getLong();
-                long corpusManifestLength = metadata.getLong();
-                long tableLength = metadata.getLong();
-                long indexLength = metadata.getLong();
-                long corpusLength = metadata.getLong();
-                long position = METADATA_LENGTH;
-
-                ByteBuffer filterBytes = channel().map(MapMode.READ_ONLY,
-                        position, tableFilterLength + indexFilterLength
-                                + corpusFilterLength);
-                position += filterBytes.capacity();
-
-                // Table BloomFilter
-                BloomFilter tableFilter = BloomFilter.load(ByteBuffers
-                        .slice(filterBytes, 0, (int) tableFilterLength));
-
-                // Index BloomFilter
-                BloomFilter indexFilter = BloomFilter.load(
-                        ByteBuffers.slice(filterBytes, (int) tableFilterLength,
-                                (int) indexFilterLength));
-
-                // Corpus BloomFilter
-                BloomFilter corpusFilter = BloomFilter
-                        .load(ByteBuffers.slice(filterBytes,
-                                (int) (tableFilterLength + indexFilterLength),
-                                (int) corpusFilterLength));
-
-                // Table Manifest
-                Manifest tableManifest = Manifest.load(this, position,
-                        tableManifestLength);
-                position += tableManifestLength;
-
-                // Index Manifest
-                Manifest indexManifest = Manifest.load(this, position,
-                        indexManifestLength);
-                position += indexManifestLength;
-
-                // Corpus Manifest
-                Manifest corpusManifest = Manifest.load(this, position,
-                        corpusManifestLength);
-                position += corpusManifestLength;
-
-                // Table
-                this.table = TableChunk.load(this, position, tableLength,
-                        tableFilter, tableManifest);
-                position += tableLength;
-
-                // Index
-                this.index = IndexChunk.load(this, position, indexLength,
-                        indexFilter, indexManifest);
-                position += indexLength;
-
-                // Corpus
-                this.corpus = CorpusChunk.load(this, position, corpusLength,
-                        corpusFilter, corpusManifest);
+                metadata.rewind();
+                this.metadata = metadata.asReadOnlyBuffer();
             }
             else {
                 throw new SegmentLoadingException(
                         file + " is not a valid Segment file");
             }
         }
+        catch (SegmentLoadingException e) {
+            throw e;
+        }
         catch (Exception e) {
             throw new SegmentLoadingException(e.getMessage(), e);
         }
@@ -522,6 +560,31 @@ public final class Segment extends TransferableByteSequence implements
      */
     public Receipt acquire(Write write, AwaitableExecutorService executor)
             throws InterruptedException {
+        return acquire(write, executor, true);
+    }
+
+    /**
+     * Append the {@code write} to this {@link Segment} using the
+     * {@code executor} to asynchronously write to all the contained
+     * {@link Chunk chunks}.
+     * <p>
+     * If {@code searchable} is {@code false}, the {@code write} is not added
+     * to the {@link CorpusChunk}. This is only appropriate when the
+     * {@code write} is offset by another one in this {@link Segment} that is
+     * also not searchable, so search results, which only reflect the present
+     * state, are unaffected. The {@code write} is still added to the
+     * {@link TableChunk} and {@link IndexChunk}, so its history is preserved.
+     * </p>
+     * 
+     * @param write
+     * @param executor
+     * @param searchable
+     * @return a {@link Receipt} that contains the {@link Revision Revisions}
+     *         that were created as a consequence of the transfer
+     * @throws InterruptedException
+     */
+    public Receipt acquire(Write write, AwaitableExecutorService executor,
+            boolean searchable) throws InterruptedException {
         Preconditions.checkState(isMutable(),
                 "Cannot transfer Writes to an immutable Segment");
         writeLock.lock();
@@ -542,8 +605,9 @@ public final class Segment extends TransferableByteSequence implements
                         key, value, record, version, type);
                 receipt.itemize(artifact);
             }, () -> {
-                Collection<CorpusArtifact> artifacts = corpus.insert(
-                        key, value, record, version, type);
+                Collection<CorpusArtifact> artifacts = searchable
+                        ? corpus.insert(key, value, record, version, type)
+                        : Collections.emptyList();
                 receipt.itemize(artifacts);
             });
             // @formatter:on
@@ -597,12 +661,14 @@ public final class Segment extends TransferableByteSequence implements
      * </p>
      */
     public void compile() {
-        // Accessing each Chunk's manifest, generates it on the fly, which
-        // simultaneously causes each Chunk to generate and cache it's binary
-        // representation.
-        table.manifest();
-        index.manifest();
-        corpus.manifest();
+        if(isMutable()) {
+            // Accessing each Chunk's manifest, generates it on the fly, which
+            // simultaneously causes each Chunk to generate and cache it's
+            // binary representation.
+            table.manifest();
+            index.manifest();
+            corpus.manifest();
+        }
     }
 
     /**
@@ -611,6 +677,7 @@ public final class Segment extends TransferableByteSequence implements
      * @return the {@link CorpusChunk} or {@code null} it it does not exist
      */
     public CorpusChunk corpus() {
+        open();
         return corpus;
     }
 
@@ -671,6 +738,7 @@ public final class Segment extends TransferableByteSequence implements
      * @return the {@link IndexChunk}
      */
     public IndexChunk index() {
+        open();
         return index;
     }
 
@@ -709,6 +777,7 @@ public final class Segment extends TransferableByteSequence implements
                     + table.length() 
                     + index.length()
                     + corpus.length()
+                    + index.fences().size()
                 ;
                 // @formatter:on
                 return size;
@@ -722,6 +791,24 @@ public final class Segment extends TransferableByteSequence implements
         }
     }
 
+    /**
+     * Return {@code true} if this {@link Segment} might contain
+     * {@link Revision Revisions} whose version is less than or equal to
+     * {@code timestamp}, based on the smallest version that has been
+     * {@link #acquire(Write, AwaitableExecutorService) transferred}.
+     * <p>
+     * A {@link #isMutable() mutable} {@link Segment} is always considered
+     * because its versions may be changing concurrently.
+     * </p>
+     * 
+     * @param timestamp
+     * @return a boolean that indicates whether a historical read at
+     *         {@code timestamp} must consider this {@link Segment}
+     */
+    public boolean mightContainVersionsAtOrBefore(long timestamp) {
+        return isMutable() || minTs <= timestamp;
+    }
+
     /**
      * Reindex this {@link Segment} by replaying the {@link #acquire(Write)} of
      * its {@link #writes()} to a {@link #Segment() new} {@link Segment}.
@@ -754,10 +841,10 @@ public final class Segment extends TransferableByteSequence implements
     public double similarityWith(Segment other) {
         try {
             return Math.max(
-                    BloomFilters.estimateSimilarity(table.filter(),
-                            other.table.filter()),
-                    BloomFilters.estimateSimilarity(index.filter(),
-                            other.index.filter()));
+                    BloomFilters.estimateSimilarity(table().filter(),
+                            other.table().filter()),
+                    BloomFilters.estimateSimilarity(index().filter(),
+                            other.index().filter()));
         }
         catch (IllegalArgumentException e) {
             return 0.0;
@@ -770,6 +857,7 @@ public final class Segment extends TransferableByteSequence implements
      * @return the {@link TableChunk}
      */
     public TableChunk table() {
+        open();
         return table;
     }
 
@@ -787,7 +875,7 @@ public final class Segment extends TransferableByteSequence implements
      */
     @Override
     public Stream<Write> writes() {
-        return StreamSupport.stream(table.spliterator(), false)
+        return StreamSupport.stream(table().spliterator(), false)
                 .map(revision -> Reflection.newInstance(Write.class,
                         revision.getType(), revision.getKey(),
                         revision.getValue(), revision.getLocator(),
@@ -798,25 +886,29 @@ public final class Segment extends TransferableByteSequence implements
     protected void flush(ByteSink sink) {
         this.syncTs = Time.now();
         this.count = index.count();
-        sink.put(FILE_SIGNATURE);
-        sink.put(version);
-        sink.putLong(count);
-        sink.putLong(minTs);
-        sink.putLong(maxTs);
-        sink.putLong(syncTs);
-        sink.putLong(0);
-        sink.putLong(0);
-        sink.putLong(0);
-        sink.putLong(0);
-        sink.putLong(table.filter().size());
-        sink.putLong(index.filter().size());
-        sink.putLong(corpus.filter().size());
-        sink.putLong(table.manifest().length());
-        sink.putLong(index.manifest().length());
-        sink.putLong(corpus.manifest().length());
-        sink.putLong(table.length());
-        sink.putLong(index.length());
-        sink.putLong(corpus.length());
+        ByteBuffer metadata = ByteBuffer.allocate(METADATA_LENGTH);
+        metadata.put(FILE_SIGNATURE);
+        metadata.put(version);
+        metadata.putLong(count);
+        metadata.putLong(minTs);
+        metadata.putLong(maxTs);
+        metadata.putLong(syncTs);
+        metadata.putLong(index.fences().size());
+        metadata.putLong(0);
+        metadata.putLong(0);
+        metadata.putLong(0);
+        metadata.putLong(table.filter().size());
+        metadata.putLong(index.filter().size());
+        metadata.putLong(corpus.filter().size());
+        metadata.putLong(table.manifest().length());
+        metadata.putLong(index.manifest().length());
+        metadata.putLong(corpus.manifest().length());
+        metadata.putLong(table.length());
+        metadata.putLong(index.length());
+        metadata.putLong(corpus.length());
+        metadata.flip();
+        this.metadata = metadata.asReadOnlyBuffer();
+        sink.put(metadata);
 
         // @formatter:off
         for (Byteable byteable :  Array.containing(
@@ -837,6 +929,7 @@ public final class Segment extends TransferableByteSequence implements
             sequence.transfer(sink);
         }
         // @formatter:on
+        index.fences().copyTo(sink);
     }
 
     @Override
@@ -857,6 +950,114 @@ public final class Segment extends TransferableByteSequence implements
         return objects;
     }
 
+    /**
+     * Return the bytes that were written at the beginning of this
+     * {@link Segment Segment's} file when it was {@link #fsync(Path) synced}.
+     * <p>
+     * These bytes can later be given to {@link #load(Path, long, ByteBuffer)}
+     * to load the {@link Segment} without reading them from the file.
+     * </p>
+     * 
+     * @return the metadata
+     */
+    ByteBuffer metadata() {
+        Preconditions.checkState(metadata != null,
+                "A mutable Segment does not have metadata");
+        return metadata.duplicate();
+    }
+
+    /**
+     * Load this {@link Segment Segment's} filters, {@link Manifest manifests}
+     * and {@link Chunk Chunks} from its file, if that hasn't already happened.
+     */
+    private void open() {
+        if(!opened) {
+            synchronized (this) {
+                if(!opened) {
+                    ByteBuffer metadata = this.metadata.duplicate();
+                    metadata.position(FILE_SIGNATURE.length + 1 + 32);
+                    long fencesLength = metadata.getLong();
+                    metadata.position(FILE_SIGNATURE.length + 1 + 64);
+                    long tableFilterLength = metadata.getLong();
+                    long indexFilterLength = metadata.getLong();
+                    long corpusFilterLength = metadata.getLong();
+                    long tableManifestLength = metadata.getLong();
+                    long indexManifestLength = metadata.getLong();
+                    long corpusManifestLength = metadata.getLong();
+                    long tableLength = metadata.getLong();
+                    long indexLength = metadata.getLong();
+                    long corpusLength = metadata.getLong();
+                    long position = METADATA_LENGTH;
+                    try {
+                        ByteBuffer filterBytes = channel().map(
+                                MapMode.READ_ONLY, position,
+                                tableFilterLength + indexFilterLength
+                                        + corpusFilterLength);
+                        position += filterBytes.capacity();
+
+                        // Table BloomFilter
+                        BloomFilter tableFilter = BloomFilter
+                                .load(ByteBuffers.slice(filterBytes, 0,
+                                        (int) tableFilterLength));
+
+                        // Index BloomFilter
+                        BloomFilter indexFilter = BloomFilter.load(
+                                ByteBuffers.slice(filterBytes,
+                                        (int) tableFilterLength,
+                                        (int) indexFilterLength));
+
+                        // Corpus BloomFilter
+                        BloomFilter corpusFilter = BloomFilter.load(
+                                ByteBuffers.slice(filterBytes,
+                                        (int) (tableFilterLength
+                                                + indexFilterLength),
+                                        (int) corpusFilterLength));
+
+                        // Table Manifest
+                        Manifest tableManifest = Manifest.load(this, position,
+                                tableManifestLength);
+                        position += tableManifestLength;
+
+                        // Index Manifest
+                        Manifest indexManifest = Manifest.load(this, position,
+                                indexManifestLength);
+                        position += indexManifestLength;
+
+                        // Corpus Manifest
+                        Manifest corpusManifest = Manifest.load(this,
+                                position, corpusManifestLength);
+                        position += corpusManifestLength;
+
+                        // Table
+                        this.table = TableChunk.load(this, position,
+                                tableLength, tableFilter, tableManifest);
+                        position += tableLength;
+
+                        // Index (whose ValueFences, if any, follow the Corpus)
+                        ValueFences fences = fencesLength > 0
+                                ? ValueFences.load(channel().map(
+                                        MapMode.READ_ONLY,
+                                        position + indexLength + corpusLength,
+                                        fencesLength))
+                                : ValueFences.unknown();
+                        this.index = IndexChunk.load(this, position,
+                                indexLength, indexFilter, indexManifest,
+                                fences);
+                        position += indexLength;
+
+                        // Corpus
+                        this.corpus = CorpusChunk.load(this, position,
+                                corpusLength, corpusFilter, corpusManifest);
+                    }
+                    catch (IOException e) {
+                        throw CheckedExceptions.wrapAsRuntimeException(e);
+                    }
+                    opened = true;
+                }
+            }
+        }
+    }
+
     /**
      * A {@link Receipt} is acknowledges the successful
      * {@link Segment#acquire(Write, AwaitableExecutorService) acquisition} of a
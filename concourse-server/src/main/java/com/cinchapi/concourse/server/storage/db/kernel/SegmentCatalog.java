@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.db.kernel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.cinchapi.common.base.CheckedExceptions;
+import com.cinchapi.concourse.server.io.FileSystem;
+import com.cinchapi.concourse.util.Logger;
+import com.google.common.base.Preconditions;
+
+/**
+ * A {@link SegmentCatalog} is a small file that records the
+ * {@link Segment#metadata() metadata} of each {@link Segment} that is
+ * {@link #add(Segment) added} when it is synced or compacted.
+ * <p>
+ * The metadata includes each {@link Segment Segment's} revision count, its
+ * minimum and maximum timestamps and the sizes (and therefore offsets) of its
+ * filters, {@link Manifest manifests} and {@link Chunk Chunks}. So, on
+ * startup, a cataloged {@link Segment} is {@link #load(Path) loaded} without
+ * reading its file at all and its filters, {@link Manifest manifests} and
+ * {@link Chunk Chunks} are only opened when it is first probed.
+ * </p>
+ * <p>
+ * The catalog is append-only and each entry is protected by a checksum, so a
+ * torn or corrupt entry is ignored. A {@link Segment} whose file has no valid
+ * entry, or whose file size doesn't match its entry, is loaded from its file
+ * and cataloged. The catalog is {@link #retain(Collection) compacted} to the
+ * live {@link Segment Segments} whenever they are all loaded.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+@ThreadSafe
+public final class SegmentCatalog {
+
+    /**
+     * The entries that are cataloged, mapping the name of each {@link Segment}
+     * file to its {@link Entry}.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The file where the catalog is stored.
+     */
+    private final Path file;
+
+    /**
+     * Construct a new instance that reads any existing entries from
+     * {@code file}.
+     *
+     * @param file
+     */
+    public SegmentCatalog(Path file) {
+        this.file = file;
+        if(FileSystem.hasFile(file)) {
+            ByteBuffer bytes = FileSystem.readBytes(file.toString());
+            while (bytes.hasRemaining()) {
+                Entry entry = Entry.read(bytes);
+                if(entry != null) {
+                    entries.put(entry.name, entry);
+                }
+                else {
+                    Logger.warn("Ignoring the unreadable tail of the Segment "
+                            + "catalog at {}", file);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Catalog the {@code segment}, which must have been transferred to a file.
+     *
+     * @param segment
+     */
+    public synchronized void add(Segment segment) {
+        Preconditions.checkArgument(!segment.isMutable(),
+                "Cannot catalog a mutable Segment");
+        Entry entry = Entry.of(segment);
+        ByteBuffer bytes = entry.getBytes();
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+        catch (IOException e) {
+            throw CheckedExceptions.wrapAsRuntimeException(e);
+        }
+        entries.put(entry.name, entry);
+    }
+
+    /**
+     * Return {@code true} if the {@link Segment} stored in {@code file} is
+     * cataloged.
+     *
+     * @param file
+     * @return a boolean that indicates whether the {@code file} is cataloged
+     */
+    public boolean contains(Path file) {
+        Entry entry = entries.get(file.getFileName().toString());
+        return entry != null
+                && entry.length == FileSystem.getFileSize(file.toString());
+    }
+
+    /**
+     * Load the {@link Segment} that is stored in {@code file}.
+     * <p>
+     * If the {@code file} is {@link #contains(Path) cataloged}, the
+     * {@link Segment} is loaded from its entry and opened lazily. Otherwise, it
+     * is {@link Segment#load(Path) loaded} from the {@code file} and
+     * {@link #add(Segment) added} to this catalog.
+     * </p>
+     *
+     * @param file
+     * @return the loaded {@link Segment}
+     * @throws SegmentLoadingException
+     */
+    public Segment load(Path file) throws SegmentLoadingException {
+        Entry entry = entries.get(file.getFileName().toString());
+        long length = FileSystem.getFileSize(file.toString());
+        if(entry != null && entry.length == length) {
+            return Segment.load(file, length, entry.metadata.duplicate());
+        }
+        else {
+            Segment segment = Segment.load(file);
+            add(segment);
+            return segment;
+        }
+    }
+
+    /**
+     * Rewrite this catalog so that it only contains entries for the immutable
+     * {@code segments}.
+     *
+     * @param segments
+     */
+    public synchronized void retain(Collection<Segment> segments) {
+        Map<String, Entry> retained = new ConcurrentHashMap<>();
+        for (Segment segment : segments) {
+            if(!segment.isMutable()) {
+                String name = segment.file().getFileName().toString();
+                Entry entry = entries.get(name);
+                retained.put(name, entry != null ? entry : Entry.of(segment));
+            }
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Entry entry : retained.values()) {
+                ByteBuffer bytes = entry.getBytes();
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            }
+            channel.force(true);
+        }
+        catch (IOException e) {
+            throw CheckedExceptions.wrapAsRuntimeException(e);
+        }
+        FileSystem.replaceFile(file.toString(), temp.toString());
+        entries.clear();
+        entries.putAll(retained);
+    }
+
+    /**
+     * An {@link Entry} in the {@link SegmentCatalog}.
+     * <p>
+     * An {@link Entry} is serialized as the length of the {@link Segment}
+     * file's name, the name, the size of the file, the length of the
+     * {@link Segment#metadata() metadata}, the metadata and a CRC32 checksum
+     * of all the preceding bytes.
+     * </p>
+     *
+     * @author Jeff Nelson
+     */
+    private static final class Entry {
+
+        /**
+         * Return an {@link Entry} for the {@code segment}.
+         *
+         * @param segment
+         * @return the {@link Entry}
+         */
+        static Entry of(Segment segment) {
+            Path file = segment.file();
+            return new Entry(file.getFileName().toString(),
+                    FileSystem.getFileSize(file.toString()),
+                    segment.metadata());
+        }
+
+        /**
+         * Read the next {@link Entry} from {@code bytes}.
+         *
+         * @param bytes
+         * @return the {@link Entry} or {@code null} if the next bytes don't
+         *         contain a valid {@link Entry}
+         */
+        static Entry read(ByteBuffer bytes) {
+            int start = bytes.position();
+            try {
+                byte[] name = new byte[readLength(bytes)];
+                bytes.get(name);
+                long length = bytes.getLong();
+                byte[] metadata = new byte[readLength(bytes)];
+                bytes.get(metadata);
+                int end = bytes.position();
+                int checksum = bytes.getInt();
+                ByteBuffer covered = bytes.duplicate();
+                covered.position(start);
+                covered.limit(end);
+                if(checksum(covered) == checksum) {
+                    return new Entry(new String(name, StandardCharsets.UTF_8),
+                            length, ByteBuffer.wrap(metadata));
+                }
+                else {
+                    return null;
+                }
+            }
+            catch (RuntimeException e) {
+                // The entry was truncated or its lengths are corrupt
+                return null;
+            }
+        }
+
+        /**
+         * Return the CRC32 checksum of the {@code bytes}.
+         *
+         * @param bytes
+         * @return the checksum
+         */
+        private static int checksum(ByteBuffer bytes) {
+            byte[] array = new byte[bytes.remaining()];
+            bytes.duplicate().get(array);
+            CRC32 crc = new CRC32();
+            crc.update(array, 0, array.length);
+            return (int) crc.getValue();
+        }
+
+        /**
+         * Read a length prefix from {@code bytes} and verify that there are
+         * enough remaining bytes to hold that many, so that a corrupt prefix
+         * can't cause a huge or negative allocation.
+         *
+         * @param bytes
+         * @return the length
+         * @throws IllegalStateException if the length is corrupt
+         */
+        private static int readLength(ByteBuffer bytes) {
+            int length = bytes.getInt();
+            if(length < 0 || length > bytes.remaining()) {
+                throw new IllegalStateException(
+                        "Invalid length prefix " + length);
+            }
+            return length;
+        }
+
+        /**
+         * The size of the {@link Segment} file.
+         */
+        final long length;
+
+        /**
+         * The {@link Segment#metadata() metadata} of the {@link Segment}.
+         */
+        final ByteBuffer metadata;
+
+        /**
+         * The name of the {@link Segment} file.
+         */
+        final String name;
+
+        /**
+         * Construct a new instance.
+         *
+         * @param name
+         * @param length
+         * @param metadata
+         */
+        Entry(String name, long length, ByteBuffer metadata) {
+            this.name = name;
+            this.length = length;
+            this.metadata = metadata.asReadOnlyBuffer();
+        }
+
+        /**
+         * Return the serialized form of this {@link Entry}.
+         *
+         * @return the bytes
+         */
+        ByteBuffer getBytes() {
+            byte[] name = this.name.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer metadata = this.metadata.duplicate();
+            ByteBuffer bytes = ByteBuffer.allocate(
+                    4 + name.length + 8 + 4 + metadata.remaining() + 4);
+            bytes.putInt(name.length);
+            bytes.put(name);
+            bytes.putLong(length);
+            bytes.putInt(metadata.remaining());
+            bytes.put(metadata);
+            ByteBuffer covered = bytes.duplicate();
+            covered.flip();
+            bytes.putInt(checksum(covered));
+            bytes.flip();
+            return bytes;
+        }
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.db.kernel;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.cinchapi.common.base.AnyStrings;
+import com.cinchapi.concourse.server.io.ByteSink;
+import com.cinchapi.concourse.server.io.Byteable;
+import com.cinchapi.concourse.server.model.Text;
+import com.cinchapi.concourse.server.model.Value;
+import com.cinchapi.concourse.util.ByteBuffers;
+
+/**
+ * {@link ValueFences} record the minimum and maximum {@link Value} that is
+ * stored for each key in an {@link IndexChunk}.
+ * <p>
+ * A query for a range of values can skip an {@link IndexChunk} (and therefore
+ * its entire {@link Segment}) if none of the key's values fall between its
+ * fences. This is especially effective for keys whose values increase over
+ * time (e.g., timestamps or sequence numbers) because each {@link Segment}
+ * only covers a narrow span of those values.
+ * </p>
+ * <p>
+ * {@link Segment Segments} that were written before fences were recorded have
+ * {@link #unknown() unknown} fences that never allow a range to be skipped.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+@ThreadSafe
+final class ValueFences implements Byteable {
+
+    /**
+     * Return {@link ValueFences} that are empty and can be
+     * {@link #include(Text, Value) extended}.
+     *
+     * @return the {@link ValueFences}
+     */
+    static ValueFences create() {
+        return new ValueFences(new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Load the {@link ValueFences} that are serialized in {@code bytes}.
+     *
+     * @param bytes
+     * @return the {@link ValueFences}
+     */
+    static ValueFences load(ByteBuffer bytes) {
+        Map<Text, Value[]> fences = new ConcurrentHashMap<>();
+        while (bytes.hasRemaining()) {
+            Text key = Text.fromByteBuffer(
+                    ByteBuffers.get(bytes, bytes.getInt()));
+            Value min = Value.fromByteBuffer(
+                    ByteBuffers.get(bytes, bytes.getInt()));
+            Value max = Value.fromByteBuffer(
+                    ByteBuffers.get(bytes, bytes.getInt()));
+            fences.put(key, new Value[] { min, max });
+        }
+        return new ValueFences(fences);
+    }
+
+    /**
+     * Return {@link ValueFences} that don't know the fences of any key.
+     *
+     * @return the {@link ValueFences}
+     */
+    static ValueFences unknown() {
+        return new ValueFences(null);
+    }
+
+    /**
+     * A mapping from each key to an array containing its minimum and maximum
+     * {@link Value}, or {@code null} if the fences are {@link #unknown()
+     * unknown}.
+     */
+    @Nullable
+    private final Map<Text, Value[]> fences;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param fences
+     */
+    private ValueFences(@Nullable Map<Text, Value[]> fences) {
+        this.fences = fences;
+    }
+
+    @Override
+    public void copyTo(ByteSink sink) {
+        if(fences != null) {
+            for (Map.Entry<Text, Value[]> entry : fences.entrySet()) {
+                Text key = entry.getKey();
+                Value min = entry.getValue()[0];
+                Value max = entry.getValue()[1];
+                sink.putInt(key.size());
+                key.copyTo(sink);
+                sink.putInt(min.size());
+                min.copyTo(sink);
+                sink.putInt(max.size());
+                max.copyTo(sink);
+            }
+        }
+    }
+
+    /**
+     * Extend the fences for {@code key} so that they include {@code value}.
+     *
+     * @param key
+     * @param value
+     */
+    void include(Text key, Value value) {
+        if(fences != null) {
+            fences.compute(key, (k, fence) -> {
+                if(fence == null) {
+                    return new Value[] { value, value };
+                }
+                else if(value.compareTo(fence[0]) < 0) {
+                    return new Value[] { value, fence[1] };
+                }
+                else if(value.compareTo(fence[1]) > 0) {
+                    return new Value[] { fence[0], value };
+                }
+                else {
+                    return fence;
+                }
+            });
+        }
+    }
+
+    /**
+     * Return {@code true} if it is possible that a {@link Value} within
+     * {@code range} is stored for {@code key}.
+     *
+     * @param key
+     * @param range
+     * @return a boolean that indicates whether the {@code range} might overlap
+     *         the stored values for {@code key}
+     */
+    boolean mightOverlap(Text key,
+            com.google.common.collect.Range<Value> range) {
+        if(fences == null) {
+            return true;
+        }
+        else {
+            Value[] fence = fences.get(key);
+            if(fence == null) {
+                return false;
+            }
+            else {
+                com.google.common.collect.Range<Value> span = com.google.common.collect.Range
+                        .closed(fence[0], fence[1]);
+                return range.isConnected(span)
+                        && !range.intersection(span).isEmpty();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        if(fences != null) {
+            for (Map.Entry<Text, Value[]> entry : fences.entrySet()) {
+                size += 12 + entry.getKey().size() + entry.getValue()[0].size()
+                        + entry.getValue()[1].size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return AnyStrings.format("ValueFences for {} keys",
+                fences != null ? fences.size() : "unknown");
+    }
+
+}
@@ -26,6 +26,7 @@ import java.nio.channels.FileChannel.MapMode;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -34,6 +35,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -88,6 +90,10 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterables;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+
 /**
  * A {@code Buffer} is a special implementation of {@link Limbo} that aims to
  * quickly accumulate writes in memory before performing a batch flush into some
@@ -259,6 +265,16 @@ public final class Buffer extends Limbo implements BatchTransportable {
 
     };
 
+    /**
+     * Shares each {@link #sync()} among concurrent durable
+     * {@link #insert(Write, boolean) inserts} when
+     * {@link GlobalState#ENABLE_BUFFER_GROUP_SYNC group sync} is enabled.
+     * Otherwise, this is {@code null} and each durable insert syncs on its
+     * own.
+     */
+    @Nullable
+    private GroupSync groupSync;
+
     /**
      * A runnable instance that flushes the content the current buffer page to
      * disk.
@@ -303,6 +319,15 @@ public final class Buffer extends Limbo implements BatchTransportable {
      */
     private final Object readable = new Object();
 
+    /**
+     * A monitor that is used to make a writer thread block while there are
+     * too many full pages waiting to be transported. The
+     * {@link #waitUntilWritable(int)} method waits for this monitor and the
+     * {@link #removePage()} methods notify the threads waiting on this monitor
+     * whenever a page is transported.
+     */
+    private final Object writable = new Object();
+
     /**
      * A counter that tracks the total number of {@link Batch batches} that have
      * been {@link #queueTransportBatch(Page) queued} for transport.
@@ -522,6 +547,14 @@ public final class Buffer extends Limbo implements BatchTransportable {
 
     @Override
     public boolean insert(Write write, boolean sync) {
+        GroupSync groupSync = this.groupSync;
+        if(sync && groupSync != null) {
+            // Append without syncing and then wait, outside of the structure
+            // lock, for a sync that is shared with other concurrent inserts
+            insert(write, false);
+            groupSync.commit(write.size() + 4);
+            return true;
+        }
         structure.lock();
         try {
             boolean notify = pages.size() == 2 && currentPage.size == 0;
@@ -739,6 +772,12 @@ public final class Buffer extends Limbo implements BatchTransportable {
             syncer = new AwaitableExecutorService(
                     Executors.newCachedThreadPool(ThreadFactories
                             .namingThreadFactory(threadNamePrefix + "-%d")));
+            if(GlobalState.ENABLE_BUFFER_GROUP_SYNC) {
+                groupSync = new GroupSync(threadNamePrefix + "-group-sync",
+                        this::sync, GlobalState.BUFFER_GROUP_SYNC_INTERVAL,
+                        GlobalState.BUFFER_GROUP_SYNC_THRESHOLD);
+                groupSync.start();
+            }
 
             // Load existing Buffer pages from disk
             SortedMap<File, Page> pageSorter = new TreeMap<>(
@@ -782,8 +821,15 @@ public final class Buffer extends Limbo implements BatchTransportable {
                 transportable.notifyAll(); // notify to allow any waiting
                                            // threads to terminate
             }
+            synchronized (writable) {
+                writable.notifyAll();
+            }
             batches.clear();
         }
+        if(groupSync != null) {
+            groupSync.stop();
+            groupSync = null;
+        }
         syncer.shutdown();
     }
 
@@ -910,6 +956,35 @@ public final class Buffer extends Limbo implements BatchTransportable {
         }
     }
 
+    /**
+     * Block the calling thread while more than {@code depth} full
+     * {@link Page pages} are waiting to be transported so that writers can't
+     * indefinitely outpace the
+     * {@link com.cinchapi.concourse.server.storage.transporter.Transporter
+     * Transporter}.
+     * <p>
+     * If {@code depth} is less than {@code 1}, this method returns immediately.
+     * </p>
+     * 
+     * @param depth the maximum number of full pages that may be waiting for
+     *            transport before writers must wait
+     */
+    public void waitUntilWritable(int depth) {
+        if(depth > 0 && backlog() > depth) {
+            synchronized (writable) {
+                while (running && backlog() > depth) {
+                    try {
+                        writable.wait();
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Return {@code true} if the Buffer has more than 1 page and the first page
      * has at least one element that can be transported. If this method returns
@@ -1051,6 +1126,22 @@ public final class Buffer extends Limbo implements BatchTransportable {
         }
     }
 
+    /**
+     * Return the number of full {@link Page pages} that are waiting to be
+     * transported.
+     * 
+     * @return the transport backlog
+     */
+    private int backlog() {
+        structure.lock();
+        try {
+            return pages.size() - 1;
+        }
+        finally {
+            structure.unlock();
+        }
+    }
+
     /**
      * Broadcast that the {@link Buffer} has been scanned.
      */
@@ -1110,6 +1201,9 @@ public final class Buffer extends Limbo implements BatchTransportable {
         finally {
             structure.unlock();
         }
+        synchronized (writable) {
+            writable.notifyAll();
+        }
     }
 
     /**
@@ -1129,6 +1223,9 @@ public final class Buffer extends Limbo implements BatchTransportable {
         finally {
             structure.unlock();
         }
+        synchronized (writable) {
+            writable.notifyAll();
+        }
     }
 
     /**
@@ -1205,6 +1302,11 @@ public final class Buffer extends Limbo implements BatchTransportable {
                     && write.getKey().equals(key);
         }
 
+        @Override
+        protected Iterator<Write> iterator(Page page) {
+            return page.iterator(key, record);
+        }
+
         @Override
         protected boolean pageMightContainRelevantWrites(Page page) {
             return page.mightContain(key, record);
@@ -1241,6 +1343,11 @@ public final class Buffer extends Limbo implements BatchTransportable {
             return write.getKey().equals(key);
         }
 
+        @Override
+        protected Iterator<Write> iterator(Page page) {
+            return page.iterator(key);
+        }
+
         @Override
         protected boolean pageMightContainRelevantWrites(Page page) {
             return page.mightContain(key);
@@ -1323,18 +1430,36 @@ public final class Buffer extends Limbo implements BatchTransportable {
          */
         private final boolean[] keyCache;
 
+        /**
+         * A hash index from each key to the offsets in {@link #writes} of the
+         * Writes with that key.
+         */
+        private final Map<Text, IntList> keyIndex = new Object2ObjectOpenHashMap<>();
+
         /**
          * A bloom filter like cache that is used to help determine if it is
          * possible that a key/record exists on the page.
          */
         private final boolean[] keyRecordCache;
 
+        /**
+         * A hash index from each record to each key to the offsets in
+         * {@link #writes} of the Writes with that key in that record.
+         */
+        private final Map<Identifier, Map<Text, IntList>> keyRecordIndex = new Object2ObjectOpenHashMap<>();
+
         /**
          * A bloom filter like cache that is used to help determine if it
          * possible that a record exists on the page.
          */
         private final boolean[] recordCache;
 
+        /**
+         * A hash index from each record to the offsets in {@link #writes} of
+         * the Writes in that record.
+         */
+        private final Map<Identifier, IntList> recordIndex = new Object2ObjectOpenHashMap<>();
+
         /**
          * The total number of elements in the list of {@link #writes}.
          */
@@ -1560,6 +1685,48 @@ public final class Buffer extends Limbo implements BatchTransportable {
             };
         }
 
+        /**
+         * Return an {@link Iterator} over the Writes on the Page with the
+         * {@code record} component. Like {@link #iterator()}, the returned
+         * iterator does not support removes, but it uses the Page's hash index
+         * to jump directly to the relevant Writes instead of scanning them all.
+         * 
+         * @param record
+         * @return an {@link Iterator} over the relevant Writes
+         */
+        public Iterator<Write> iterator(Identifier record) {
+            return iterator(recordIndex.get(record));
+        }
+
+        /**
+         * Return an {@link Iterator} over the Writes on the Page with the
+         * {@code key} component. Like {@link #iterator()}, the returned
+         * iterator does not support removes, but it uses the Page's hash index
+         * to jump directly to the relevant Writes instead of scanning them all.
+         * 
+         * @param key
+         * @return an {@link Iterator} over the relevant Writes
+         */
+        public Iterator<Write> iterator(Text key) {
+            return iterator(keyIndex.get(key));
+        }
+
+        /**
+         * Return an {@link Iterator} over the Writes on the Page with the
+         * {@code key} and {@code record} components. Like {@link #iterator()},
+         * the returned iterator does not support removes, but it uses the
+         * Page's hash index to jump directly to the relevant Writes instead of
+         * scanning them all.
+         * 
+         * @param key
+         * @param record
+         * @return an {@link Iterator} over the relevant Writes
+         */
+        public Iterator<Write> iterator(Text key, Identifier record) {
+            Map<Text, IntList> keys = keyRecordIndex.get(record);
+            return iterator(keys != null ? keys.get(key) : null);
+        }
+
         /**
          * Return {@code true} if the Page <em>might</em> have a Write with the
          * specified {@code record} component. If this function returns true,
@@ -1765,6 +1932,16 @@ public final class Buffer extends Limbo implements BatchTransportable {
                 keyRecordCache[slotify(hashCodeRecord, hashCodeKey)] = true;
                 recordCache[slotify(hashCodeRecord)] = true;
                 keyCache[slotify(hashCodeKey)] = true;
+                recordIndex.computeIfAbsent(write.getRecord(),
+                        $ -> new IntArrayList(1)).add(size);
+                keyIndex.computeIfAbsent(write.getKey(),
+                        $ -> new IntArrayList(1)).add(size);
+                keyRecordIndex
+                        .computeIfAbsent(write.getRecord(),
+                                $ -> new Object2ObjectOpenHashMap<>(1))
+                        .computeIfAbsent(write.getKey(),
+                                $ -> new IntArrayList(1))
+                        .add(size);
                 ++size;
             }
             else {
@@ -1772,6 +1949,65 @@ public final class Buffer extends Limbo implements BatchTransportable {
             }
         }
 
+        /**
+         * Return an {@link Iterator} over the Writes on the Page that are
+         * located at the {@code offsets} in {@link #writes}. Like
+         * {@link #iterator()}, the returned iterator does not allow removes and
+         * will detect concurrent modification.
+         * 
+         * @param offsets the ascending offsets from one of the Page's hash
+         *            indexes or {@code null} if there are no relevant Writes
+         * @return an {@link Iterator} over the Writes at the {@code offsets}
+         */
+        private Iterator<Write> iterator(@Nullable IntList offsets) {
+            if(offsets == null) {
+                return Collections.emptyIterator();
+            }
+            return new Iterator<Write>() {
+
+                /**
+                 * The value of {@link #head} when the iterator was created.
+                 * This is used to detect for concurrent modifications.
+                 */
+                private final int start = head;
+
+                /**
+                 * The index in {@code offsets} of the "next" element.
+                 */
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    if(head != start) {
+                        throw new ConcurrentModificationException(
+                                "A write has been removed from the Page");
+                    }
+                    // Skip the Writes that were removed before the iterator
+                    // was created
+                    while (index < offsets.size()
+                            && offsets.getInt(index) < head) {
+                        ++index;
+                    }
+                    return index < offsets.size()
+                            && offsets.getInt(index) < size;
+                }
+
+                @Override
+                public Write next() {
+                    if(!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return writes[offsets.getInt(index++)];
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+
+            };
+        }
+
         /**
          * Return {@code true} if this {@link Page} is mutable and available for
          * additional {@link Write writes} to be {@link #append(Write, boolean)
@@ -1866,6 +2102,11 @@ public final class Buffer extends Limbo implements BatchTransportable {
             return write.getRecord().equals(record);
         }
 
+        @Override
+        protected Iterator<Write> iterator(Page page) {
+            return page.iterator(record);
+        }
+
         @Override
         protected boolean pageMightContainRelevantWrites(Page page) {
             return page.mightContain(record);
@@ -1999,6 +2240,22 @@ public final class Buffer extends Limbo implements BatchTransportable {
          */
         protected abstract boolean isRelevantWrite(Write write);
 
+        /**
+         * Return an {@link Iterator} over the writes on {@code page} that
+         * should be checked for relevance.
+         * <p>
+         * By default, all the writes on the {@code page} are returned.
+         * Subclasses should override this method to use the page's hash
+         * indexes, if possible, so that irrelevant writes are not scanned.
+         * </p>
+         * 
+         * @param page
+         * @return an {@link Iterator} over the possibly relevant writes
+         */
+        protected Iterator<Write> iterator(Page page) {
+            return page.iterator();
+        }
+
         /**
          * Call the appropriate function to determine if the {@code page} might
          * contain the kinds of writes that this iterator is seeking.
@@ -2070,7 +2327,7 @@ public final class Buffer extends Limbo implements BatchTransportable {
                     }
                     else if(pageMightContainRelevantWrites(next)) {
                         started = true;
-                        writeIterator = next.iterator();
+                        writeIterator = iterator(next);
                         break;
                     }
                     else {
@@ -2192,6 +2449,11 @@ public final class Buffer extends Limbo implements BatchTransportable {
             return write.equals(this.write);
         }
 
+        @Override
+        protected Iterator<Write> iterator(Page page) {
+            return page.iterator(write.getKey(), write.getRecord());
+        }
+
         @Override
         protected boolean pageMightContainRelevantWrites(Page page) {
             return page.mightContain(write);
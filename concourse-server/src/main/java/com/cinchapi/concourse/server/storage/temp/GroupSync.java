@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.temp;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.cinchapi.common.base.CheckedExceptions;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * A {@link GroupSync} shares a single {@link #flush} among all the callers
+ * that {@link #commit(int) commit} data within a short window.
+ * <p>
+ * Each caller appends its data without syncing and then
+ * {@link #commit(int) commits}, which blocks until a flush that started after
+ * the data was appended completes. A background thread flushes the pending
+ * group once it is {@code interval} milliseconds old or once it covers at
+ * least {@code threshold} bytes, whichever comes first. So, concurrent
+ * callers pay for one fsync instead of one each, without weakening the
+ * guarantee that a commit only returns once its data is durable.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+@ThreadSafe
+final class GroupSync {
+
+    /**
+     * The routine that durably persists all the data that has been appended.
+     */
+    private final Runnable flush;
+
+    /**
+     * The group that is open for {@link #commit(int) commits}.
+     */
+    @GuardedBy("this")
+    private Group group = new Group();
+
+    /**
+     * The maximum number of milliseconds that a group stays open.
+     */
+    private final long interval;
+
+    /**
+     * A flag that indicates whether the {@link #flusher} is running.
+     */
+    @GuardedBy("this")
+    private boolean running = false;
+
+    /**
+     * The number of pending bytes that causes a group to be flushed before
+     * its {@link #interval} elapses.
+     */
+    private final long threshold;
+
+    /**
+     * The background thread that flushes each group.
+     */
+    private final Thread flusher;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the name of the {@link #flusher} thread
+     * @param flush the routine that durably persists all appended data
+     * @param interval the maximum number of milliseconds to wait before
+     *            flushing
+     * @param threshold the number of pending bytes that triggers a flush
+     */
+    GroupSync(String name, Runnable flush, long interval, long threshold) {
+        Preconditions.checkArgument(interval >= 0);
+        Preconditions.checkArgument(threshold > 0);
+        this.flush = flush;
+        this.interval = interval;
+        this.threshold = threshold;
+        this.flusher = new ThreadFactoryBuilder().setNameFormat(name)
+                .setDaemon(true).build().newThread(this::run);
+    }
+
+    /**
+     * Block until a flush that covers the {@code bytes} that the caller has
+     * already appended completes.
+     * <p>
+     * If this {@link GroupSync} is not running, the data is flushed
+     * immediately by the calling thread.
+     * </p>
+     *
+     * @param bytes the number of bytes that the caller appended
+     */
+    public void commit(int bytes) {
+        Group group;
+        synchronized (this) {
+            if(running) {
+                group = this.group;
+                group.bytes += bytes;
+                ++group.size;
+                if(group.size == 1 || group.bytes >= threshold) {
+                    notifyAll();
+                }
+            }
+            else {
+                group = null;
+            }
+        }
+        if(group != null) {
+            group.await();
+        }
+        else {
+            flush.run();
+        }
+    }
+
+    /**
+     * Start the background thread that flushes each group.
+     */
+    public synchronized void start() {
+        Preconditions.checkState(!running, "Already started");
+        running = true;
+        flusher.start();
+    }
+
+    /**
+     * Stop the background thread after it flushes any pending group.
+     */
+    public void stop() {
+        synchronized (this) {
+            running = false;
+            notifyAll();
+        }
+        try {
+            flusher.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Flush each group once it is due, until this {@link GroupSync} is
+     * {@link #stop() stopped} and there is no pending group.
+     */
+    private void run() {
+        while (true) {
+            Group group;
+            synchronized (this) {
+                try {
+                    while (running && this.group.size == 0) {
+                        wait();
+                    }
+                    long deadline = System.nanoTime()
+                            + TimeUnit.MILLISECONDS.toNanos(interval);
+                    long remaining;
+                    while (running && this.group.bytes < threshold
+                            && (remaining = deadline
+                                    - System.nanoTime()) > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    }
+                }
+                catch (InterruptedException e) {
+                    // Flush whatever is pending and keep going unless the
+                    // GroupSync has been stopped
+                }
+                if(this.group.size == 0) {
+                    if(running) {
+                        // Woken up by an interrupt with nothing to flush
+                        continue;
+                    }
+                    else {
+                        return;
+                    }
+                }
+                group = this.group;
+                this.group = new Group();
+            }
+            try {
+                flush.run();
+                group.complete(null);
+            }
+            catch (Throwable t) {
+                // Release the callers with any failure, including an Error,
+                // so that they don't wait forever. The flusher keeps running
+                // so that later groups can retry.
+                group.complete(t);
+            }
+        }
+    }
+
+    /**
+     * The callers that share a flush.
+     *
+     * @author Jeff Nelson
+     */
+    private static final class Group {
+
+        /**
+         * The number of bytes that the callers appended.
+         */
+        long bytes = 0;
+
+        /**
+         * The number of callers.
+         */
+        int size = 0;
+
+        /**
+         * Released once the flush completes.
+         */
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        /**
+         * The error that the flush threw, if any.
+         */
+        private volatile Throwable failure;
+
+        /**
+         * Block until the flush completes and throw its error, if any.
+         */
+        void await() {
+            try {
+                done.await();
+            }
+            catch (InterruptedException e) {
+                throw CheckedExceptions.wrapAsRuntimeException(e);
+            }
+            if(failure instanceof Error) {
+                throw (Error) failure;
+            }
+            else if(failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            else if(failure != null) {
+                throw CheckedExceptions.wrapAsRuntimeException(failure);
+            }
+        }
+
+        /**
+         * Release the callers once the flush completes.
+         *
+         * @param failure the error that the flush threw or {@code null}
+         */
+        void complete(Throwable failure) {
+            this.failure = failure;
+            done.countDown();
+        }
+    }
+
+}
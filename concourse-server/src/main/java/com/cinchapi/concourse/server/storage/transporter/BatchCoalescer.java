@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.transporter;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.cinchapi.concourse.server.storage.temp.Write;
+
+/**
+ * A {@link BatchCoalescer} finds the {@link Write Writes} in a {@link Batch}
+ * that are offset by other {@link Write Writes} about the same topic within
+ * the same {@link Batch}.
+ * <p>
+ * Repeatedly setting the same key in the same record (e.g., a counter or a
+ * status field) produces pairs of {@link Write Writes} that cancel each other
+ * out. Every {@link Write} must still be stored so that the history of the
+ * data (e.g., {@code review}, {@code chronologize} and historical reads) is
+ * preserved, but search only reflects the present state, so offsetting
+ * {@link Write Writes} don't need to be indexed for search. For each topic,
+ * only the last {@link Write} is searchable if the topic has an odd number of
+ * {@link Write Writes} in the {@link Batch}, and none are searchable if it has
+ * an even number. If the {@link Write Writes} about a topic don't alternate
+ * between adds and removes, they are all searchable.
+ * </p>
+ *
+ * @author Jeff Nelson
+ */
+final class BatchCoalescer {
+
+    /**
+     * Return a flag for each of the {@link Batch#writes() writes} in the
+     * {@code batch} that indicates whether it must be indexed for search.
+     * <p>
+     * The {@link Batch#writes() writes} array may be padded with trailing
+     * {@code null} values, which are not searchable.
+     * </p>
+     *
+     * @param batch
+     * @return the searchable flags, aligned with the {@link Batch#writes()
+     *         writes}
+     */
+    static boolean[] searchable(Batch batch) {
+        Write[] writes = batch.writes();
+        boolean[] searchable = new boolean[writes.length];
+        // Write equality ignores the type and version, so each Write about
+        // the same topic maps to the same entries
+        Map<Write, Write> previous = new HashMap<>();
+        Map<Write, Integer> last = new HashMap<>();
+        Map<Write, Integer> counts = new HashMap<>();
+        Set<Write> irregular = new HashSet<>();
+        int size = 0;
+        for (Write write : writes) {
+            if(write != null) {
+                Write before = previous.put(write, write);
+                if(before != null && before.getType() == write.getType()) {
+                    // The Writes about this topic don't alternate, so they
+                    // can't be assumed to offset each other
+                    irregular.add(write);
+                }
+                last.put(write, size);
+                counts.merge(write, 1, Integer::sum);
+                ++size;
+            }
+            else {
+                break;
+            }
+        }
+        for (int i = 0; i < size; ++i) {
+            Write write = writes[i];
+            searchable[i] = irregular.contains(write)
+                    || (last.get(write) == i && counts.get(write) % 2 == 1);
+        }
+        return searchable;
+    }
+
+    private BatchCoalescer() {/* no-init */}
+
+}
@@ -26,6 +26,7 @@ import java.util.function.BiFunction;
 import com.cinchapi.common.base.AnyStrings;
 import com.cinchapi.common.concurrent.CountUpLatch;
 import com.cinchapi.common.reflect.Reflection;
+import com.cinchapi.concourse.server.GlobalState;
 import com.cinchapi.concourse.server.concurrent.AwaitableExecutorService;
 import com.cinchapi.concourse.server.storage.db.Database;
 import com.cinchapi.concourse.server.storage.db.kernel.Segment;
@@ -149,9 +150,15 @@ public class BatchTransporter extends Transporter {
         // populated, the Buffer and Database remain eligible for operations.
         Segment segment = Segment.create(batchSize);
         List<Receipt> receipts = new ArrayList<>(batchSize);
-        for (Write write : batch.writes()) {
+        boolean[] searchable = GlobalState.ENABLE_BATCH_WRITE_COALESCING
+                ? BatchCoalescer.searchable(batch)
+                : null;
+        Write[] writes = batch.writes();
+        for (int i = 0; i < writes.length; ++i) {
+            Write write = writes[i];
             if(write != null) {
-                Receipt receipt = segment.acquire(write, segmentWriter);
+                Receipt receipt = segment.acquire(write, segmentWriter,
+                        searchable == null || searchable[i]);
                 receipts.add(receipt);
             }
             else {
@@ -67,8 +67,15 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 public abstract class Transporter {
 
     /**
-     * Returns the default executor supplier that creates a single-threaded
-     * executor with the specified thread name prefix and exception handler.
+     * Returns the default executor supplier that creates an executor with the
+     * specified thread name prefix and exception handler.
+     * <p>
+     * The executor dedicates a thread to each submitted task since every
+     * transport task runs until the {@link Transporter} is
+     * {@link #stop() stopped}. So, a {@link Transporter} with multiple
+     * {@link #numIndexerThreads indexer threads} will run all of them
+     * concurrently.
+     * </p>
      *
      * @return a function that creates an appropriate {@link ExecutorService}
      */
@@ -78,7 +85,7 @@ public abstract class Transporter {
                     .setNameFormat(threadNameFormat).setDaemon(true)
                     .setUncaughtExceptionHandler(uncaughtExceptionHandler)
                     .build();
-            return Executors.newSingleThreadExecutor(factory);
+            return Executors.newCachedThreadPool(factory);
         };
     }
 
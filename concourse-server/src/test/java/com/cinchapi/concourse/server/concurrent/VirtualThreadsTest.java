@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.concurrent;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link VirtualThreads}.
+ *
+ * @author Jeff Nelson
+ */
+public class VirtualThreadsTest {
+
+    @Test
+    public void testNewThreadPerTaskExecutor()
+            throws InterruptedException, ExecutionException {
+        ExecutorService executor = VirtualThreads
+                .newThreadPerTaskExecutor("Test ");
+        if(VirtualThreads.isSupported()) {
+            try {
+                String name = executor
+                        .submit(() -> Thread.currentThread().getName()).get();
+                Assert.assertTrue(name.startsWith("Test "));
+            }
+            finally {
+                executor.shutdown();
+            }
+        }
+        else {
+            Assert.assertNull(executor);
+        }
+    }
+
+}
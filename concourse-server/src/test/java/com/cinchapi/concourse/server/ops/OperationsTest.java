@@ -146,6 +146,58 @@ public class OperationsTest {
         }
     }
 
+    @Test
+    public void testTraverseKeysRecordsAtomicMatchesEachRecord() {
+        AtomicSupport store = getStore();
+        try {
+            setupGraph(store);
+            List<String> keys = ImmutableList.of("foo.name", "foo.bar.name",
+                    "baz.foo.name");
+            List<Long> records = ImmutableList.of(1L, 2L, 3L, 4L, 5L);
+            Map<Long, Map<String, Set<TObject>>> data = Operations
+                    .traverseKeysRecordsAtomic(keys, records, Time.NONE, store);
+            for (long record : records) {
+                Map<String, Set<TObject>> expected = new LinkedHashMap<>();
+                for (String key : keys) {
+                    Set<TObject> values = Operations
+                            .traverseKeyRecordOptionalAtomic(key, record,
+                                    Time.NONE, store);
+                    if(!values.isEmpty()) {
+                        expected.put(key, values);
+                    }
+                }
+                Assert.assertEquals(expected,
+                        data.getOrDefault(record, ImmutableMap.of()));
+            }
+        }
+        finally {
+            store.stop();
+        }
+    }
+
+    @Test
+    public void testSelectNavigationKeysRecordsMatchesEachRecord() {
+        AtomicSupport store = getStore();
+        try {
+            setupGraph(store);
+            List<String> keys = ImmutableList.of("name", "foo.name",
+                    "foo.bar.name", "baz.name");
+            List<Long> records = ImmutableList.of(1L, 2L, 3L, 4L, 5L);
+            Supplier<SortableTable<Set<TObject>>> supplier = () -> SortableTable
+                    .multiValued(new LinkedHashMap<>());
+            Map<Long, Map<String, Set<TObject>>> data = Operations
+                    .selectKeysRecordsOptionalAtomic(store, keys, records,
+                            Time.NONE, Order.none(), Page.none(), supplier);
+            for (long record : records) {
+                Assert.assertEquals(Stores.select(store, keys, record),
+                        data.getOrDefault(record, ImmutableMap.of()));
+            }
+        }
+        finally {
+            store.stop();
+        }
+    }
+
     @Test
     public void testBrowseNavigationKeyAtomic() {
         AtomicSupport store = getStore();
@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import com.cinchapi.ccl.syntax.AbstractSyntaxTree;
 import com.cinchapi.concourse.lang.ConcourseCompiler;
+import com.cinchapi.concourse.server.storage.Memory;
 import com.cinchapi.concourse.server.storage.temp.Queue;
 import com.cinchapi.concourse.server.storage.temp.Write;
 import com.cinchapi.concourse.util.Convert;
@@ -114,4 +115,53 @@ public class FinderTest {
         Assert.assertEquals(Sets.newHashSet(), result);
     }
 
+    @Test
+    public void testAndConjunctionVerifiesCandidates() {
+        Queue store = new Queue(16) {
+
+            @Override
+            public Memory memory() {
+                // Pretend that no index is loaded so that the Finder verifies
+                // the least selective operand against the candidate records
+                return new Memory() {
+
+                    @Override
+                    public boolean contains(long record) {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean contains(String key) {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean contains(String key, long record) {
+                        return false;
+                    }
+
+                };
+            }
+
+        };
+        store.insert(Write.add("name", Convert.javaToThrift("jeff"), 1));
+        store.insert(Write.add("age", Convert.javaToThrift(100), 1));
+        store.insert(Write.add("name", Convert.javaToThrift("Jeff"), 2));
+        store.insert(Write.add("age", Convert.javaToThrift(50), 2));
+        store.insert(Write.add("name", Convert.javaToThrift("ashleah"), 3));
+        store.insert(Write.add("age", Convert.javaToThrift(100), 3));
+        String ccl = "age > 75 and name = jeff";
+        AbstractSyntaxTree ast = ConcourseCompiler.get().parse(ccl);
+        String plan = Planner.explain(ast, store);
+        Assert.assertTrue(plan.indexOf("name") < plan.indexOf("age"));
+        Assert.assertTrue(plan.contains("VERIFY"));
+        Finder visitor = Finder.instance();
+        Set<Long> result = ast.accept(visitor, store);
+        Assert.assertEquals(Sets.newHashSet(1L), result);
+        ccl = "age < 75 and name = jeff";
+        ast = ConcourseCompiler.get().parse(ccl);
+        result = ast.accept(visitor, store);
+        Assert.assertEquals(Sets.newHashSet(2L), result);
+    }
+
 }
@@ -23,6 +23,7 @@ import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import com.cinchapi.concourse.lang.paginate.Page;
 import com.cinchapi.concourse.lang.sort.Order;
 import com.cinchapi.concourse.server.storage.Store;
 import com.cinchapi.concourse.server.storage.temp.Queue;
@@ -104,6 +105,27 @@ public class SortingTest {
         Assert.assertEquals(expectedSort, sort);
     }
 
+    @Test
+    public void testSortKeepsOnlyRecordsNeededForPage() {
+        Map<Long, Map<String, Set<TObject>>> records = Maps.newLinkedHashMap();
+        for (int i = 0; i < 100; ++i) {
+            Map<String, Set<TObject>> entry = TMaps
+                    .newLinkedHashMapWithCapacity(1);
+            entry.put("age", Sets.newHashSet(Convert.javaToThrift(100 - i)));
+            TMaps.putResultDatasetOptimized(records, Integer.toUnsignedLong(i),
+                    entry);
+        }
+        List<Long> expected = Lists.newArrayList();
+        for (int i = 99; i > 99 - 15; --i) {
+            expected.add(Integer.toUnsignedLong(i));
+        }
+        Order order = Order.by("age").ascending().build();
+        Store store = new Queue(1);
+        Map<Long, Map<String, Set<TObject>>> result = Sorting
+                .byValues(order, store, Page.of(10, 5)).organize(records);
+        Assert.assertEquals(expected, Lists.newArrayList(result.keySet()));
+    }
+
     @Test
     public void testIntDescendingSort() {
         Map<Long, Map<String, Set<TObject>>> records = Maps.newLinkedHashMap();
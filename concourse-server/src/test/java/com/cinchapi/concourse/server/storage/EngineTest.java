@@ -240,6 +240,27 @@ public class EngineTest extends BufferedStoreTest {
                 Iterables.get(keys, 3));
     }
 
+    @Test
+    public void testSearchWithLimitKeepsRankingWhenBuffered() {
+        Engine engine = (Engine) store;
+        engine.durable.accept(
+                Write.add("name", Convert.javaToThrift("Jeff Nelson"), 3));
+        engine.durable.accept(
+                Write.add("name", Convert.javaToThrift("jeff jeff jeff"), 1));
+        engine.durable.accept(
+                Write.add("name", Convert.javaToThrift("jeff"), 2));
+        engine.limbo
+                .insert(Write.add("name", Convert.javaToThrift("jeffery"), 5));
+        Assert.assertEquals(Lists.newArrayList(1L, 2L),
+                Lists.newArrayList(engine.search("name", "jeff", 2)));
+        Assert.assertEquals(Lists.newArrayList(1L, 2L, 3L, 5L),
+                Lists.newArrayList(engine.search("name", "jeff", 10)));
+        Assert.assertEquals(engine.search("name", "jeff"),
+                Sets.newHashSet(engine.search("name", "jeff", 10)));
+        Assert.assertTrue(engine.search("name", "jeff", 0).isEmpty());
+        Assert.assertTrue(engine.search("name", "jeff", -1).isEmpty());
+    }
+
     @Test
     public void testBrowseRecordIsCorrectAfterRemoves() {
         Engine engine = (Engine) store;
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.cinchapi.concourse.server.concurrent.RangeToken;
+import com.cinchapi.concourse.server.concurrent.Token;
+import com.cinchapi.concourse.server.model.Text;
+import com.cinchapi.concourse.server.model.Value;
+import com.cinchapi.concourse.test.ConcourseBaseTest;
+import com.cinchapi.concourse.thrift.Operator;
+import com.cinchapi.concourse.util.Convert;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Unit tests for {@link TokenEventRegistry}.
+ *
+ * @author Jeff Nelson
+ */
+public class TokenEventRegistryTest extends ConcourseBaseTest {
+
+    @Test
+    public void testOnlyInterestedObserversAreReturned() {
+        TokenEventRegistry registry = new TokenEventRegistry();
+        TokenEventObserver a = (event, token) -> false;
+        TokenEventObserver b = (event, token) -> false;
+        registry.add(a);
+        registry.add(b);
+        registry.add(a, Token.wrap("foo", 1L));
+        registry.add(b, Token.wrap(2L));
+        Assert.assertEquals(ImmutableSet.of(a), ImmutableSet
+                .copyOf(registry.observersOf(Token.wrap("foo", 1L))));
+        Assert.assertEquals(ImmutableSet.of(b),
+                ImmutableSet.copyOf(registry.observersOf(Token.shareable(2L))));
+        Assert.assertFalse(registry.observersOf(Token.wrap("bar", 1L))
+                .iterator().hasNext());
+    }
+
+    @Test
+    public void testRangeTokensAreIndexedByKey() {
+        TokenEventRegistry registry = new TokenEventRegistry();
+        TokenEventObserver a = (event, token) -> false;
+        TokenEventObserver b = (event, token) -> false;
+        registry.add(a);
+        registry.add(b);
+        registry.add(a, RangeToken.forReading(Text.wrap("age"),
+                Operator.GREATER_THAN, Value.wrap(Convert.javaToThrift(10))));
+        registry.add(b, RangeToken.forReading(Text.wrap("name"),
+                Operator.EQUALS, Value.wrap(Convert.javaToThrift("jeff"))));
+        Assert.assertEquals(ImmutableSet.of(a),
+                ImmutableSet.copyOf(registry.observersOf(RangeToken.forWriting(
+                        Text.wrap("age"),
+                        Value.wrap(Convert.javaToThrift(5))))));
+    }
+
+    @Test
+    public void testRemoveDropsAllInterests() {
+        TokenEventRegistry registry = new TokenEventRegistry();
+        TokenEventObserver a = (event, token) -> false;
+        Token token = Token.wrap("foo", 1L);
+        registry.add(a);
+        registry.add(a, token);
+        Assert.assertTrue(registry.contains(a));
+        registry.remove(a);
+        Assert.assertFalse(registry.contains(a));
+        Assert.assertFalse(registry.observersOf(token).iterator().hasNext());
+        registry.add(a, token); // no effect after removal
+        Assert.assertFalse(registry.observersOf(token).iterator().hasNext());
+    }
+
+}
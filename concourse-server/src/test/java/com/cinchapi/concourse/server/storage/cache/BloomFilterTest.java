@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.cache;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.cinchapi.concourse.server.GlobalState;
+import com.cinchapi.concourse.server.io.Composite;
+import com.cinchapi.concourse.server.model.Text;
+import com.google.common.collect.Lists;
+
+/**
+ * Unit tests for {@link BloomFilter}.
+ *
+ * @author Jeff Nelson
+ */
+public class BloomFilterTest {
+
+    @Test
+    public void testBlockedBloomFilterIsLoadedWithoutCopying() {
+        boolean pref = GlobalState.ENABLE_BLOCKED_BLOOM_FILTERS;
+        GlobalState.ENABLE_BLOCKED_BLOOM_FILTERS = true;
+        try {
+            BloomFilter filter = BloomFilter.create(1000);
+            List<Composite> elements = Lists.newArrayList();
+            for (int i = 0; i < 1000; ++i) {
+                Composite element = Composite
+                        .create(Text.wrap("element" + i));
+                elements.add(element);
+                filter.put(element);
+            }
+            ByteBuffer bytes = ByteBuffer.allocateDirect(filter.size());
+            bytes.put(filter.getBytes());
+            bytes.flip();
+            BloomFilter loaded = BloomFilter.load(bytes);
+            Assert.assertNotNull(loaded.blocked());
+            Assert.assertEquals(filter, loaded);
+            int falsePositives = 0;
+            for (int i = 0; i < 1000; ++i) {
+                Assert.assertTrue(loaded.mightContain(elements.get(i)));
+                if(loaded.mightContain(
+                        Composite.create(Text.wrap("other" + i)))) {
+                    ++falsePositives;
+                }
+            }
+            Assert.assertTrue(falsePositives < 50);
+        }
+        finally {
+            GlobalState.ENABLE_BLOCKED_BLOOM_FILTERS = pref;
+        }
+    }
+
+    @Test
+    public void testLegacyBloomFilterCanStillBeLoaded() {
+        boolean pref = GlobalState.ENABLE_BLOCKED_BLOOM_FILTERS;
+        GlobalState.ENABLE_BLOCKED_BLOOM_FILTERS = false;
+        try {
+            BloomFilter filter = BloomFilter.create(100);
+            Composite element = Composite.create(Text.wrap("element"));
+            filter.put(element);
+            GlobalState.ENABLE_BLOCKED_BLOOM_FILTERS = true;
+            BloomFilter loaded = BloomFilter.load(filter.getBytes());
+            Assert.assertNull(loaded.blocked());
+            Assert.assertTrue(loaded.mightContain(element));
+        }
+        finally {
+            GlobalState.ENABLE_BLOCKED_BLOOM_FILTERS = pref;
+        }
+    }
+
+}
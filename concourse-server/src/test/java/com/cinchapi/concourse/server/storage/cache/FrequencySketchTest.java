@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.cinchapi.concourse.test.ConcourseBaseTest;
+
+/**
+ * Unit tests for {@link FrequencySketch}.
+ *
+ * @author Jeff Nelson
+ */
+public class FrequencySketchTest extends ConcourseBaseTest {
+
+    @Test
+    public void testFrequencyIsNeverUnderestimated() {
+        FrequencySketch sketch = new FrequencySketch(1 << 12);
+        for (int i = 0; i < 100; ++i) {
+            for (int j = 0; j <= i % 10; ++j) {
+                sketch.increment("item" + i);
+            }
+        }
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertTrue(sketch.frequency("item" + i) >= (i % 10) + 1);
+        }
+    }
+
+    @Test
+    public void testFrequencySaturates() {
+        FrequencySketch sketch = new FrequencySketch(1 << 12);
+        for (int i = 0; i < 100; ++i) {
+            sketch.increment("foo");
+        }
+        Assert.assertEquals(15, sketch.frequency("foo"));
+    }
+
+    @Test
+    public void testCountersAreHalvedAfterSample() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 8; ++i) {
+            sketch.increment("foo");
+        }
+        Assert.assertEquals(8, sketch.frequency("foo"));
+        for (int i = 0; i < 8; ++i) {
+            sketch.increment("foo");
+        }
+        // The 16th increment triggered a reset, so 15 (saturated) is halved
+        Assert.assertEquals(7, sketch.frequency("foo"));
+    }
+
+    @Test
+    public void testUnseenItemHasNoFrequency() {
+        FrequencySketch sketch = new FrequencySketch(1 << 16);
+        sketch.increment("foo");
+        Assert.assertEquals(0, sketch.frequency("bar"));
+    }
+
+}
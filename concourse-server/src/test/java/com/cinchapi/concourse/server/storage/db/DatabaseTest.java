@@ -35,7 +35,9 @@ import org.junit.Test;
 
 import com.cinchapi.common.profile.Benchmark;
 import com.cinchapi.common.reflect.Reflection;
+import com.cinchapi.concourse.server.GlobalState;
 import com.cinchapi.concourse.server.concurrent.Threads;
+import com.cinchapi.concourse.server.io.Composite;
 import com.cinchapi.concourse.server.io.FileSystem;
 import com.cinchapi.concourse.server.model.Identifier;
 import com.cinchapi.concourse.server.model.Text;
@@ -51,6 +53,7 @@ import com.cinchapi.concourse.util.Convert;
 import com.cinchapi.concourse.util.Random;
 import com.cinchapi.concourse.util.TestData;
 import com.google.common.base.MoreObjects;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -244,6 +247,54 @@ public class DatabaseTest extends StoreTest {
         Assert.assertFalse(rec.isPartial());
     }
 
+    @Test
+    public void testHistoricalReadOnlyUsesEarlierSegments() {
+        Database db = (Database) store;
+        String key = "name";
+        long record = 1;
+        TObject a = Convert.javaToThrift("a");
+        TObject b = Convert.javaToThrift("b");
+        TObject c = Convert.javaToThrift("c");
+        db.accept(Write.add(key, a, record));
+        db.sync();
+        long timestamp = Time.now();
+        db.accept(Write.remove(key, a, record));
+        db.accept(Write.add(key, b, record));
+        db.sync();
+        db.accept(Write.add(key, c, record));
+        Assert.assertEquals(ImmutableSet.of(a),
+                db.select(key, record, timestamp));
+        Assert.assertEquals(ImmutableSet.of(a),
+                db.select(record, timestamp).get(key));
+        Assert.assertEquals(ImmutableSet.of(record),
+                db.browse(key, timestamp).get(a));
+        Assert.assertFalse(db.browse(key, timestamp).containsKey(b));
+        Assert.assertEquals(1, db.chronologize(key, record, 0, timestamp)
+                .values().stream().filter(values -> !values.isEmpty()).count());
+        LoadingCache<Composite, TableRecord> cache = Reflection
+                .get("tableCache", db);
+        Assert.assertNull(
+                cache.getIfPresent(Composite.create(Identifier.of(record))));
+        Assert.assertEquals(ImmutableSet.of(b, c), db.select(key, record));
+    }
+
+    @Test
+    public void testHistoricalReadCachesRecordWhenNoSegmentsAreSkipped() {
+        Database db = (Database) store;
+        String key = "name";
+        long record = 1;
+        TObject a = Convert.javaToThrift("a");
+        db.accept(Write.add(key, a, record));
+        db.sync();
+        long timestamp = Time.now();
+        Assert.assertEquals(ImmutableSet.of(a),
+                db.select(record, timestamp).get(key));
+        LoadingCache<Composite, TableRecord> cache = Reflection
+                .get("tableCache", db);
+        Assert.assertNotNull(
+                cache.getIfPresent(Composite.create(Identifier.of(record))));
+    }
+
     @Test
     @Ignore
     public void testGatherVsSelectBenchmark() {
@@ -328,6 +379,47 @@ public class DatabaseTest extends StoreTest {
         Assert.assertEquals(ImmutableSet.of(1L), actual);
     }
 
+    @Test
+    public void testSearchWithTrigramSearchIndex() {
+        boolean enabled = GlobalState.ENABLE_TRIGRAM_SEARCH_INDEX;
+        GlobalState.ENABLE_TRIGRAM_SEARCH_INDEX = true;
+        try {
+            add("name", Convert.javaToThrift("Jeff Nelson"), 1L);
+            add("name", Convert.javaToThrift("nelslsoson"), 2L);
+            add("name", Convert.javaToThrift("Ashleah Nelson"), 3L);
+            add("name", Convert.javaToThrift("Nelson Jeff"), 4L);
+            Assert.assertEquals(ImmutableSet.of(1L, 3L, 4L),
+                    store.search("name", "nelson"));
+            Assert.assertEquals(ImmutableSet.of(1L),
+                    store.search("name", "eff nels"));
+            Assert.assertEquals(ImmutableSet.of(2L),
+                    store.search("name", "sos"));
+            Assert.assertEquals(ImmutableSet.of(1L, 4L),
+                    store.search("name", "je"));
+            remove("name", Convert.javaToThrift("Jeff Nelson"), 1L);
+            Assert.assertEquals(ImmutableSet.of(3L, 4L),
+                    store.search("name", "nelson"));
+        }
+        finally {
+            GlobalState.ENABLE_TRIGRAM_SEARCH_INDEX = enabled;
+        }
+    }
+
+    @Test
+    public void testSearchWithLimitRanksByRelevance() {
+        add("name", Convert.javaToThrift("Jeff Nelson"), 3L);
+        add("name", Convert.javaToThrift("jeff jeff jeff"), 1L);
+        add("name", Convert.javaToThrift("jeff"), 2L);
+        add("name", Convert.javaToThrift("Ashleah Nelson"), 4L);
+        Assert.assertEquals(Lists.newArrayList(1L, 2L),
+                Lists.newArrayList(store.search("name", "jeff", 2)));
+        Assert.assertEquals(Lists.newArrayList(1L, 2L, 3L),
+                Lists.newArrayList(store.search("name", "jef", 10)));
+        Assert.assertEquals(Lists.newArrayList(3L),
+                Lists.newArrayList(store.search("name", "jeff nel", 10)));
+        Assert.assertTrue(store.search("name", "jeff", 0).isEmpty());
+    }
+
     @Test
     public void testBackgroundManifestLoadConcurrency()
             throws InterruptedException {
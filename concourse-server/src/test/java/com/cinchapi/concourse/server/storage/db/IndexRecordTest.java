@@ -28,6 +28,7 @@ import com.cinchapi.concourse.thrift.Operator;
 import com.cinchapi.concourse.time.Time;
 import com.cinchapi.concourse.util.Convert;
 import com.cinchapi.concourse.util.TestData;
+import com.google.common.collect.Range;
 
 /**
  * Unit tests for
@@ -128,4 +129,84 @@ public class IndexRecordTest extends RecordTest<Text, Value, Identifier> {
                 Value.wrap(Convert.javaToThrift("business")));
         Assert.assertFalse(data.isEmpty());
     }
+
+    @Test
+    public void testRangePartialFindCaseInsensitive() {
+        Text locator = Text.wrap("major");
+        Value business = Value.wrap(Convert.javaToThrift("business"));
+        Range<Value> range = IndexRecord.span(Operator.EQUALS, business);
+        IndexRecord index = IndexRecord.createPartial(locator, range);
+        record = index;
+        record.append(getRevision(locator,
+                Value.wrap(Convert.javaToThrift("Business")),
+                Identifier.of(1)));
+        record.append(getRevision(locator,
+                Value.wrap(Convert.javaToThrift("business")),
+                Identifier.of(2)));
+        Map<Identifier, Set<Value>> data = index.findAndGet(Operator.EQUALS,
+                business);
+        Assert.assertEquals(2, data.size());
+    }
+
+    @Test
+    public void testHistoricalRangeOnMixedCaseValuesNeedsFullRecord() {
+        Text locator = Text.wrap("name");
+        // The span for LESS_THAN "\u00DF" ends at "SS", but "St" and "st" are
+        // less than "\u00DF" when compared without regard to case
+        Value sharpS = Value.wrap(Convert.javaToThrift("\u00DF"));
+        String[] names = { "Apple", "apple", "SS", "ss", "St", "st" };
+        IndexRecord full = IndexRecord.create(locator);
+        IndexRecord partial = IndexRecord.createPartial(locator,
+                IndexRecord.span(Operator.LESS_THAN, sharpS));
+        for (int i = 0; i < names.length; ++i) {
+            Value key = Value.wrap(Convert.javaToThrift(names[i]));
+            IndexRevision revision = getRevision(locator, key,
+                    Identifier.of(i));
+            full.append(revision);
+            if(partial.range().contains(key)) {
+                partial.append(revision);
+            }
+        }
+        Assert.assertTrue(partial.range()
+                .contains(Value.wrap(Convert.javaToThrift("apple"))));
+        Assert.assertFalse(partial.range()
+                .contains(Value.wrap(Convert.javaToThrift("St"))));
+        long timestamp = Time.now();
+        Map<Identifier, Set<Value>> data = full.findAndGet(timestamp,
+                Operator.LESS_THAN, sharpS);
+        Assert.assertTrue(data.containsKey(Identifier.of(4)));
+        Assert.assertTrue(data.containsKey(Identifier.of(5)));
+        Assert.assertNull(
+                IndexRecord.historicalSpan(Operator.LESS_THAN, sharpS));
+        Assert.assertNotNull(IndexRecord.historicalSpan(Operator.LESS_THAN,
+                Value.wrap(Convert.javaToThrift(10))));
+        try {
+            partial.findAndGet(timestamp, Operator.LESS_THAN, sharpS);
+            Assert.fail();
+        }
+        catch (IllegalStateException e) {
+            // A partial record can't answer a case insensitive historical
+            // range read, so the full record must be loaded
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRangePartialCannotAppendRevisionOutsideOfRange() {
+        Text locator = TestData.getText();
+        record = IndexRecord.createPartial(locator,
+                IndexRecord.span(Operator.LESS_THAN,
+                        Value.wrap(Convert.javaToThrift(10))));
+        record.append(getRevision(locator,
+                Value.wrap(Convert.javaToThrift(10)), Identifier.of(1)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRangePartialCannotFindOutsideOfRange() {
+        Text locator = TestData.getText();
+        IndexRecord index = IndexRecord.createPartial(locator,
+                IndexRecord.span(Operator.LESS_THAN,
+                        Value.wrap(Convert.javaToThrift(10))));
+        index.findAndGet(Operator.GREATER_THAN,
+                Value.wrap(Convert.javaToThrift(5)));
+    }
 }
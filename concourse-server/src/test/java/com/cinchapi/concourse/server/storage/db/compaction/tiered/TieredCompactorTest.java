@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.db.compaction.tiered;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.cinchapi.concourse.server.io.Composite;
+import com.cinchapi.concourse.server.model.Identifier;
+import com.cinchapi.concourse.server.model.Text;
+import com.cinchapi.concourse.server.model.Value;
+import com.cinchapi.concourse.server.storage.db.IndexRecord;
+import com.cinchapi.concourse.server.storage.db.SegmentStorageSystem;
+import com.cinchapi.concourse.server.storage.db.compaction.CompactorTests;
+import com.cinchapi.concourse.server.storage.db.kernel.Segment;
+import com.cinchapi.concourse.server.storage.temp.Write;
+import com.cinchapi.concourse.thrift.Operator;
+import com.cinchapi.concourse.util.Convert;
+import com.cinchapi.concourse.util.TestData;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+
+/**
+ * Unit tests for {@link TieredCompactor}.
+ *
+ * @author Jeff Nelson
+ */
+public class TieredCompactorTest {
+
+    @Test
+    public void testMergesSegmentsInSameTier() {
+        SegmentStorageSystem storage = CompactorTests.getStorageSystem();
+        List<Segment> segments = Lists.newArrayList();
+        long corpus = 0;
+        for (int i = 0; i < 4; ++i) {
+            Segment segment = Segment.create();
+            for (int j = 0; j < 10; ++j) {
+                segment.acquire(TestData.getWriteAdd());
+            }
+            corpus += Iterators.size(segment.corpus().iterator());
+            segment.transfer(Paths.get(TestData.getTemporaryTestFile()));
+            segments.add(segment);
+            storage.segments().add(segment);
+        }
+        storage.segments().add(Segment.create()); // seg0
+
+        TieredCompactor compactor = new TieredCompactor(storage);
+        List<Write> expected = storage.segments().stream()
+                .flatMap(segment -> segment.writes())
+                .collect(Collectors.toList());
+        for (int i = 0; i < 10 && storage.segments().size() > 2; ++i) {
+            compactor.executeFullCompaction();
+        }
+        List<Write> actual = storage.segments().stream()
+                .flatMap(segment -> segment.writes())
+                .collect(Collectors.toList());
+        Assert.assertEquals(2, storage.segments().size());
+        Assert.assertTrue(expected.size() == actual.size()
+                && expected.containsAll(actual)
+                && actual.containsAll(expected));
+        Assert.assertEquals(corpus, Iterators
+                .size(storage.segments().get(0).corpus().iterator()));
+        Assert.assertEquals(segments, Lists.newArrayList(compactor.garbage()));
+        Assert.assertEquals(1, compactor.compactions());
+        Assert.assertTrue(compactor.bytesRead() > 0);
+        Assert.assertTrue(compactor.bytesWritten() > 0);
+    }
+
+    @Test
+    public void testDoesNotMergeFewerSegmentsThanFanout() {
+        SegmentStorageSystem storage = CompactorTests.getStorageSystem();
+        for (int i = 0; i < 4; ++i) {
+            Segment segment = Segment.create();
+            segment.acquire(TestData.getWriteAdd());
+            segment.transfer(Paths.get(TestData.getTemporaryTestFile()));
+            storage.segments().add(segment);
+        }
+        storage.segments().add(Segment.create()); // seg0
+        TieredCompactor compactor = new TieredCompactor(storage);
+        compactor.fanout(5);
+        for (int i = 0; i < 10; ++i) {
+            compactor.executeFullCompaction();
+        }
+        Assert.assertEquals(5, storage.segments().size());
+        Assert.assertEquals(0, compactor.compactions());
+    }
+
+    @Test
+    public void testRangeQueryAfterCompactionUsesMergedFences() {
+        SegmentStorageSystem storage = CompactorTests.getStorageSystem();
+        for (int i = 0; i < 4; ++i) {
+            Segment segment = Segment.create();
+            for (int j = 0; j < 10; ++j) {
+                int seq = i * 10 + j;
+                segment.acquire(
+                        Write.add("seq", Convert.javaToThrift(seq), seq));
+            }
+            segment.transfer(Paths.get(TestData.getTemporaryTestFile()));
+            storage.segments().add(segment);
+        }
+        storage.segments().add(Segment.create()); // seg0
+        TieredCompactor compactor = new TieredCompactor(storage);
+        for (int i = 0; i < 10 && storage.segments().size() > 2; ++i) {
+            compactor.executeFullCompaction();
+        }
+        Assert.assertEquals(1, compactor.compactions());
+
+        // Read the range the same way that Database does for a partial index
+        // load, skipping each Segment whose fences don't overlap
+        Text key = Text.wrap("seq");
+        Value value = Value.wrap(Convert.javaToThrift(25));
+        Range<Value> range = IndexRecord.span(
+                Operator.GREATER_THAN_OR_EQUALS, value);
+        IndexRecord index = IndexRecord.createPartial(key, range);
+        for (Segment segment : storage.segments()) {
+            if(segment.index().mightOverlap(key, range)) {
+                segment.index().seek(Composite.create(key), range, index);
+            }
+        }
+        Set<Identifier> records = index
+                .find(Operator.GREATER_THAN_OR_EQUALS, value);
+        Assert.assertEquals(15, records.size());
+        for (long record = 25; record < 40; ++record) {
+            Assert.assertTrue(records.contains(Identifier.of(record)));
+        }
+        Assert.assertFalse(storage.segments().get(0).index().mightOverlap(key,
+                Range.greaterThan(Value.wrap(Convert.javaToThrift(39)))));
+    }
+
+}
@@ -17,21 +17,26 @@ package com.cinchapi.concourse.server.storage.db.kernel;
 
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.cinchapi.common.reflect.Reflection;
 import com.cinchapi.concourse.Tag;
+import com.cinchapi.concourse.server.io.Composite;
 import com.cinchapi.concourse.server.io.FileSystem;
 import com.cinchapi.concourse.server.model.Identifier;
 import com.cinchapi.concourse.server.model.Text;
 import com.cinchapi.concourse.server.model.Value;
 import com.cinchapi.concourse.server.storage.Action;
 import com.cinchapi.concourse.server.storage.cache.BloomFilter;
+import com.cinchapi.concourse.server.storage.db.IndexRecord;
+import com.cinchapi.concourse.thrift.Operator;
 import com.cinchapi.concourse.time.Time;
 import com.cinchapi.concourse.util.Convert;
 import com.cinchapi.concourse.util.TestData;
+import com.google.common.collect.Range;
 
 /**
  * Unit test for
@@ -97,4 +102,58 @@ public class IndexChunkTest extends ChunkTest<Text, Value, Identifier> {
         Assert.assertEquals(5, entries.size());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void testSeekRangeInMutableChunk() {
+        doTestSeekRange(false);
+    }
+
+    @Test
+    public void testSeekRangeInImmutableChunk() {
+        doTestSeekRange(true);
+    }
+
+    /**
+     * Execute the logic for the {@link #testSeekRangeInMutableChunk()} and
+     * {@link #testSeekRangeInImmutableChunk()} tests.
+     * 
+     * @param immutable
+     */
+    private void doTestSeekRange(boolean immutable) {
+        Text locator = Text.wrapCached("age");
+        for (int i = 0; i < 100; ++i) {
+            chunk.insert(locator, Value.wrap(Convert.javaToThrift(i)),
+                    Identifier.of(i), Time.now(), Action.ADD);
+            chunk.insert(Text.wrapCached("name"),
+                    Value.wrap(Convert.javaToThrift("foo" + i)),
+                    Identifier.of(i), Time.now(), Action.ADD);
+        }
+        if(immutable) {
+            chunk.transfer(file);
+            chunk = load(file, filter, chunk.manifest());
+        }
+        Object[][] tests = { { Operator.GREATER_THAN_OR_EQUALS, 50, 50, 100 },
+                { Operator.GREATER_THAN, 49.5, 50, 100 },
+                { Operator.LESS_THAN, 10, 0, 10 },
+                { Operator.BETWEEN, 20, 30, 20, 30 } };
+        for (Object[] test : tests) {
+            Operator operator = (Operator) test[0];
+            Value[] values = operator == Operator.BETWEEN
+                    ? new Value[] { Value.wrap(Convert.javaToThrift(test[1])),
+                            Value.wrap(Convert.javaToThrift(test[2])) }
+                    : new Value[] { Value.wrap(Convert.javaToThrift(test[1])) };
+            int start = (int) test[test.length - 2];
+            int end = (int) test[test.length - 1];
+            Range<Value> range = IndexRecord.span(operator, values);
+            IndexRecord record = IndexRecord.createPartial(locator, range);
+            chunk.seek(Composite.create(locator), range, record);
+            Assert.assertEquals(end - start, record.getAll().size());
+            Map<Identifier, Set<Value>> data = record.findAndGet(operator,
+                    values);
+            for (int i = 0; i < 100; ++i) {
+                Assert.assertEquals(i >= start && i < end,
+                        data.containsKey(Identifier.of(i)));
+            }
+        }
+    }
+}
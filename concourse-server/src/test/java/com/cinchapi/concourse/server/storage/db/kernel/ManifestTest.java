@@ -29,6 +29,7 @@ import org.junit.rules.TestWatcher;
 import org.junit.runner.Description;
 
 import com.cinchapi.common.reflect.Reflection;
+import com.cinchapi.concourse.server.GlobalState;
 import com.cinchapi.concourse.server.io.ByteSink;
 import com.cinchapi.concourse.server.io.Composite;
 import com.cinchapi.concourse.server.io.FileSystem;
@@ -236,4 +237,67 @@ public class ManifestTest extends ConcourseBaseTest {
         Assert.assertEquals(composites.size(), map.size());
     }
 
+    @Test
+    public void testSortedManifestLookup() {
+        boolean pref = GlobalState.ENABLE_SORTED_MANIFESTS;
+        GlobalState.ENABLE_SORTED_MANIFESTS = true;
+        try {
+            Map<Composite, Long> expected = Maps.newLinkedHashMap();
+            Manifest manifest = Manifest.create(1000);
+            for (int i = 0; i < TestData.getScaleCount() * 10; ++i) {
+                Composite composite = Composite.create(TestData.getText(),
+                        Identifier.of(i));
+                if(!expected.containsKey(composite)) {
+                    manifest.putStart(i, composite);
+                    manifest.putEnd(i * 2, composite);
+                    expected.put(composite, (long) i);
+                }
+            }
+            ByteBuffer bytes = ByteBuffer.allocate((int) manifest.length());
+            manifest.flush(ByteSink.to(bytes));
+            Assert.assertFalse(bytes.hasRemaining());
+            bytes.flip();
+            FileSystem.writeBytes(bytes, file.toString());
+            Manifest loaded = Manifest.load(file, 0, bytes.capacity());
+            expected.forEach((composite, position) -> {
+                Range range = loaded.lookup(composite);
+                Assert.assertEquals((long) position, range.start());
+                Assert.assertEquals(position * 2, range.end());
+            });
+            Composite missing = null;
+            while (missing == null || expected.containsKey(missing)) {
+                missing = Composite.create(TestData.getText());
+            }
+            Assert.assertEquals(Manifest.NO_ENTRY,
+                    loaded.lookup(missing).start());
+            Assert.assertEquals(manifest, loaded);
+        }
+        finally {
+            GlobalState.ENABLE_SORTED_MANIFESTS = pref;
+        }
+    }
+
+    @Test
+    public void testLegacyManifestReadableWhenSortedManifestsEnabled() {
+        Manifest manifest = Manifest.create(1);
+        Identifier key = Identifier.of(1);
+        manifest.putStart(1, key);
+        manifest.putEnd(2, key);
+        ByteBuffer bytes = ByteBuffer.allocate((int) manifest.length());
+        manifest.flush(ByteSink.to(bytes));
+        bytes.flip();
+        FileSystem.writeBytes(bytes, file.toString());
+        boolean pref = GlobalState.ENABLE_SORTED_MANIFESTS;
+        GlobalState.ENABLE_SORTED_MANIFESTS = true;
+        try {
+            Manifest loaded = Manifest.load(file, 0, bytes.capacity());
+            Range range = loaded.lookup(key);
+            Assert.assertEquals(1, range.start());
+            Assert.assertEquals(2, range.end());
+        }
+        finally {
+            GlobalState.ENABLE_SORTED_MANIFESTS = pref;
+        }
+    }
+
 }
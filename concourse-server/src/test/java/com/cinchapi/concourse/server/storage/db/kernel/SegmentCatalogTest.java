@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.db.kernel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.cinchapi.common.reflect.Reflection;
+import com.cinchapi.concourse.server.io.FileSystem;
+import com.cinchapi.concourse.test.ConcourseBaseTest;
+import com.cinchapi.concourse.util.TestData;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Unit tests for {@link SegmentCatalog}.
+ *
+ * @author Jeff Nelson
+ */
+public class SegmentCatalogTest extends ConcourseBaseTest {
+
+    private String directory;
+
+    @Override
+    protected void beforeEachTest() {
+        directory = TestData.getTemporaryTestDir();
+        FileSystem.mkdirs(directory);
+    }
+
+    @Override
+    protected void afterEachTest() {
+        FileSystem.deleteDirectory(directory);
+    }
+
+    @Test
+    public void testCatalogedSegmentIsOpenedLazily()
+            throws SegmentLoadingException {
+        Segment expected = Segment.create();
+        for (int i = 0; i < TestData.getScaleCount(); ++i) {
+            expected.acquire(TestData.getWriteAdd());
+        }
+        Path file = Paths.get(directory, "0.seg");
+        expected.transfer(file);
+        Path catalogFile = Paths.get(directory, ".catalog");
+        new SegmentCatalog(catalogFile).add(expected);
+
+        SegmentCatalog catalog = new SegmentCatalog(catalogFile);
+        Assert.assertTrue(catalog.contains(file));
+        Segment actual = catalog.load(file);
+        Assert.assertFalse(Reflection.get("opened", actual));
+        Assert.assertEquals(expected.count(), actual.count());
+        Assert.assertEquals(expected.minTs, actual.minTs);
+        Assert.assertEquals(expected.maxTs, actual.maxTs);
+        Assert.assertEquals(expected.table(), actual.table());
+        Assert.assertTrue(Reflection.get("opened", actual));
+        Assert.assertEquals(expected.index(), actual.index());
+        Assert.assertEquals(expected.corpus(), actual.corpus());
+    }
+
+    @Test
+    public void testUncatalogedSegmentIsLoadedAndCataloged()
+            throws SegmentLoadingException {
+        Segment expected = Segment.create();
+        expected.acquire(TestData.getWriteAdd());
+        Path file = Paths.get(directory, "0.seg");
+        expected.transfer(file);
+        Path catalogFile = Paths.get(directory, ".catalog");
+        SegmentCatalog catalog = new SegmentCatalog(catalogFile);
+        Assert.assertFalse(catalog.contains(file));
+        Segment actual = catalog.load(file);
+        Assert.assertTrue(Reflection.get("opened", actual));
+        Assert.assertTrue(new SegmentCatalog(catalogFile).contains(file));
+    }
+
+    @Test
+    public void testRetainDropsMissingSegments()
+            throws SegmentLoadingException {
+        Path catalogFile = Paths.get(directory, ".catalog");
+        SegmentCatalog catalog = new SegmentCatalog(catalogFile);
+        Segment a = Segment.create();
+        a.acquire(TestData.getWriteAdd());
+        Path fa = Paths.get(directory, "a.seg");
+        a.transfer(fa);
+        catalog.add(a);
+        Segment b = Segment.create();
+        b.acquire(TestData.getWriteAdd());
+        Path fb = Paths.get(directory, "b.seg");
+        b.transfer(fb);
+        catalog.add(b);
+        catalog.retain(ImmutableList.of(a));
+        catalog = new SegmentCatalog(catalogFile);
+        Assert.assertTrue(catalog.contains(fa));
+        Assert.assertFalse(catalog.contains(fb));
+    }
+
+    @Test
+    public void testCorruptLengthPrefixIsIgnored() throws IOException {
+        Path catalogFile = Paths.get(directory, ".catalog");
+        Segment a = Segment.create();
+        a.acquire(TestData.getWriteAdd());
+        Path fa = Paths.get(directory, "a.seg");
+        a.transfer(fa);
+        new SegmentCatalog(catalogFile).add(a);
+        for (int length : new int[] { Integer.MAX_VALUE, -1 }) {
+            byte[] tail = ByteBuffer.allocate(4).putInt(length).array();
+            Files.write(catalogFile, tail, StandardOpenOption.APPEND);
+            SegmentCatalog catalog = new SegmentCatalog(catalogFile);
+            Assert.assertTrue(catalog.contains(fa));
+        }
+    }
+
+}
@@ -49,6 +49,7 @@ import com.cinchapi.concourse.util.Convert;
 import com.cinchapi.concourse.util.Numbers;
 import com.cinchapi.concourse.util.TestData;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Range;
 
 /**
  * Unit tests for
@@ -178,6 +179,30 @@ public class SegmentTest extends ConcourseBaseTest {
         Assert.assertTrue(segment.index().iterator().hasNext());
     }
 
+    @Test
+    public void testIndexValueFencesSurviveSync()
+            throws SegmentLoadingException {
+        for (int i = 10; i <= 20; ++i) {
+            segment.acquire(Write.add("seq", Convert.javaToThrift(i), i));
+        }
+        segment.acquire(Write.add("name", Convert.javaToThrift("jeff"), 1));
+        Path file = Paths.get(TestData.getTemporaryTestFile());
+        segment.transfer(file);
+        segment = Segment.load(file);
+        Text key = Text.wrap("seq");
+        Assert.assertTrue(segment.index().mightOverlap(key,
+                Range.atLeast(Value.wrap(Convert.javaToThrift(20)))));
+        Assert.assertTrue(segment.index().mightOverlap(key,
+                Range.closed(Value.wrap(Convert.javaToThrift(5)),
+                        Value.wrap(Convert.javaToThrift(10)))));
+        Assert.assertFalse(segment.index().mightOverlap(key,
+                Range.greaterThan(Value.wrap(Convert.javaToThrift(20)))));
+        Assert.assertFalse(segment.index().mightOverlap(key,
+                Range.lessThan(Value.wrap(Convert.javaToThrift(10)))));
+        Assert.assertFalse(segment.index().mightOverlap(Text.wrap("age"),
+                Range.atLeast(Value.wrap(Convert.javaToThrift(0)))));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testCannotSyncEmptySegment() {
         Path file = Paths.get(TestData.getTemporaryTestFile());
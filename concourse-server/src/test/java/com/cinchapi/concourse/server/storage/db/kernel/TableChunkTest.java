@@ -16,10 +16,13 @@
 package com.cinchapi.concourse.server.storage.db.kernel;
 
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.cinchapi.concourse.server.GlobalState;
 import com.cinchapi.concourse.server.io.Composite;
 import com.cinchapi.concourse.server.io.FileSystem;
 import com.cinchapi.concourse.server.model.Identifier;
@@ -31,6 +34,9 @@ import com.cinchapi.concourse.server.storage.db.TableRecord;
 import com.cinchapi.concourse.time.Time;
 import com.cinchapi.concourse.util.Convert;
 import com.cinchapi.concourse.util.TestData;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Sets;
+import com.google.common.collect.Table;
 
 /**
  * Unit test for
@@ -80,4 +86,46 @@ public class TableChunkTest extends ChunkTest<Identifier, Text, Value> {
         Assert.assertTrue(record.get(key).contains(value));
     }
 
+    @Test
+    public void testSeekInCompressedChunk() {
+        boolean pref = GlobalState.ENABLE_COMPRESSED_CHUNKS;
+        GlobalState.ENABLE_COMPRESSED_CHUNKS = true;
+        try {
+            chunk = create(filter);
+            Table<Identifier, Text, Set<Value>> expected = HashBasedTable
+                    .create();
+            int count = TestData.getScaleCount() * 50;
+            for (int i = 0; i < count; ++i) {
+                Identifier locator = Identifier.of(i % 10);
+                Text key = Text.wrap("key" + (i % 3));
+                Value value = TestData.getValue();
+                Set<Value> values = expected.get(locator, key);
+                if(values == null) {
+                    values = Sets.newHashSet();
+                    expected.put(locator, key, values);
+                }
+                if(values.add(value)) {
+                    chunk.insert(locator, key, value, Time.now(), Action.ADD);
+                }
+            }
+            chunk.transfer(file);
+            chunk = load(file, filter, chunk.manifest());
+            for (Map.Entry<Identifier, Map<Text, Set<Value>>> row : expected
+                    .rowMap().entrySet()) {
+                Identifier locator = row.getKey();
+                for (Map.Entry<Text, Set<Value>> cell : row.getValue()
+                        .entrySet()) {
+                    Text key = cell.getKey();
+                    TableRecord record = TableRecord.createPartial(locator,
+                            key);
+                    chunk.seek(Composite.create(locator, key), record);
+                    Assert.assertEquals(cell.getValue(), record.get(key));
+                }
+            }
+        }
+        finally {
+            GlobalState.ENABLE_COMPRESSED_CHUNKS = pref;
+        }
+    }
+
 }
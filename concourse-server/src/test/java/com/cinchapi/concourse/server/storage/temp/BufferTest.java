@@ -19,8 +19,10 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -29,12 +31,14 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.cinchapi.common.base.TernaryTruth;
+import com.cinchapi.common.reflect.Reflection;
 import com.cinchapi.concourse.server.GlobalState;
 import com.cinchapi.concourse.server.io.FileSystem;
 import com.cinchapi.concourse.server.plugin.data.WriteEvent;
 import com.cinchapi.concourse.server.storage.DurableStore;
 import com.cinchapi.concourse.server.storage.Store;
 import com.cinchapi.concourse.test.Variables;
+import com.cinchapi.concourse.thrift.TObject;
 import com.cinchapi.concourse.time.Time;
 import com.cinchapi.concourse.util.Convert;
 import com.cinchapi.concourse.util.TestData;
@@ -155,6 +159,32 @@ public class BufferTest extends LimboTest {
         Assert.assertFalse(it0.hasNext());
     }
 
+    @Test
+    public void testSeekUsingPageIndexesAfterTransport() {
+        Buffer buffer = (Buffer) store;
+        int count = 0;
+        while (!buffer.canTransport()) {
+            add("foo", Convert.javaToThrift(count), count % 3);
+            add("bar", Convert.javaToThrift(count), count % 3);
+            ++count;
+        }
+        buffer.transport(MOCK_DESTINATION); // transports (foo, 0, 0)
+        Set<TObject> foo = new HashSet<>();
+        Set<TObject> bar = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            if(i % 3 == 0 && i > 0) {
+                foo.add(Convert.javaToThrift(i));
+            }
+            if(i % 3 == 1) {
+                bar.add(Convert.javaToThrift(i));
+            }
+        }
+        Assert.assertEquals(foo, buffer.select("foo", 0));
+        Assert.assertEquals(bar, buffer.select("bar", 1));
+        Assert.assertEquals(bar, buffer.select(1).get("bar"));
+        Assert.assertTrue(buffer.select("baz", 1).isEmpty());
+    }
+
     @Test
     public void testWaitUntilTransportable() throws InterruptedException {
         final AtomicLong later = new AtomicLong(0);
@@ -178,6 +208,28 @@ public class BufferTest extends LimboTest {
         Assert.assertTrue(later.get() > before);
     }
 
+    @Test
+    public void testWaitUntilWritable() throws InterruptedException {
+        Buffer buffer = (Buffer) store;
+        List<?> pages = Reflection.get("pages", buffer);
+        while (pages.size() < 3) {
+            add(TestData.getString(), TestData.getTObject(),
+                    TestData.getLong());
+        }
+        buffer.waitUntilWritable(2); // returns immediately
+        AtomicBoolean writable = new AtomicBoolean(false);
+        Thread thread = new Thread(() -> {
+            buffer.waitUntilWritable(1);
+            writable.set(true);
+        });
+        thread.start();
+        thread.join(100);
+        Assert.assertFalse(writable.get());
+        buffer.purge(buffer.nextBatch());
+        thread.join();
+        Assert.assertTrue(writable.get());
+    }
+
     @Test
     public void testVerifyFastTrue() {
         Buffer buffer = (Buffer) store;
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.temp;
+
+import java.io.IOError;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.cinchapi.common.reflect.Reflection;
+import com.cinchapi.concourse.test.ConcourseBaseTest;
+
+/**
+ * Unit tests for {@link GroupSync}.
+ *
+ * @author Jeff Nelson
+ */
+public class GroupSyncTest extends ConcourseBaseTest {
+
+    @Test
+    public void testConcurrentCommitsShareFlushes()
+            throws InterruptedException {
+        AtomicInteger flushes = new AtomicInteger();
+        AtomicInteger committed = new AtomicInteger();
+        GroupSync sync = new GroupSync("test-group-sync",
+                flushes::incrementAndGet, 50, Long.MAX_VALUE);
+        sync.start();
+        List<Thread> threads = new ArrayList<>();
+        int count = 20;
+        for (int i = 0; i < count; ++i) {
+            Thread thread = new Thread(() -> {
+                sync.commit(8);
+                committed.incrementAndGet();
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        sync.stop();
+        Assert.assertEquals(count, committed.get());
+        Assert.assertTrue(flushes.get() < count);
+    }
+
+    @Test
+    public void testThresholdTriggersFlush() {
+        AtomicInteger flushes = new AtomicInteger();
+        GroupSync sync = new GroupSync("test-group-sync",
+                flushes::incrementAndGet, 60000, 8);
+        sync.start();
+        sync.commit(8); // would hang if the interval had to elapse
+        sync.stop();
+        Assert.assertEquals(1, flushes.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFlushFailureIsThrownToCommitter() {
+        GroupSync sync = new GroupSync("test-group-sync", () -> {
+            throw new IllegalStateException();
+        }, 0, Long.MAX_VALUE);
+        sync.start();
+        try {
+            sync.commit(8);
+        }
+        finally {
+            sync.stop();
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void testFlushErrorReleasesCommitterAndFlusherSurvives() {
+        AtomicInteger flushes = new AtomicInteger();
+        GroupSync sync = new GroupSync("test-group-sync", () -> {
+            if(flushes.incrementAndGet() == 1) {
+                throw new IOError(new IOException());
+            }
+        }, 0, Long.MAX_VALUE);
+        sync.start();
+        try {
+            try {
+                sync.commit(8);
+                Assert.fail();
+            }
+            catch (IOError e) {
+                // expected
+            }
+            sync.commit(8); // would hang if the flusher had died
+            Assert.assertEquals(2, flushes.get());
+        }
+        finally {
+            sync.stop();
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void testInterruptWhileIdleDoesNotStopFlusher()
+            throws InterruptedException {
+        AtomicInteger flushes = new AtomicInteger();
+        GroupSync sync = new GroupSync("test-group-sync",
+                flushes::incrementAndGet, 0, Long.MAX_VALUE);
+        sync.start();
+        try {
+            Thread flusher = Reflection.get("flusher", sync);
+            flusher.interrupt();
+            Thread.sleep(100);
+            Assert.assertTrue(flusher.isAlive());
+            sync.commit(8); // would hang if the flusher had exited
+            Assert.assertEquals(1, flushes.get());
+        }
+        finally {
+            sync.stop();
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2013-2025 Cinchapi Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cinchapi.concourse.server.storage.transporter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.cinchapi.concourse.server.storage.temp.Write;
+import com.cinchapi.concourse.test.ConcourseBaseTest;
+import com.cinchapi.concourse.thrift.TObject;
+import com.cinchapi.concourse.util.Convert;
+
+/**
+ * Unit tests for {@link BatchCoalescer}.
+ *
+ * @author Jeff Nelson
+ */
+public class BatchCoalescerTest extends ConcourseBaseTest {
+
+    @Test
+    public void testOffsettingWritesAreNotSearchable() {
+        TObject active = Convert.javaToThrift("active");
+        TObject inactive = Convert.javaToThrift("inactive");
+        Write[] writes = new Write[] { Write.add("status", active, 1),
+                Write.remove("status", active, 1),
+                Write.add("status", inactive, 1),
+                Write.remove("status", inactive, 1),
+                Write.add("status", active, 1), Write.add("name", active, 2),
+                null, null };
+        boolean[] searchable = BatchCoalescer
+                .searchable(new Batch("test", writes, 0));
+        Assert.assertArrayEquals(new boolean[] { false, false, false, false,
+                true, true, false, false }, searchable);
+    }
+
+    @Test
+    public void testNonAlternatingWritesAreSearchable() {
+        TObject value = Convert.javaToThrift("active");
+        Write[] writes = new Write[] { Write.add("status", value, 1),
+                Write.add("status", value, 1) };
+        boolean[] searchable = BatchCoalescer
+                .searchable(new Batch("test", writes, 0));
+        Assert.assertArrayEquals(new boolean[] { true, true }, searchable);
+    }
+
+}
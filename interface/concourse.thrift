@@ -6188,6 +6188,21 @@ service ConcourseService {
     3: exceptions.PermissionException ex3
   );
 
+  list<i64> searchLimit(
+    1: string key,
+    2: string query,
+    3: i32 limit,
+    4: shared.AccessToken creds,
+    5: shared.TransactionToken transaction,
+    6: string environment
+  )
+  throws (
+    1: exceptions.SecurityException ex,
+    2: exceptions.TransactionException ex2,
+    3: exceptions.PermissionException ex3,
+    4: exceptions.InvalidArgumentException ex4
+  );
+
   # ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
   # ~~~~~~~~ Version Control ~~~~~~~~
   # ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
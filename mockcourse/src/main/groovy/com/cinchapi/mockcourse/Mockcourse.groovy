@@ -27,6 +27,7 @@ import org.apache.thrift.TException;
 import com.cinchapi.concourse.thrift.AccessToken;
 import com.cinchapi.concourse.thrift.ConcourseService;
 import com.cinchapi.concourse.thrift.Diff;
+import com.cinchapi.concourse.thrift.InvalidArgumentException;
 import com.cinchapi.concourse.thrift.Operator;
 import com.cinchapi.concourse.thrift.TCriteria;
 import com.cinchapi.concourse.thrift.TObject;
@@ -1544,6 +1545,19 @@ class Mockcourse implements ConcourseService.Iface {
         return matches;
     }
 
+    @Override
+    public List<Long> searchLimit(String key, String query, int limit,
+            AccessToken creds, TransactionToken transaction,
+            String environment) throws TException {
+        if(limit < 0) {
+            throw new InvalidArgumentException(
+                    "The search limit cannot be negative");
+        }
+        List<Long> matches = new ArrayList<Long>(search(key, query, creds,
+                transaction, environment));
+        return matches.subList(0, Math.min(limit, matches.size()));
+    }
+
     @Override
     public Map<Long, String> auditRecord(long record, AccessToken creds,
             TransactionToken transaction, String environment) throws TException {